@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.compilation;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.jeo.representation.xmir.XmlMethod;
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.jeo.representation.xmir.XmlProgram;
+import org.eolang.opeo.jeo.JeoDecompiler;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of {@link XmirParser#toJeoNodes()} and {@link JeoCompiler#compile()}.
+ * Inputs are decompiled from the jeo XMIRs before the measurement.
+ * @since 0.5
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD.ImmutableField")
+public class CompilationBench {
+
+    /**
+     * XMIR resource generated by jeo.
+     */
+    @Param({
+        "xmir/Bar.xmir",
+        "xmir/disassembled/Factorial.xmir",
+        "xmir/disassembled/SimpleLog.xmir",
+        "xmir/disassembled/DefaultRouterFunctionSpec.xmir"
+    })
+    public String resource;
+
+    /**
+     * Decompiled XMIR.
+     */
+    private XML decompiled;
+
+    /**
+     * Decompiled instructions of each method.
+     */
+    private List<List<XmlNode>> methods;
+
+    /**
+     * Decompile the XMIR.
+     * @throws Exception If fails.
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.decompiled = new JeoDecompiler(
+            new XMLDocument(new TextOf(new ResourceOf(this.resource)).asString()),
+            this.resource
+        ).decompile();
+        this.methods = new XmlProgram(this.decompiled.node()).top().methods().stream()
+            .map(XmlMethod::nodes)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Parse decompiled instructions of all methods back to jeo nodes.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void parse(final Blackhole hole) {
+        for (final List<XmlNode> nodes : this.methods) {
+            hole.consume(new XmirParser(nodes).toJeoNodes());
+        }
+    }
+
+    /**
+     * Compile the whole decompiled XMIR.
+     * @return Compiled XMIR.
+     */
+    @Benchmark
+    public XML compile() {
+        return new JeoCompiler(this.decompiled).compile();
+    }
+}
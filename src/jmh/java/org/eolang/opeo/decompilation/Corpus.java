@@ -0,0 +1,219 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeMethod;
+import org.eolang.opeo.Instruction;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Synthetic corpus of jeo XMIRs.
+ * Each class consists of public static methods without parameters, each method is
+ * a random sequence of {@link Mix} cycles that ends with 'RETURN'. Cycles are picked
+ * by their weights, for example, "ARITHMETIC:8,INVOCATIONS:2,UNSUPPORTED:1".
+ * Since all the cycles keep the operand stack balanced, the classes are valid bytecode.
+ * The same parameters and seed always give the same files, byte to byte:
+ * jeo puts timestamps and random line numbers into XMIR, so we replace them
+ * with fixed values.
+ * @since 0.5
+ */
+public final class Corpus {
+
+    /**
+     * Pattern of a weighted cycle in the mix.
+     */
+    private static final Pattern WEIGHTED = Pattern.compile("([A-Z]+)(?::(\\d+))?");
+
+    /**
+     * Pattern of line numbers in XMIR.
+     */
+    private static final Pattern LINE = Pattern.compile(" line=\"\\d+\"");
+
+    /**
+     * Pattern of timestamps in XMIR.
+     */
+    private static final Pattern TIME = Pattern.compile(" (dob|ms|time)=\"[^\"]*\"");
+
+    /**
+     * Number of classes in one package.
+     */
+    private static final int PACKAGE = 100;
+
+    /**
+     * Number of classes.
+     */
+    private final int classes;
+
+    /**
+     * Number of methods in each class.
+     */
+    private final int methods;
+
+    /**
+     * Minimal number of instructions in each method.
+     */
+    private final int instructions;
+
+    /**
+     * Cycles to pick from, each cycle is repeated by its weight.
+     */
+    private final List<Mix> mix;
+
+    /**
+     * Seed of the random generator.
+     */
+    private final long seed;
+
+    /**
+     * Constructor.
+     * @param classes Number of classes.
+     * @param methods Number of methods in each class.
+     * @param instructions Minimal number of instructions in each method.
+     * @param mix Weighted cycles, like "ARITHMETIC:8,UNSUPPORTED:1".
+     * @param seed Seed of the random generator.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public Corpus(
+        final int classes,
+        final int methods,
+        final int instructions,
+        final String mix,
+        final long seed
+    ) {
+        this.classes = classes;
+        this.methods = methods;
+        this.instructions = instructions;
+        this.mix = Corpus.weighted(mix);
+        this.seed = seed;
+    }
+
+    /**
+     * Generate all the classes and save them to the directory.
+     * Classes are placed in packages 'synthetic.p0', 'synthetic.p1', and so on.
+     * @param dir Directory.
+     * @return Number of saved files.
+     * @throws IOException If some file can't be saved.
+     */
+    public int save(final Path dir) throws IOException {
+        for (int idx = 0; idx < this.classes; ++idx) {
+            final String name = Corpus.name(idx);
+            final Path file = dir.resolve(String.format("%s.xmir", name));
+            Files.createDirectories(file.getParent());
+            Files.write(file, this.xmir(idx).getBytes(StandardCharsets.UTF_8));
+        }
+        return this.classes;
+    }
+
+    /**
+     * XMIR of the class.
+     * @param index Index of the class.
+     * @return XMIR.
+     */
+    String xmir(final int index) {
+        final Random random = new Random(this.seed * 31 + index);
+        final BytecodeClass clazz = new BytecodeClass(Corpus.name(index));
+        for (int method = 0; method < this.methods; ++method) {
+            final BytecodeMethod bytecode = clazz.withMethod(
+                String.format("m%d", method), "()V", Opcodes.ACC_PUBLIC | Opcodes.ACC_STATIC
+            );
+            int size = 0;
+            while (size < this.instructions) {
+                final List<Instruction> cycle = this.mix.get(
+                    random.nextInt(this.mix.size())
+                ).cycle();
+                for (final Instruction instruction : cycle) {
+                    bytecode.opcode(instruction.opcode(), instruction.operands().toArray());
+                }
+                size += cycle.size();
+            }
+            bytecode.opcode(Opcodes.RETURN);
+        }
+        return Corpus.deterministic(clazz.xml().toString());
+    }
+
+    /**
+     * Replace timestamps and line numbers of XMIR with fixed values.
+     * @param xmir XMIR.
+     * @return Deterministic XMIR.
+     */
+    private static String deterministic(final String xmir) {
+        final Matcher lines = Corpus.LINE.matcher(
+            Corpus.TIME.matcher(xmir).replaceAll(" $1=\"0\"")
+        );
+        final StringBuffer result = new StringBuffer(xmir.length());
+        int line = 0;
+        while (lines.find()) {
+            line += 1;
+            lines.appendReplacement(result, String.format(" line=\"%d\"", line));
+        }
+        lines.appendTail(result);
+        return result.toString();
+    }
+
+    /**
+     * Internal name of the class.
+     * @param index Index of the class.
+     * @return Name like 'synthetic/p0/C0'.
+     */
+    private static String name(final int index) {
+        return String.format("synthetic/p%d/C%d", index / Corpus.PACKAGE, index);
+    }
+
+    /**
+     * Parse weighted cycles.
+     * @param mix Weighted cycles, like "ARITHMETIC:8,UNSUPPORTED:1".
+     * @return Cycles, each one is repeated by its weight.
+     */
+    private static List<Mix> weighted(final String mix) {
+        final List<Mix> result = new ArrayList<>(0);
+        final Matcher matcher = Corpus.WEIGHTED.matcher(mix.toUpperCase(Locale.ENGLISH));
+        while (matcher.find()) {
+            final Mix cycle = Mix.valueOf(matcher.group(1));
+            int weight = 1;
+            if (matcher.group(2) != null) {
+                weight = Integer.parseInt(matcher.group(2));
+            }
+            for (int idx = 0; idx < weight; ++idx) {
+                result.add(cycle);
+            }
+        }
+        if (result.isEmpty()) {
+            throw new IllegalArgumentException(
+                String.format("The mix '%s' doesn't have any cycles", mix)
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.jeo.representation.xmir.AllLabels;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.OpcodeInstruction;
+import org.eolang.opeo.ast.OpcodeName;
+import org.objectweb.asm.Opcodes;
+import org.yaml.snakeyaml.Yaml;
+
+/**
+ * Mix of instructions to decompile in benchmarks.
+ * @since 0.5
+ */
+public enum Mix {
+
+    /**
+     * Arithmetic on constants.
+     */
+    ARITHMETIC {
+        @Override
+        List<Instruction> cycle() {
+            final List<Instruction> result = new ArrayList<>(4);
+            result.add(new OpcodeInstruction(Opcodes.ICONST_1));
+            result.add(new OpcodeInstruction(Opcodes.ICONST_2));
+            result.add(new OpcodeInstruction(Opcodes.IADD));
+            result.add(new OpcodeInstruction(Opcodes.POP));
+            return result;
+        }
+    },
+
+    /**
+     * Static field retrieval and virtual method invocation.
+     */
+    INVOCATIONS {
+        @Override
+        List<Instruction> cycle() {
+            final List<Instruction> result = new ArrayList<>(3);
+            result.add(
+                new OpcodeInstruction(
+                    Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;"
+                )
+            );
+            result.add(new OpcodeInstruction(Opcodes.LDC, "Hello, world!"));
+            result.add(
+                new OpcodeInstruction(
+                    Opcodes.INVOKEVIRTUAL,
+                    "java/io/PrintStream",
+                    "println",
+                    "(Ljava/lang/String;)V",
+                    false
+                )
+            );
+            return result;
+        }
+    },
+
+    /**
+     * Local variables.
+     * The method must have at least two local variable slots available.
+     */
+    LOCALS {
+        @Override
+        List<Instruction> cycle() {
+            final List<Instruction> result = new ArrayList<>(4);
+            result.add(new OpcodeInstruction(Opcodes.BIPUSH, 42));
+            result.add(new OpcodeInstruction(Opcodes.ISTORE, 1));
+            result.add(new OpcodeInstruction(Opcodes.ILOAD, 1));
+            result.add(new OpcodeInstruction(Opcodes.POP));
+            return result;
+        }
+    },
+
+    /**
+     * Instructions that no agent supports.
+     */
+    UNSUPPORTED {
+        @Override
+        List<Instruction> cycle() {
+            final List<Instruction> result = new ArrayList<>(3);
+            result.add(new OpcodeInstruction(Opcodes.ICONST_1));
+            result.add(new OpcodeInstruction(Opcodes.POP));
+            result.add(new OpcodeInstruction(Opcodes.NOP));
+            return result;
+        }
+    },
+
+    /**
+     * Instructions of all the YAML packs from 'src/test/resources/agents'.
+     */
+    PACKS {
+        @Override
+        List<Instruction> cycle() {
+            final List<Instruction> result = new ArrayList<>(0);
+            for (final String pack : Mix.PACK_NAMES) {
+                result.addAll(Mix.pack(String.format("agents/%s.yaml", pack)));
+            }
+            return result;
+        }
+    };
+
+    /**
+     * Names of the YAML packs.
+     */
+    private static final String[] PACK_NAMES = {"add", "bipush", "hello_world", "if", "mul"};
+
+    /**
+     * The pattern to match instructions of a YAML pack.
+     * The same as in the 'AgentsIT' test.
+     */
+    private static final Pattern INSTRUCTION = Pattern.compile(
+        "(\\bfalse|true\\b)|(\\d+\\.\\d+)|(\\d+L)|(\\d+)|\"([^\"]*)\"|\\bLABEL\\b:(\\S+)|(\\S+)"
+    );
+
+    /**
+     * Instructions of the mix repeated up to the size.
+     * @param size Number of instructions.
+     * @return Instructions.
+     */
+    Instruction[] instructions(final int size) {
+        final List<Instruction> cycle = this.cycle();
+        final List<Instruction> result = new ArrayList<>(size);
+        while (result.size() < size) {
+            result.addAll(cycle);
+        }
+        return result.toArray(new Instruction[0]);
+    }
+
+    /**
+     * One cycle of the mix.
+     * @return Instructions.
+     */
+    abstract List<Instruction> cycle();
+
+    /**
+     * Instructions of a YAML pack.
+     * @param resource Pack resource.
+     * @return Instructions.
+     */
+    @SuppressWarnings("unchecked")
+    private static List<Instruction> pack(final String resource) {
+        final Map<String, Object> yaml = new Yaml().load(
+            new TextOf(new ResourceOf(resource)).toString()
+        );
+        final List<Instruction> result = new ArrayList<>(0);
+        for (final String line : (Collection<String>) yaml.get("opcodes")) {
+            result.add(Mix.parse(line));
+        }
+        return result;
+    }
+
+    /**
+     * Parse instruction of a YAML pack.
+     * @param line Instruction as string.
+     * @return Instruction.
+     */
+    private static Instruction parse(final String line) {
+        final Matcher matcher = Mix.INSTRUCTION.matcher(line);
+        int opcode = 0;
+        final List<Object> arguments = new ArrayList<>(0);
+        while (matcher.find()) {
+            if (Objects.nonNull(matcher.group(1))) {
+                arguments.add(Boolean.parseBoolean(matcher.group(1)));
+            } else if (Objects.nonNull(matcher.group(2))) {
+                arguments.add(Double.parseDouble(matcher.group(2)));
+            } else if (Objects.nonNull(matcher.group(3))) {
+                arguments.add(Long.parseLong(matcher.group(3)));
+            } else if (Objects.nonNull(matcher.group(4))) {
+                arguments.add(Integer.parseInt(matcher.group(4)));
+            } else if (Objects.nonNull(matcher.group(5))) {
+                arguments.add(matcher.group(5));
+            } else if (Objects.nonNull(matcher.group(6))) {
+                arguments.add(new AllLabels().label(matcher.group(6)));
+            } else {
+                opcode = new OpcodeName(matcher.group(7)).code();
+            }
+        }
+        return new OpcodeInstruction(opcode, arguments.toArray());
+    }
+}
@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import java.util.concurrent.TimeUnit;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.text.TextOf;
+import org.eolang.opeo.storage.XmirIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of {@link WithoutAliases#toXml()}.
+ * @since 0.5
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD.ImmutableField")
+public class WithoutAliasesBench {
+
+    /**
+     * XMIR resource.
+     */
+    @Param({"xmir/Known.xmir", "xmir/disassembled/SimpleLog.xmir"})
+    public String resource;
+
+    /**
+     * XMIR.
+     */
+    private XML xmir;
+
+    /**
+     * Metadata index of the XMIR.
+     */
+    private XmirIndex index;
+
+    /**
+     * Read the XMIR.
+     * @throws Exception If fails.
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.xmir = new XMLDocument(new TextOf(new ResourceOf(this.resource)).asString());
+        this.index = new XmirIndex(new ResourceOf(this.resource));
+        this.index.aliases();
+    }
+
+    /**
+     * Remove aliases, the index is built from the XML.
+     * @return XMIR without aliases.
+     */
+    @Benchmark
+    public XML withoutIndex() {
+        return new WithoutAliases(this.xmir).toXml();
+    }
+
+    /**
+     * Remove aliases with the already built index.
+     * @return XMIR without aliases.
+     */
+    @Benchmark
+    public XML withIndex() {
+        return new WithoutAliases(this.xmir, this.index).toXml();
+    }
+}
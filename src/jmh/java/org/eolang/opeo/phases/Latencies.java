@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.phases;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.LongConsumer;
+
+/**
+ * Latencies of processed files.
+ * @since 0.5
+ */
+final class Latencies implements LongConsumer {
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double MILLIS = 1_000_000.0;
+
+    /**
+     * Latencies in nanoseconds.
+     */
+    private final Queue<Long> all;
+
+    /**
+     * Constructor.
+     */
+    Latencies() {
+        this.all = new ConcurrentLinkedQueue<>();
+    }
+
+    @Override
+    public void accept(final long nanos) {
+        this.all.add(nanos);
+    }
+
+    /**
+     * Number of processed files.
+     * @return Number of files.
+     */
+    int count() {
+        return this.all.size();
+    }
+
+    /**
+     * Percentile of latencies, nearest-rank method.
+     * @param rank Percentile from 0 to 100.
+     * @return Latency in milliseconds or zero if nothing was processed.
+     */
+    double percentile(final double rank) {
+        final long[] sorted = this.all.stream().mapToLong(Long::longValue).toArray();
+        final double result;
+        if (sorted.length == 0) {
+            result = 0.0;
+        } else {
+            Arrays.sort(sorted);
+            final int index = (int) Math.ceil(rank / 100.0 * sorted.length) - 1;
+            result = sorted[Math.max(0, Math.min(index, sorted.length - 1))] / Latencies.MILLIS;
+        }
+        return result;
+    }
+}
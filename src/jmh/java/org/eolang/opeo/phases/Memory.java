@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.phases;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Memory of the current JVM process.
+ * Peak RSS is read from '/proc/self/status', so it is available only on Linux.
+ * @since 0.5
+ */
+final class Memory {
+
+    /**
+     * Bytes per megabyte.
+     */
+    private static final double MEGABYTE = 1024.0 * 1024.0;
+
+    /**
+     * Process status.
+     */
+    private final Path status;
+
+    /**
+     * Where to write to reset the peak RSS.
+     */
+    private final Path refs;
+
+    /**
+     * Constructor.
+     */
+    Memory() {
+        this(Paths.get("/proc/self/status"), Paths.get("/proc/self/clear_refs"));
+    }
+
+    /**
+     * Constructor.
+     * @param status Process status.
+     * @param refs Where to write to reset the peak RSS.
+     */
+    Memory(final Path status, final Path refs) {
+        this.status = status;
+        this.refs = refs;
+    }
+
+    /**
+     * Collect garbage and reset all the peaks.
+     * If the peak RSS can't be reset, it remains the peak of the whole process.
+     * @checkstyle MethodBodyCommentsCheck (10 lines)
+     */
+    @SuppressWarnings("PMD.DoNotCallGarbageCollectionExplicitly")
+    void reset() {
+        System.gc();
+        ManagementFactory.getMemoryPoolMXBeans().forEach(MemoryPoolMXBean::resetPeakUsage);
+        try {
+            Files.write(this.refs, "5".getBytes(StandardCharsets.US_ASCII));
+        } catch (final IOException | SecurityException ignored) {
+            // Old kernels and other OSes don't support it, the peak is not reset.
+        }
+    }
+
+    /**
+     * Peak heap since the last reset.
+     * It is the sum of peaks of all the heap pools, so it is an upper bound,
+     * since the pools might reach their peaks at different moments.
+     * @return Peak heap in megabytes.
+     */
+    double heap() {
+        return ManagementFactory.getMemoryPoolMXBeans().stream()
+            .filter(pool -> pool.getType() == MemoryType.HEAP)
+            .mapToLong(pool -> pool.getPeakUsage().getUsed())
+            .sum() / Memory.MEGABYTE;
+    }
+
+    /**
+     * Peak resident set size.
+     * @return Peak RSS in megabytes or -1 if it's unknown.
+     * @checkstyle MethodBodyCommentsCheck (15 lines)
+     */
+    double rss() {
+        double result = -1.0;
+        try {
+            for (final String line : Files.readAllLines(this.status, StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmHWM:")) {
+                    result = Long.parseLong(line.replaceAll("\\D", "")) / 1024.0;
+                }
+            }
+        } catch (final IOException ignored) {
+            // There is no '/proc' file system, the RSS is unknown.
+        }
+        return result;
+    }
+}
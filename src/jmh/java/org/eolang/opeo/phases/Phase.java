@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.phases;
+
+import com.jcabi.log.Logger;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+
+/**
+ * Phase of the plugin, like decompilation or compilation.
+ * @since 0.5
+ */
+final class Phase {
+
+    /**
+     * Nanoseconds per millisecond.
+     */
+    private static final double MILLIS = 1_000_000.0;
+
+    /**
+     * Phase name.
+     */
+    private final String name;
+
+    /**
+     * The job to measure.
+     * It receives where to report latencies of processed files.
+     */
+    private final Function<LongConsumer, Runnable> job;
+
+    /**
+     * Memory of the process.
+     */
+    private final Memory memory;
+
+    /**
+     * Constructor.
+     * @param name Phase name.
+     * @param job The job to measure.
+     */
+    Phase(final String name, final Function<LongConsumer, Runnable> job) {
+        this(name, job, new Memory());
+    }
+
+    /**
+     * Constructor.
+     * @param name Phase name.
+     * @param job The job to measure.
+     * @param memory Memory of the process.
+     */
+    Phase(final String name, final Function<LongConsumer, Runnable> job, final Memory memory) {
+        this.name = name;
+        this.job = job;
+        this.memory = memory;
+    }
+
+    /**
+     * Run the phase several times and take the fastest run.
+     * @param project Project name.
+     * @param runs Number of runs.
+     * @return Result of the fastest run.
+     */
+    Result measure(final String project, final int runs) {
+        Result best = this.measure(project);
+        for (int run = 1; run < runs; ++run) {
+            final Result next = this.measure(project);
+            if (next.value("wall_ms") < best.value("wall_ms")) {
+                best = next;
+            }
+        }
+        return best;
+    }
+
+    /**
+     * Run the phase once.
+     * @param project Project name.
+     * @return Result.
+     */
+    private Result measure(final String project) {
+        final Latencies latencies = new Latencies();
+        final Runnable runnable = this.job.apply(latencies);
+        this.memory.reset();
+        final long cpu = Phase.cpu();
+        final long start = System.nanoTime();
+        runnable.run();
+        final double wall = (System.nanoTime() - start) / Phase.MILLIS;
+        final Result result = new Result(
+            project,
+            this.name,
+            latencies.count(),
+            wall,
+            (Phase.cpu() - cpu) / Phase.MILLIS,
+            latencies.count() * 1000.0 / Math.max(wall, 1.0),
+            this.memory.heap(),
+            this.memory.rss(),
+            latencies.percentile(50.0),
+            latencies.percentile(90.0),
+            latencies.percentile(99.0),
+            latencies.percentile(100.0)
+        );
+        Logger.info(this, "%s", result);
+        return result;
+    }
+
+    /**
+     * CPU time of the whole process, including all the threads that are already finished.
+     * @return CPU time in nanoseconds or zero if the JVM doesn't provide it.
+     */
+    private static long cpu() {
+        final OperatingSystemMXBean bean = ManagementFactory.getOperatingSystemMXBean();
+        final long result;
+        if (bean instanceof com.sun.management.OperatingSystemMXBean) {
+            result = ((com.sun.management.OperatingSystemMXBean) bean).getProcessCpuTime();
+        } else {
+            result = 0L;
+        }
+        return result;
+    }
+}
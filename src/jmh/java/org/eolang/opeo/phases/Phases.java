@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.phases;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.eolang.opeo.compilation.SelectiveCompiler;
+import org.eolang.opeo.decompilation.NaiveDecompiler;
+import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.decompilation.agents.TracedAgent;
+import org.eolang.opeo.parallel.Workers;
+import org.eolang.opeo.settings.Settings;
+import org.eolang.opeo.storage.CompilationStorage;
+import org.eolang.opeo.storage.DecompilationStorage;
+import org.eolang.opeo.storage.TimedStorage;
+
+/**
+ * End-to-end timing of the decompile and compile phases.
+ * The harness takes XMIRs disassembled by the integration tests from 'src/it',
+ * so run them first, for example:
+ * {@code mvn clean integration-test -Dinvoker.test=spring,streams,staticize -DskipTests}.
+ * Then run the harness:
+ * {@code mvn test-compile exec:exec@phases -Pjmh}.
+ * Each phase is run over each project the same way the plugin runs it,
+ * but without incremental storage. Results are saved as CSV
+ * to 'target/phases.csv'. If a baseline CSV is given, the harness fails when
+ * the wall time, CPU time or peak heap of some phase grows beyond the threshold.
+ * All the options are system properties:
+ * <ul>
+ *   <li>{@code phases.root} - where the integration tests are run, 'target/it'</li>
+ *   <li>{@code phases.projects} - comma-separated names of integration tests</li>
+ *   <li>{@code phases.work} - where to save the results of phases, 'target/phases'</li>
+ *   <li>{@code phases.output} - where to save the CSV, 'target/phases.csv'</li>
+ *   <li>{@code phases.runs} - how many times to run each phase, the fastest run is taken</li>
+ *   <li>{@code phases.threads} - number of threads, zero to pick it automatically</li>
+ *   <li>{@code phases.baseline} - CSV to compare with, nothing by default</li>
+ *   <li>{@code phases.threshold} - allowed growth in percent, 10 by default</li>
+ * </ul>
+ * @since 0.5
+ */
+public final class Phases {
+
+    /**
+     * Directories where integration tests put disassembled XMIRs.
+     */
+    private static final String[] DISASSEMBLED = {
+        "jeo-disassemble-xmir", "jeo-decompile-xmir", "jeo-xmir",
+    };
+
+    /**
+     * Ctor.
+     */
+    private Phases() {
+        // Entry point only.
+    }
+
+    /**
+     * Entry point.
+     * @param args Ignored, all the options are system properties.
+     * @throws IOException If results can't be read or saved.
+     */
+    public static void main(final String... args) throws IOException {
+        final Path root = Paths.get(System.getProperty("phases.root", "target/it"));
+        final Path work = Paths.get(System.getProperty("phases.work", "target/phases"));
+        final Path output = Paths.get(System.getProperty("phases.output", "target/phases.csv"));
+        final int runs = Integer.parseInt(System.getProperty("phases.runs", "1"));
+        final Workers workers = new Workers(
+            Integer.parseInt(System.getProperty("phases.threads", "0"))
+        );
+        final AllAgents agents = new AllAgents(true, new TracedAgent.Log());
+        final Results results = new Results();
+        final String[] projects = System.getProperty(
+            "phases.projects", "spring-fat,spring,streams,fuse,staticize"
+        ).split(",");
+        for (final String project : projects) {
+            final Optional<Path> xmirs = Phases.disassembled(root.resolve(project.trim()));
+            if (!xmirs.isPresent()) {
+                Logger.warn(
+                    Phases.class,
+                    "There are no disassembled XMIRs of '%s' in %s, run the integration test first",
+                    project,
+                    root
+                );
+                continue;
+            }
+            final Path decompiled = work.resolve(project.trim()).resolve("opeo-decompile-xmir");
+            final Path compiled = work.resolve(project.trim()).resolve("opeo-compile-xmir");
+            results.add(
+                new Phase(
+                    "decompile",
+                    latencies -> new NaiveDecompiler(
+                        new TimedStorage(
+                            new DecompilationStorage(xmirs.get(), decompiled), latencies
+                        ),
+                        new Settings(workers).with(agents)
+                    )::decompile
+                ).measure(project.trim(), runs)
+            );
+            results.add(
+                new Phase(
+                    "compile",
+                    latencies -> new SelectiveCompiler(
+                        new TimedStorage(new CompilationStorage(decompiled, compiled), latencies),
+                        new Settings(workers)
+                    )::compile
+                ).measure(project.trim(), runs)
+            );
+        }
+        results.save(output);
+        Logger.info(Phases.class, "Results are saved to %s", output);
+        final String baseline = System.getProperty("phases.baseline", "");
+        if (!baseline.isEmpty()) {
+            final double threshold = Double.parseDouble(
+                System.getProperty("phases.threshold", "10")
+            );
+            final List<String> regressions = results.regressions(
+                new Results(Paths.get(baseline)), threshold
+            );
+            if (!regressions.isEmpty()) {
+                regressions.forEach(line -> Logger.error(Phases.class, "%s", line));
+                throw new IllegalStateException(
+                    String.format(
+                        "%d regressions against the baseline %s:%n%s",
+                        regressions.size(),
+                        baseline,
+                        String.join(System.lineSeparator(), regressions)
+                    )
+                );
+            }
+            Logger.info(
+                Phases.class,
+                "No regressions beyond %.1f%% against the baseline %s",
+                threshold,
+                baseline
+            );
+        }
+    }
+
+    /**
+     * Find disassembled XMIRs of the integration test.
+     * @param project Directory where the integration test was run.
+     * @return Directory with XMIRs, if any.
+     */
+    private static Optional<Path> disassembled(final Path project) {
+        return Stream.of(Phases.DISASSEMBLED)
+            .map(name -> project.resolve("target").resolve("generated-sources").resolve(name))
+            .filter(Files::isDirectory)
+            .findFirst();
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.phases;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Result of one phase over one project.
+ * @since 0.5
+ */
+final class Result {
+
+    /**
+     * Names of measured values, in the order of CSV columns.
+     */
+    static final String[] COLUMNS = {
+        "files", "wall_ms", "cpu_ms", "files_per_sec", "peak_heap_mb", "peak_rss_mb",
+        "p50_ms", "p90_ms", "p99_ms", "max_ms",
+    };
+
+    /**
+     * Project name.
+     */
+    private final String project;
+
+    /**
+     * Phase name.
+     */
+    private final String phase;
+
+    /**
+     * Measured values by column.
+     */
+    private final Map<String, Double> values;
+
+    /**
+     * Constructor.
+     * @param line CSV line in the format of {@link #csv()}.
+     */
+    Result(final String line) {
+        this(line.split(","));
+    }
+
+    /**
+     * Constructor.
+     * @param project Project name.
+     * @param phase Phase name.
+     * @param values Measured values in the order of {@link #COLUMNS}.
+     */
+    Result(final String project, final String phase, final double... values) {
+        this(project, phase, Result.named(values));
+    }
+
+    /**
+     * Constructor.
+     * @param cells CSV cells.
+     */
+    private Result(final String... cells) {
+        this(
+            cells[0],
+            cells[1],
+            Arrays.stream(cells, 2, cells.length).mapToDouble(Double::parseDouble).toArray()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param project Project name.
+     * @param phase Phase name.
+     * @param values Measured values by column.
+     */
+    private Result(final String project, final String phase, final Map<String, Double> values) {
+        this.project = project;
+        this.phase = phase;
+        this.values = values;
+    }
+
+    /**
+     * Unique key of the result.
+     * @return Project and phase.
+     */
+    String key() {
+        return String.format("%s/%s", this.project, this.phase);
+    }
+
+    /**
+     * Measured value.
+     * @param column Column name, one of {@link #COLUMNS}.
+     * @return Value.
+     */
+    double value(final String column) {
+        return this.values.get(column);
+    }
+
+    /**
+     * CSV line.
+     * @return Project, phase and all the values.
+     */
+    String csv() {
+        return String.format("%s,%s,%s", this.project, this.phase, this.cells());
+    }
+
+    /**
+     * CSV cells of measured values.
+     * @return All the values in the order of {@link #COLUMNS}.
+     */
+    String cells() {
+        return this.values.values().stream()
+            .map(value -> String.format(Locale.ENGLISH, "%.3f", value))
+            .collect(Collectors.joining(","));
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            Locale.ENGLISH,
+            String.join(
+                ", ",
+                "%-12s %-9s %6.0f files in %8.0f ms (cpu %8.0f ms)",
+                "%7.1f files/s",
+                "heap %6.0f MB",
+                "rss %6.0f MB",
+                "p50 %.1f ms",
+                "p90 %.1f ms",
+                "p99 %.1f ms",
+                "max %.1f ms"
+            ),
+            Stream.concat(
+                Stream.of(this.project, this.phase),
+                this.values.values().stream()
+            ).toArray()
+        );
+    }
+
+    /**
+     * Name all the values.
+     * @param values Values in the order of {@link #COLUMNS}.
+     * @return Values by column.
+     */
+    private static Map<String, Double> named(final double... values) {
+        if (values.length != Result.COLUMNS.length) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Expected %d values, but got %d: %s",
+                    Result.COLUMNS.length,
+                    values.length,
+                    Arrays.toString(values)
+                )
+            );
+        }
+        final Map<String, Double> result = new LinkedHashMap<>(values.length);
+        for (int idx = 0; idx < values.length; ++idx) {
+            result.put(Result.COLUMNS[idx], values[idx]);
+        }
+        return result;
+    }
+}
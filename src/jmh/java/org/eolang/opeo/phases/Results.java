@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.phases;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Results of all the phases.
+ * They are saved as CSV with a header, one line per project and phase.
+ * @since 0.5
+ */
+final class Results {
+
+    /**
+     * Values that must not grow beyond the threshold.
+     */
+    private static final String[] COMPARED = {"wall_ms", "cpu_ms", "peak_heap_mb"};
+
+    /**
+     * Results by key.
+     */
+    private final Map<String, Result> all;
+
+    /**
+     * Constructor.
+     */
+    Results() {
+        this(new ArrayList<>(0));
+    }
+
+    /**
+     * Constructor.
+     * @param csv Previously saved results.
+     * @throws IOException If the file can't be read.
+     */
+    Results(final Path csv) throws IOException {
+        this(
+            Files.readAllLines(csv, StandardCharsets.UTF_8).stream()
+                .skip(1L)
+                .filter(line -> !line.trim().isEmpty())
+                .map(Result::new)
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param results Results.
+     */
+    private Results(final Collection<Result> results) {
+        this.all = new LinkedHashMap<>(0);
+        results.forEach(this::add);
+    }
+
+    /**
+     * Add a result.
+     * @param result Result.
+     */
+    void add(final Result result) {
+        this.all.put(result.key(), result);
+    }
+
+    /**
+     * Save all the results.
+     * @param csv Where to save.
+     * @throws IOException If the file can't be written.
+     */
+    void save(final Path csv) throws IOException {
+        if (csv.getParent() != null) {
+            Files.createDirectories(csv.getParent());
+        }
+        Files.write(
+            csv,
+            Stream.concat(
+                Stream.of(String.format("project,phase,%s", String.join(",", Result.COLUMNS))),
+                this.all.values().stream().map(Result::csv)
+            ).collect(Collectors.toList()),
+            StandardCharsets.UTF_8
+        );
+    }
+
+    /**
+     * Find regressions against the baseline.
+     * Phases that are absent in either of the results are not compared.
+     * @param baseline Baseline results.
+     * @param threshold Allowed growth, in percent.
+     * @return Descriptions of all the regressions, empty if there are none.
+     */
+    List<String> regressions(final Results baseline, final double threshold) {
+        final List<String> result = new ArrayList<>(0);
+        for (final Result current : this.all.values()) {
+            final Result base = baseline.all.get(current.key());
+            if (base == null) {
+                continue;
+            }
+            for (final String column : Results.COMPARED) {
+                final double before = base.value(column);
+                final double after = current.value(column);
+                if (before > 0.0 && after > before * (1.0 + threshold / 100.0)) {
+                    result.add(
+                        String.format(
+                            Locale.ENGLISH,
+                            "%s %s grew from %.1f to %.1f (%+.1f%%, threshold %.1f%%)",
+                            current.key(),
+                            column,
+                            before,
+                            after,
+                            (after / before - 1.0) * 100.0,
+                            threshold
+                        )
+                    );
+                }
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.phases;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+import java.util.function.LongConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.eolang.opeo.SelectiveDecompiler;
+import org.eolang.opeo.compilation.SelectiveCompiler;
+import org.eolang.opeo.decompilation.Corpus;
+import org.eolang.opeo.decompilation.NaiveDecompiler;
+import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.decompilation.agents.SupportedOpcodes;
+import org.eolang.opeo.decompilation.agents.TracedAgent;
+import org.eolang.opeo.parallel.Workers;
+import org.eolang.opeo.settings.Settings;
+import org.eolang.opeo.storage.CompilationStorage;
+import org.eolang.opeo.storage.DecompilationStorage;
+import org.eolang.opeo.storage.FileStorage;
+import org.eolang.opeo.storage.TimedStorage;
+import org.eolang.opeo.storage.WithoutAliasesStorage;
+
+/**
+ * Thread scaling of the decompilers and the compiler over a synthetic corpus.
+ * The harness generates a {@link Corpus} and runs {@link NaiveDecompiler},
+ * {@link SelectiveDecompiler} and {@link SelectiveCompiler} over it with different
+ * numbers of threads. The speedup is the wall time with one thread divided by
+ * the wall time with N threads, efficiency is the speedup divided by N.
+ * If the first number of threads isn't one, the speedup up to it is assumed to be linear.
+ * Each driver is run once before the measurement to warm up the JVM.
+ * Keep in mind that all the workers of the JVM share the limit of concurrent jobs
+ * equal to the number of available processors, so there is no speedup beyond it.
+ * Run it with:
+ * {@code mvn test-compile exec:exec@scaling -Pjmh}.
+ * Results are saved as CSV to 'target/scaling.csv'.
+ * All the options are system properties:
+ * <ul>
+ *   <li>{@code scaling.classes} - number of classes, 1000 by default</li>
+ *   <li>{@code scaling.methods} - methods per class, 5 by default</li>
+ *   <li>{@code scaling.instructions} - instructions per method, 200 by default</li>
+ *   <li>{@code scaling.mix} - weighted opcode mix, see {@link Corpus}</li>
+ *   <li>{@code scaling.seed} - seed of the corpus, 42 by default</li>
+ *   <li>{@code scaling.threads} - comma-separated numbers of threads,
+ *     powers of two up to the number of processors by default</li>
+ *   <li>{@code scaling.runs} - how many times to run each step, the fastest run is taken</li>
+ *   <li>{@code scaling.work} - where to save the corpus and results, 'target/scaling'</li>
+ *   <li>{@code scaling.output} - where to save the CSV, 'target/scaling.csv'</li>
+ * </ul>
+ * @since 0.5
+ */
+public final class Scaling {
+
+    /**
+     * Ctor.
+     */
+    private Scaling() {
+        // Entry point only.
+    }
+
+    /**
+     * Entry point.
+     * @param args Ignored, all the options are system properties.
+     * @throws IOException If the corpus or results can't be saved.
+     */
+    public static void main(final String... args) throws IOException {
+        final Path work = Paths.get(System.getProperty("scaling.work", "target/scaling"));
+        final Path corpus = work.resolve("corpus");
+        final Path decompiled = work.resolve("decompiled");
+        final Path selected = work.resolve("selected");
+        final Path modified = work.resolve("modified");
+        final Path compiled = work.resolve("compiled");
+        final int runs = Integer.parseInt(System.getProperty("scaling.runs", "1"));
+        Scaling.clean(work);
+        Logger.info(
+            Scaling.class,
+            "Generated %d synthetic classes in %s",
+            new Corpus(
+                Integer.parseInt(System.getProperty("scaling.classes", "1000")),
+                Integer.parseInt(System.getProperty("scaling.methods", "5")),
+                Integer.parseInt(System.getProperty("scaling.instructions", "200")),
+                System.getProperty(
+                    "scaling.mix", "ARITHMETIC:6,INVOCATIONS:2,LOCALS:2,UNSUPPORTED:1"
+                ),
+                Long.parseLong(System.getProperty("scaling.seed", "42"))
+            ).save(corpus),
+            corpus
+        );
+        final AllAgents agents = new AllAgents(true, new TracedAgent.Log());
+        final int[] threads = Scaling.threads(System.getProperty("scaling.threads", ""));
+        final List<String> lines = new ArrayList<>(0);
+        lines.add(
+            String.format("driver,threads,%s,speedup,efficiency", String.join(",", Result.COLUMNS))
+        );
+        lines.addAll(
+            Scaling.curve(
+                "naive",
+                threads,
+                runs,
+                count -> latencies -> new NaiveDecompiler(
+                    new TimedStorage(new DecompilationStorage(corpus, decompiled), latencies),
+                    new Settings(new Workers(count)).with(agents)
+                )::decompile
+            )
+        );
+        lines.addAll(
+            Scaling.curve(
+                "selective",
+                threads,
+                runs,
+                count -> latencies -> new SelectiveDecompiler(
+                    new WithoutAliasesStorage(
+                        new TimedStorage(new FileStorage(corpus, selected), latencies)
+                    ),
+                    new WithoutAliasesStorage(new FileStorage(modified, modified)),
+                    new SupportedOpcodes(),
+                    new Settings(new Workers(count)).with(agents)
+                )::decompile
+            )
+        );
+        lines.addAll(
+            Scaling.curve(
+                "compile",
+                threads,
+                runs,
+                count -> latencies -> new SelectiveCompiler(
+                    new TimedStorage(new CompilationStorage(decompiled, compiled), latencies),
+                    new Settings(new Workers(count))
+                )::compile
+            )
+        );
+        final Path output = Paths.get(System.getProperty("scaling.output", "target/scaling.csv"));
+        Files.write(output, lines, StandardCharsets.UTF_8);
+        Logger.info(Scaling.class, "Results are saved to %s", output);
+    }
+
+    /**
+     * Speedup curve of one driver.
+     * @param driver Driver name.
+     * @param threads Numbers of threads, the first one is the base of the speedup.
+     * @param runs How many times to run each step.
+     * @param job The job that uses the given number of threads.
+     * @return CSV lines, one per number of threads.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    private static List<String> curve(
+        final String driver,
+        final int[] threads,
+        final int runs,
+        final IntFunction<Function<LongConsumer, Runnable>> job
+    ) {
+        final List<String> result = new ArrayList<>(threads.length);
+        job.apply(threads[threads.length - 1]).apply(nanos -> { }).run();
+        double base = 0.0;
+        for (final int count : threads) {
+            final Result step = new Phase(driver, job.apply(count))
+                .measure(String.format("%d threads", count), runs);
+            final double wall = step.value("wall_ms");
+            if (base == 0.0) {
+                base = wall;
+            }
+            final double speedup = base / wall * threads[0];
+            Logger.info(
+                Scaling.class,
+                "%-9s %3d threads: speedup %5.2f, efficiency %3.0f%%, heap %6.0f MB",
+                driver,
+                count,
+                speedup,
+                speedup / count * 100.0,
+                step.value("peak_heap_mb")
+            );
+            result.add(
+                String.format(
+                    Locale.ENGLISH,
+                    "%s,%d,%s,%.3f,%.3f",
+                    driver,
+                    count,
+                    step.cells(),
+                    speedup,
+                    speedup / count
+                )
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Delete the directory with all its content, if it exists.
+     * Files of the previous runs must not get into the corpus or the results.
+     * @param dir Directory.
+     * @throws IOException If some file can't be deleted.
+     */
+    private static void clean(final Path dir) throws IOException {
+        if (Files.exists(dir)) {
+            try (Stream<Path> all = Files.walk(dir)) {
+                for (final Path path : all.sorted(Comparator.reverseOrder()).toArray(Path[]::new)) {
+                    Files.delete(path);
+                }
+            }
+        }
+    }
+
+    /**
+     * Numbers of threads.
+     * @param list Comma-separated numbers or empty string for the default ones.
+     * @return Powers of two up to the number of processors, and the number itself.
+     */
+    private static int[] threads(final String list) {
+        final int[] result;
+        if (list.trim().isEmpty()) {
+            final int cores = Runtime.getRuntime().availableProcessors();
+            final IntStream.Builder builder = IntStream.builder();
+            for (int count = 1; count < cores; count *= 2) {
+                builder.add(count);
+            }
+            result = builder.add(cores).build().toArray();
+        } else {
+            result = Arrays.stream(list.split(","))
+                .map(String::trim)
+                .mapToInt(Integer::parseInt)
+                .toArray();
+        }
+        Logger.info(
+            Scaling.class,
+            "Threads: %s",
+            Arrays.stream(result).mapToObj(String::valueOf).collect(Collectors.joining(", "))
+        );
+        return result;
+    }
+}
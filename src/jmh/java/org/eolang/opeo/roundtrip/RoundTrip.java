@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.roundtrip;
+
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmark of the original and round-tripped code of integration tests.
+ * The 'fuse' and 'staticize' integration tests keep the classes compiled by javac
+ * in 'target/original-classes' and replace 'target/classes' with the classes
+ * that passed through disassemble, decompile, optimize, compile and assemble.
+ * The benchmark loads each set of classes in its own class loader and runs
+ * {@code org.eolang.benchmark.Main} of the test, so the original and the
+ * round-tripped code never share classes. Run the integration tests first:
+ * {@code mvn clean integration-test -Dinvoker.test=fuse,staticize -DskipTests -Plong}.
+ * Then run the benchmark, throughput, latency and allocation rate are reported
+ * for both sets of classes side by side:
+ * {@code mvn test-compile exec:exec@roundtrip -Pjmh}.
+ * The directory where integration tests are run is taken from the 'roundtrip.root'
+ * system property, 'target/it' by default.
+ * @since 0.5
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD.ImmutableField")
+public class RoundTrip {
+
+    /**
+     * Name of the integration test.
+     */
+    @Param({"fuse", "staticize"})
+    public String suite;
+
+    /**
+     * Which classes to run.
+     * 'original' are compiled by javac, 'roundtrip' passed through the plugins.
+     */
+    @Param({"original", "roundtrip"})
+    public String code;
+
+    /**
+     * Number of iterations of the main loop of the program.
+     */
+    @Param("1000")
+    public String iterations;
+
+    /**
+     * Class loader of the classes.
+     */
+    private URLClassLoader loader;
+
+    /**
+     * The main method of the program.
+     */
+    private MethodHandle main;
+
+    /**
+     * Arguments of the main method.
+     */
+    private String[] args;
+
+    /**
+     * The standard output of the benchmark.
+     */
+    private PrintStream stdout;
+
+    /**
+     * Load classes.
+     * The standard output is muted, since the program prints its result.
+     * @throws Exception If classes can't be loaded.
+     * @checkstyle MethodBodyCommentsCheck (50 lines)
+     */
+    @Setup
+    public void setup() throws Exception {
+        final Path target = Paths.get(System.getProperty("roundtrip.root", "target/it"))
+            .resolve(this.suite)
+            .resolve("target");
+        final Path classes;
+        if ("original".equals(this.code)) {
+            classes = target.resolve("original-classes");
+        } else {
+            classes = target.resolve("classes");
+        }
+        if (!Files.isDirectory(classes)) {
+            throw new IllegalStateException(
+                String.format(
+                    "There are no classes in %s, run the '%s' integration test first",
+                    classes,
+                    this.suite
+                )
+            );
+        }
+        this.loader = new URLClassLoader(new URL[]{classes.toUri().toURL()}, null);
+        this.main = MethodHandles.publicLookup().findStatic(
+            this.loader.loadClass("org.eolang.benchmark.Main"),
+            "main",
+            MethodType.methodType(void.class, String[].class)
+        );
+        this.args = new String[]{this.iterations};
+        this.stdout = System.out;
+        System.setOut(
+            new PrintStream(
+                new OutputStream() {
+                    @Override
+                    public void write(final int data) {
+                        // The program prints its result, we don't need it.
+                    }
+                }
+            )
+        );
+    }
+
+    /**
+     * Unload classes.
+     * @throws Exception If class loader can't be closed.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        System.setOut(this.stdout);
+        this.loader.close();
+    }
+
+    /**
+     * Run the program.
+     * @throws Throwable If the program fails.
+     */
+    @Benchmark
+    public void run() throws Throwable {
+        this.main.invokeExact(this.args);
+    }
+}
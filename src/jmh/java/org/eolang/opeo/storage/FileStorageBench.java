@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.io.ResourceOf;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Benchmark of {@link FileStorage} reading and saving.
+ * All the XMIRs from 'src/test/resources/xmir/disassembled' are copied
+ * to a temporary folder before the measurement.
+ * @since 0.5
+ * @checkstyle VisibilityModifierCheck (500 lines)
+ * @checkstyle DesignForExtensionCheck (500 lines)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+@SuppressWarnings("PMD.ImmutableField")
+public class FileStorageBench {
+
+    /**
+     * XMIRs to copy.
+     */
+    private static final String[] XMIRS = {
+        "App", "Factorial", "Lambda", "Main", "SimpleLog", "SmartLifecycle", "Sum",
+        "DefaultRouterFunctionSpec", "LongArrayAssert", "MutableCoercionConfig",
+    };
+
+    /**
+     * Whether to parse each XMIR into DOM after reading.
+     */
+    @Param({"true", "false"})
+    public boolean parse;
+
+    /**
+     * Temporary folder.
+     */
+    private Path temp;
+
+    /**
+     * Storage.
+     */
+    private FileStorage storage;
+
+    /**
+     * Entries to save.
+     */
+    private List<XmirEntry> entries;
+
+    /**
+     * Copy XMIRs to the temporary folder.
+     * @throws Exception If fails.
+     */
+    @Setup
+    public void setup() throws Exception {
+        this.temp = Files.createTempDirectory("opeo-bench");
+        final Path input = this.temp.resolve("input");
+        Files.createDirectories(input);
+        for (final String name : FileStorageBench.XMIRS) {
+            try (InputStream stream = new ResourceOf(
+                String.format("xmir/disassembled/%s.xmir", name)
+            ).stream()) {
+                Files.copy(stream, input.resolve(String.format("%s.xmir", name)));
+            }
+        }
+        this.storage = new FileStorage(input, this.temp.resolve("output"));
+        this.entries = this.storage.all().collect(Collectors.toList());
+    }
+
+    /**
+     * Remove the temporary folder.
+     * @throws IOException If fails.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> all = Files.walk(this.temp)) {
+            for (final Path path : all.sorted((a, b) -> b.compareTo(a)).toArray(Path[]::new)) {
+                Files.delete(path);
+            }
+        }
+    }
+
+    /**
+     * Read all the XMIRs.
+     * @param hole Blackhole.
+     */
+    @Benchmark
+    public void read(final Blackhole hole) {
+        this.storage.all().forEach(
+            entry -> {
+                if (this.parse) {
+                    hole.consume(entry.xpath("/program/@name"));
+                } else {
+                    hole.consume(entry.index().opcodes());
+                }
+            }
+        );
+    }
+
+    /**
+     * Save all the XMIRs.
+     */
+    @Benchmark
+    public void save() {
+        if (this.parse) {
+            this.entries.forEach(entry -> this.storage.save(entry.transform(xml -> xml)));
+        } else {
+            this.entries.forEach(this.storage::save);
+        }
+    }
+}
@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+import java.util.stream.Stream;
+import org.cactoos.Input;
+
+/**
+ * Storage that measures how long each XMIR is processed.
+ * The clock of an entry starts when the entry is read for the first time
+ * and stops when the processed entry is saved, including the time of saving.
+ * @since 0.5
+ */
+public final class TimedStorage implements Storage {
+
+    /**
+     * Original storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Where to report latencies, in nanoseconds.
+     */
+    private final LongConsumer latencies;
+
+    /**
+     * Start times of entries that are being processed.
+     */
+    private final Map<String, Long> started;
+
+    /**
+     * Constructor.
+     * @param origin Original storage.
+     * @param latencies Where to report latencies, in nanoseconds.
+     */
+    public TimedStorage(final Storage origin, final LongConsumer latencies) {
+        this.origin = origin;
+        this.latencies = latencies;
+        this.started = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Stream<XmirEntry> all() {
+        return this.origin.all().map(
+            entry -> new XmirEntry(this.timed(entry.input(), entry.relative()), entry.relative())
+        );
+    }
+
+    @Override
+    public void save(final XmirEntry xmir) {
+        this.origin.save(xmir);
+        final Long start = this.started.remove(xmir.relative());
+        if (start != null) {
+            this.latencies.accept(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Input that starts the clock of the entry when it's read.
+     * @param input Original input.
+     * @param relative Relative path of the entry.
+     * @return Input.
+     */
+    private Input timed(final Input input, final String relative) {
+        return () -> {
+            this.started.putIfAbsent(relative, System.nanoTime());
+            return input.stream();
+        };
+    }
+}
@@ -25,6 +25,7 @@ package org.eolang.opeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.nio.file.Path;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -32,6 +33,14 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.eolang.opeo.compilation.Compiler;
 import org.eolang.opeo.compilation.DummyCompiler;
 import org.eolang.opeo.compilation.SelectiveCompiler;
+import org.eolang.opeo.parallel.Split;
+import org.eolang.opeo.parallel.Workers;
+import org.eolang.opeo.settings.Settings;
+import org.eolang.opeo.storage.CompilationStorage;
+import org.eolang.opeo.storage.IncrementalStorage;
+import org.eolang.opeo.storage.Manifest;
+import org.eolang.opeo.storage.Storage;
+import org.eolang.opeo.storage.ZipStorage;
 
 /**
  * Compiles high-level EO representation into low-level representation.
@@ -46,6 +55,8 @@ public final class CompileMojo extends AbstractMojo {
     /**
      * Source directory.
      * Where to take opeo xmir from.
+     * It may also be a zip or jar archive of XMIRs, for example,
+     * {@code ${project.build.directory}/opeo-xmir.zip}.
      *
      * @since 0.2.0
      * @checkstyle MemberNameCheck (6 lines)
@@ -59,6 +70,8 @@ public final class CompileMojo extends AbstractMojo {
     /**
      * Target directory.
      * Where to save jeo representations to.
+     * It may also be a zip or jar archive, then all the results are saved into it
+     * and incremental compilation is not used.
      *
      * @since 0.2.0
      * @checkstyle MemberNameCheck (6 lines)
@@ -82,15 +95,207 @@ public final class CompileMojo extends AbstractMojo {
     )
     private boolean disabled;
 
+    /**
+     * Whether to compile only changed files.
+     * If it's enabled, the plugin keeps a manifest next to the {@link #outputDir}
+     * with hashes of all the compiled files and skips the files that weren't changed
+     * since the previous run. The manifest is not placed into the {@link #outputDir}
+     * itself, since the folder is consumed by jeo-maven-plugin as is.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.compile.incremental",
+        defaultValue = "true"
+    )
+    private boolean incremental;
+
+    /**
+     * Number of threads that compile XMIRs.
+     * Zero means that the number is picked automatically
+     * from the number of available processors and the maximum heap size.
+     * Regardless of this number, all the modules of a parallel Maven build
+     * share the same limit of concurrently running jobs.
+     *
+     * @since 0.5
+     */
+    @Parameter(
+        property = "opeo.compile.threads",
+        defaultValue = "0"
+    )
+    private int threads;
+
+    /**
+     * Maximum estimated memory of XMIRs compiled at the same time, in megabytes.
+     * A large XMIR is not started until others are finished and there is enough free heap,
+     * so the build doesn't run out of memory on huge classes.
+     * Zero means half of the maximum heap size.
+     * Modules built in parallel ('-T' option) with the same limit share it.
+     *
+     * @since 0.5
+     */
+    @Parameter(
+        property = "opeo.compile.inflight",
+        defaultValue = "0"
+    )
+    private long inflight;
+
+    /**
+     * Number of methods starting from which methods of a class are compiled concurrently.
+     * It helps when a few huge classes are left at the end of the run, while
+     * other threads are already idle. Zero disables this criterion.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.compile.splitMethods",
+        defaultValue = "64"
+    )
+    private int splitMethods;
+
+    /**
+     * Number of instructions starting from which methods of a class are compiled concurrently.
+     * Zero disables this criterion.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.compile.splitInstructions",
+        defaultValue = "10000"
+    )
+    private int splitInstructions;
+
+    /**
+     * Directory of the cache of compiled XMIRs.
+     * The cache is shared by all the projects that use the same directory,
+     * for example, {@code ~/.m2/opeo-cache}, so the same dependency classes
+     * are compiled only once per machine. Results are keyed by the content hash of the input
+     * XMIR, the plugin version and the supported opcodes.
+     * The cache is disabled if the parameter is not set.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "opeo.compile.cacheDir")
+    private File cacheDir;
+
+    /**
+     * Maximum size of the cache in megabytes.
+     * When the size is exceeded, the least recently used results are removed.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.compile.cacheSize",
+        defaultValue = "1024"
+    )
+    private long cacheSize;
+
+    /**
+     * URL of the remote cache of compiled XMIRs.
+     * The cache is requested with plain HTTP: {@code GET <url>/<key>} and
+     * {@code PUT <url>/<key>}, so it can be shared by all the agents of a CI farm.
+     * If {@link #cacheDir} is set too, the remote cache is requested only when
+     * the result is missing in the local one.
+     * The remote cache is disabled if the parameter is not set.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "opeo.compile.cacheUrl")
+    private String cacheUrl;
+
+    /**
+     * Timeout of the remote cache requests in milliseconds.
+     * If the remote cache doesn't respond in time, the XMIR is compiled locally.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.compile.cacheTimeout",
+        defaultValue = "2000"
+    )
+    private int cacheTimeout;
+
+    /**
+     * Plugin version.
+     * Incremental results of other versions are never reused.
+     *
+     * @since 0.5
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
     @Override
     public void execute() {
+        final Path input = this.sourcesDir.toPath();
+        final Path output = this.outputDir.toPath();
+        final Phase phase = new Phase("compile", input, output, this.version);
+        final ZipStorage archives = new ZipStorage(input, output);
         final Compiler compiler;
         if (this.disabled) {
             Logger.info(this, "Compiler is disabled");
-            compiler = new DummyCompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
+            compiler = new DummyCompiler(
+                this.storage(
+                    phase, "dummy", phase.origin(new CompilationStorage(input, output), archives)
+                )
+            );
+        } else {
+            final Workers workers = phase.workers(this.threads, this.inflight);
+            compiler = new SelectiveCompiler(
+                this.storage(
+                    phase,
+                    "selective",
+                    phase.origin(new CompilationStorage(input, output), archives)
+                ),
+                new Settings(workers)
+                    .with(new Split(this.splitMethods, this.splitInstructions, workers))
+                    .with(
+                        phase.cache(
+                            "selective",
+                            phase.cache(
+                                this.cacheDir, this.cacheSize, this.cacheUrl, this.cacheTimeout
+                            )
+                        )
+                    )
+            );
+        }
+        try {
+            compiler.compile();
+            archives.commit();
+        } finally {
+            archives.close();
+        }
+    }
+
+    /**
+     * Storage to compile.
+     * @param phase Phase of the plugin.
+     * @param mode Compilation mode.
+     * @param origin Original storage.
+     * @return Incremental storage if incremental compilation is enabled.
+     */
+    private Storage storage(final Phase phase, final String mode, final Storage origin) {
+        final Storage result;
+        if (this.incremental && !phase.archives()) {
+            final Path output = this.outputDir.toPath();
+            result = new IncrementalStorage(
+                origin,
+                this.sourcesDir.toPath(),
+                output,
+                new Manifest(
+                    output.resolveSibling(String.format("%s.opeo-manifest", output.getFileName())),
+                    phase.config(mode)
+                )
+            );
         } else {
-            compiler = new SelectiveCompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
+            result = origin;
         }
-        compiler.compile();
+        return result;
     }
 }
@@ -25,7 +25,9 @@ package org.eolang.opeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.nio.file.Path;
 import java.util.Objects;
+import java.util.Optional;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -33,6 +35,24 @@ import org.apache.maven.plugins.annotations.Parameter;
 import org.eolang.opeo.decompilation.Decompiler;
 import org.eolang.opeo.decompilation.DummyDecompiler;
 import org.eolang.opeo.decompilation.NaiveDecompiler;
+import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.decompilation.agents.Measurements;
+import org.eolang.opeo.decompilation.agents.SupportedOpcodes;
+import org.eolang.opeo.decompilation.agents.TracedAgent;
+import org.eolang.opeo.jeo.Memo;
+import org.eolang.opeo.parallel.Split;
+import org.eolang.opeo.parallel.Workers;
+import org.eolang.opeo.settings.Settings;
+import org.eolang.opeo.storage.Cache;
+import org.eolang.opeo.storage.ChainedCache;
+import org.eolang.opeo.storage.DecompilationStorage;
+import org.eolang.opeo.storage.FileStorage;
+import org.eolang.opeo.storage.IncrementalStorage;
+import org.eolang.opeo.storage.LocalCache;
+import org.eolang.opeo.storage.MemoryCache;
+import org.eolang.opeo.storage.Storage;
+import org.eolang.opeo.storage.WithoutAliasesStorage;
+import org.eolang.opeo.storage.ZipStorage;
 
 /**
  * Decompiles bytecode in EO representation into high-level EO representation.
@@ -44,9 +64,21 @@ import org.eolang.opeo.decompilation.NaiveDecompiler;
 @Mojo(name = "decompile", defaultPhase = LifecyclePhase.PROCESS_CLASSES)
 public final class DecompileMojo extends AbstractMojo {
 
+    /**
+     * Maximum size of decompiled methods kept in memory during the run.
+     */
+    private static final long MEMORY_BYTES = 16L << 20;
+
+    /**
+     * Maximum number of decompiled methods kept in memory during the run.
+     */
+    private static final int MEMORY_METHODS = 4096;
+
     /**
      * Source directory.
      * Where to take jeo xmir from.
+     * It may also be a zip or jar archive of XMIRs, for example,
+     * {@code ${project.build.directory}/jeo-xmir.zip}.
      *
      * @since 0.2.0
      * @checkstyle MemberNameCheck (6 lines)
@@ -60,6 +92,8 @@ public final class DecompileMojo extends AbstractMojo {
     /**
      * Target directory.
      * Where to save opeo decompiler representations to.
+     * It may also be a zip or jar archive, then all the results are saved into it
+     * and incremental decompilation is not used.
      *
      * @since 0.2.0
      * @checkstyle MemberNameCheck (6 lines)
@@ -77,6 +111,8 @@ public final class DecompileMojo extends AbstractMojo {
      * are not supported yet.
      * To "see" what we actually decompiled, we store the modified files in this folder.
      * It doesn't affect {@link #outputDir}.
+     * If it's set, {@link #incremental} decompilation is not used, since the manifest
+     * doesn't track the files of this folder, so all the files are decompiled again.
      *
      * @since 0.2.0
      * @checkstyle MemberNameCheck (6 lines)
@@ -97,21 +133,309 @@ public final class DecompileMojo extends AbstractMojo {
     )
     private boolean disabled;
 
+    /**
+     * Whether to decompile only changed files.
+     * If it's enabled, the plugin keeps a manifest in the {@link #outputDir} with hashes
+     * of all the decompiled files and skips the files that weren't changed since
+     * the previous run. If the plugin version or the set of supported opcodes is changed,
+     * all the files are decompiled again.
+     * It's ignored if {@link #modifiedDir} is set or if {@link #outputDir} is an archive.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.incremental",
+        defaultValue = "true"
+    )
+    private boolean incremental;
+
+    /**
+     * Number of threads that decompile XMIRs.
+     * Zero means that the number is picked automatically
+     * from the number of available processors and the maximum heap size.
+     * Regardless of this number, all the modules of a parallel Maven build
+     * share the same limit of concurrently running jobs.
+     *
+     * @since 0.5
+     */
+    @Parameter(
+        property = "opeo.decompile.threads",
+        defaultValue = "0"
+    )
+    private int threads;
+
+    /**
+     * Maximum estimated memory of XMIRs decompiled at the same time, in megabytes.
+     * A large XMIR is not started until others are finished and there is enough free heap,
+     * so the build doesn't run out of memory on huge classes.
+     * Zero means half of the maximum heap size.
+     * Modules built in parallel ('-T' option) with the same limit share it.
+     *
+     * @since 0.5
+     */
+    @Parameter(
+        property = "opeo.decompile.inflight",
+        defaultValue = "0"
+    )
+    private long inflight;
+
+    /**
+     * Number of methods starting from which methods of a class are decompiled concurrently.
+     * It helps when a few huge classes are left at the end of the run, while
+     * other threads are already idle. Zero disables this criterion.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.splitMethods",
+        defaultValue = "64"
+    )
+    private int splitMethods;
+
+    /**
+     * Number of instructions starting from which methods of a class are decompiled concurrently.
+     * Zero disables this criterion.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.splitInstructions",
+        defaultValue = "10000"
+    )
+    private int splitInstructions;
+
+    /**
+     * Where to save performance counters of the decompilation agents.
+     * If set, the plugin counts invocations, time and allocated bytes
+     * per agent and per opcode and saves them as a CSV report to this file,
+     * for example, {@code target/opeo-decompile-metrics.csv}.
+     * Counters are not collected if the parameter is not set.
+     *
+     * @since 0.5
+     */
+    @Parameter(property = "opeo.decompile.metrics")
+    private File metrics;
+
+    /**
+     * Directory of the cache of decompiled XMIRs.
+     * The cache is shared by all the projects that use the same directory,
+     * for example, {@code ~/.m2/opeo-cache}, so the same dependency classes
+     * are decompiled only once per machine. Results are keyed by the content hash of the input
+     * XMIR, the plugin version and the supported opcodes.
+     * The cache is disabled if the parameter is not set.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "opeo.decompile.cacheDir")
+    private File cacheDir;
+
+    /**
+     * Maximum size of the cache in megabytes.
+     * When the size is exceeded, the least recently used results are removed.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheSize",
+        defaultValue = "1024"
+    )
+    private long cacheSize;
+
+    /**
+     * URL of the remote cache of decompiled XMIRs.
+     * The cache is requested with plain HTTP: {@code GET <url>/<key>} and
+     * {@code PUT <url>/<key>}, so it can be shared by all the agents of a CI farm.
+     * If {@link #cacheDir} is set too, the remote cache is requested only when
+     * the result is missing in the local one.
+     * The remote cache is disabled if the parameter is not set.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(property = "opeo.decompile.cacheUrl")
+    private String cacheUrl;
+
+    /**
+     * Timeout of the remote cache requests in milliseconds.
+     * If the remote cache doesn't respond in time, the XMIR is decompiled locally.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.cacheTimeout",
+        defaultValue = "2000"
+    )
+    private int cacheTimeout;
+
+    /**
+     * Reuse decompiled bodies of identical methods.
+     * Decompiled methods are kept in memory during the run and
+     * in {@link #memoDir} between runs. The memory part is small and bounded
+     * by the number of methods, so it's not counted in {@link #inflight}.
+     *
+     * @since 0.5
+     */
+    @Parameter(
+        property = "opeo.decompile.memo",
+        defaultValue = "true"
+    )
+    private boolean memo;
+
+    /**
+     * Directory of decompiled methods kept between runs.
+     * By default, it's in the build directory, so 'mvn clean' removes it.
+     * Set it to a directory outside the project, for example in the user home,
+     * to keep the methods after cleaning and share them between projects.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.memoDir",
+        defaultValue = "${project.build.directory}/opeo-memo"
+    )
+    private File memoDir;
+
+    /**
+     * Maximum size of decompiled methods kept between runs in megabytes.
+     *
+     * @since 0.5
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "opeo.decompile.memoSize",
+        defaultValue = "256"
+    )
+    private long memoSize;
+
+    /**
+     * Plugin version.
+     * Incremental results of other versions are never reused.
+     *
+     * @since 0.5
+     */
+    @Parameter(defaultValue = "${plugin.version}", readonly = true)
+    private String version;
+
     @Override
     public void execute() {
+        final Path input = this.sourcesDir.toPath();
+        final Path output = this.outputDir.toPath();
+        final Phase phase = new Phase("decompile", input, output, this.version);
+        final Measurements measurements = new Measurements(Objects.nonNull(this.metrics));
+        final AllAgents agents = new AllAgents(true, new TracedAgent.Log(), measurements);
+        final ZipStorage archives = new ZipStorage(input, output);
+        final Workers workers = phase.workers(this.threads, this.inflight);
+        final Optional<Cache> cache = phase.cache(
+            this.cacheDir, this.cacheSize, this.cacheUrl, this.cacheTimeout
+        );
+        final Settings settings = new Settings(workers)
+            .with(agents)
+            .with(new Split(this.splitMethods, this.splitInstructions, workers));
         final Decompiler decompiler;
         if (this.disabled) {
             Logger.info(this, "Decompiler is disabled");
-            decompiler = new DummyDecompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
+            decompiler = new DummyDecompiler(
+                this.storage(
+                    phase, "dummy", phase.origin(new DecompilationStorage(input, output), archives)
+                )
+            );
         } else if (Objects.nonNull(this.modifiedDir)) {
             Logger.info(this, "Use selective decompiler");
+            final Path modified = this.modifiedDir.toPath();
             decompiler = new SelectiveDecompiler(
-                this.sourcesDir.toPath(), this.outputDir.toPath(), this.modifiedDir.toPath()
+                new WithoutAliasesStorage(
+                    this.storage(
+                        phase, "selective", phase.origin(new FileStorage(input, output), archives)
+                    )
+                ),
+                new WithoutAliasesStorage(new FileStorage(modified, modified)),
+                new SupportedOpcodes(),
+                settings
+                    .with(phase.cache("selective", cache))
+                    .with(this.memo(phase, "selective"))
             );
         } else {
             Logger.info(this, "Use naive decompiler");
-            decompiler = new NaiveDecompiler(this.sourcesDir.toPath(), this.outputDir.toPath());
+            decompiler = new NaiveDecompiler(
+                this.storage(
+                    phase, "naive", phase.origin(new DecompilationStorage(input, output), archives)
+                ),
+                settings.with(phase.cache("naive", cache)).with(this.memo(phase, "naive"))
+            );
+        }
+        try {
+            decompiler.decompile();
+            archives.commit();
+        } finally {
+            archives.close();
+        }
+        if (measurements.enabled()) {
+            measurements.save(this.metrics.toPath());
+            Logger.info(
+                this,
+                "Saved metrics of %d agent invocations to %s",
+                measurements.invocations(),
+                this.metrics
+            );
+        }
+    }
+
+    /**
+     * Storage to decompile.
+     * @param phase Phase of the plugin.
+     * @param mode Decompilation mode.
+     * @param origin Original storage.
+     * @return Incremental storage if incremental decompilation is enabled.
+     */
+    private Storage storage(final Phase phase, final String mode, final Storage origin) {
+        final Storage result;
+        if (this.incremental && Objects.nonNull(this.modifiedDir)) {
+            Logger.info(
+                this,
+                "Incremental decompilation is disabled, since modified XMIRs go to %[file]s",
+                this.modifiedDir
+            );
+            result = origin;
+        } else if (this.incremental && !phase.archives()) {
+            result = new IncrementalStorage(
+                origin,
+                this.sourcesDir.toPath(),
+                this.outputDir.toPath(),
+                phase.config(mode)
+            );
+        } else {
+            result = origin;
+        }
+        return result;
+    }
+
+    /**
+     * Memo of decompiled methods.
+     * @param phase Phase of the plugin.
+     * @param mode Decompilation mode.
+     * @return Memo that doesn't keep anything if the memo is disabled.
+     */
+    private Memo memo(final Phase phase, final String mode) {
+        final Memo result;
+        if (this.memo && Objects.nonNull(this.memoDir)) {
+            Logger.info(this, "Use memo of decompiled methods in %[file]s", this.memoDir);
+            result = new Memo(
+                new ChainedCache(
+                    new MemoryCache(DecompileMojo.MEMORY_BYTES, DecompileMojo.MEMORY_METHODS),
+                    new LocalCache(this.memoDir.toPath(), this.memoSize << 20)
+                ),
+                String.format("methods %s", phase.config(mode))
+            );
+        } else {
+            result = new Memo();
         }
-        decompiler.decompile();
+        return result;
     }
 }
@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.Optional;
+import org.eolang.opeo.decompilation.agents.SupportedOpcodes;
+import org.eolang.opeo.parallel.Budget;
+import org.eolang.opeo.parallel.Workers;
+import org.eolang.opeo.storage.Cache;
+import org.eolang.opeo.storage.ChainedCache;
+import org.eolang.opeo.storage.LocalCache;
+import org.eolang.opeo.storage.RemoteCache;
+import org.eolang.opeo.storage.Storage;
+import org.eolang.opeo.storage.XmirCache;
+import org.eolang.opeo.storage.ZipStorage;
+
+/**
+ * Phase of the plugin.
+ * Settings shared by the decompile and compile mojos, which have the same
+ * parameters under different property names.
+ * @since 0.5
+ */
+final class Phase {
+
+    /**
+     * Name of the phase, like 'decompile' or 'compile'.
+     */
+    private final String name;
+
+    /**
+     * Source folder or archive.
+     */
+    private final Path sources;
+
+    /**
+     * Output folder or archive.
+     */
+    private final Path output;
+
+    /**
+     * Plugin version.
+     */
+    private final String version;
+
+    /**
+     * Constructor.
+     * @param name Name of the phase, like 'decompile' or 'compile'.
+     * @param sources Source folder or archive.
+     * @param output Output folder or archive.
+     * @param version Plugin version.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Phase(final String name, final Path sources, final Path output, final String version) {
+        this.name = name;
+        this.sources = sources;
+        this.output = output;
+        this.version = version;
+    }
+
+    /**
+     * Whether the source or the output is an archive.
+     * @return True if it is.
+     */
+    boolean archives() {
+        return ZipStorage.archive(this.sources) || ZipStorage.archive(this.output);
+    }
+
+    /**
+     * Original storage of the folders or archives.
+     * @param folders Storage of folders.
+     * @param archives Storage of archives.
+     * @return Storage of archives if the source or the output is an archive.
+     */
+    Storage origin(final Storage folders, final ZipStorage archives) {
+        final Storage result;
+        if (this.archives()) {
+            result = archives;
+        } else {
+            result = folders;
+        }
+        return result;
+    }
+
+    /**
+     * Workers within the memory budget.
+     * The budget is shared with other runs in the JVM, like other modules built in parallel.
+     * @param threads Number of threads or zero to pick it automatically.
+     * @param inflight Memory budget in megabytes or zero for the default one.
+     * @return Workers.
+     */
+    Workers workers(final int threads, final long inflight) {
+        final Budget budget;
+        if (inflight > 0) {
+            budget = Budget.shared(inflight << 20);
+        } else {
+            budget = Budget.shared();
+        }
+        return new Workers(threads, budget);
+    }
+
+    /**
+     * Cache of XMIRs.
+     * @param mode Mode of the phase.
+     * @param cache Local, remote or both caches, if any.
+     * @return Cache that doesn't keep anything if no cache is set.
+     */
+    XmirCache cache(final String mode, final Optional<Cache> cache) {
+        final XmirCache result;
+        if (cache.isPresent()) {
+            result = new XmirCache(
+                cache.get(), String.format("%s %s", this.name, this.config(mode))
+            );
+        } else {
+            result = new XmirCache();
+        }
+        return result;
+    }
+
+    /**
+     * Local, remote or both caches, depending on the parameters.
+     * @param dir Directory of the local cache or null.
+     * @param size Maximum size of the local cache in megabytes.
+     * @param url URL of the remote cache or null.
+     * @param timeout Timeout of the remote cache requests in milliseconds.
+     * @return Cache, if any.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Optional<Cache> cache(final File dir, final long size, final String url, final int timeout) {
+        Optional<Cache> result = Optional.empty();
+        if (Objects.nonNull(dir)) {
+            Logger.info(this, "Use local cache of %sd XMIRs in %[file]s", this.name, dir);
+            result = Optional.of(new LocalCache(dir.toPath(), size << 20));
+        }
+        if (Objects.nonNull(url)) {
+            Logger.info(this, "Use remote cache of %sd XMIRs at %s", this.name, url);
+            final Cache remote = new RemoteCache(url, timeout);
+            result = Optional.of(
+                result.<Cache>map(local -> new ChainedCache(local, remote)).orElse(remote)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Configuration that affects the results of the phase.
+     * @param mode Mode of the phase.
+     * @return Plugin version, mode and supported opcodes.
+     */
+    String config(final String mode) {
+        final String[] opcodes = new SupportedOpcodes().names();
+        Arrays.sort(opcodes);
+        return String.format("%s %s %s", this.version, mode, String.join(",", opcodes));
+    }
+}
@@ -25,13 +25,13 @@ package org.eolang.opeo;
 
 import com.jcabi.log.Logger;
 import java.nio.file.Path;
-import java.util.Arrays;
-import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.eolang.opeo.decompilation.Decompiler;
 import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.decompilation.agents.SupportedOpcodes;
 import org.eolang.opeo.jeo.JeoDecompiler;
+import org.eolang.opeo.settings.Settings;
 import org.eolang.opeo.storage.FileStorage;
 import org.eolang.opeo.storage.Storage;
 import org.eolang.opeo.storage.WithoutAliasesStorage;
@@ -60,7 +60,12 @@ public final class SelectiveDecompiler implements Decompiler {
     /**
      * Supported opcodes.
      */
-    private final String[] supported;
+    private final SupportedOpcodes supported;
+
+    /**
+     * Settings of the run.
+     */
+    private final Settings settings;
 
     /**
      * Constructor.
@@ -69,7 +74,10 @@ public final class SelectiveDecompiler implements Decompiler {
      * @param modified Folder where to save the modified XMIRs.
      */
     public SelectiveDecompiler(final Path input, final Path output, final Path modified) {
-        this(input, output, modified, new AllAgents().supportedOpcodes());
+        this(
+            new WithoutAliasesStorage(new FileStorage(input, output)),
+            new WithoutAliasesStorage(new FileStorage(modified, modified))
+        );
     }
 
     /**
@@ -99,7 +107,7 @@ public final class SelectiveDecompiler implements Decompiler {
      * @param modified Storage where to save the modified of each decompiled file.
      */
     public SelectiveDecompiler(final Storage storage, final Storage modified) {
-        this(storage, modified, new AllAgents().supportedOpcodes());
+        this(storage, modified, new Settings());
     }
 
     /**
@@ -110,63 +118,105 @@ public final class SelectiveDecompiler implements Decompiler {
      */
     public SelectiveDecompiler(
         final Storage storage, final Storage modified, final String... supported
+    ) {
+        this(storage, modified, new SupportedOpcodes(supported), new Settings());
+    }
+
+    /**
+     * Constructor.
+     * @param storage Storage from which retrieve the XMIRs and where to save the modified ones.
+     * @param modified Storage where to save the modified of each decompiled file.
+     * @param settings Settings of the run.
+     */
+    public SelectiveDecompiler(
+        final Storage storage, final Storage modified, final Settings settings
+    ) {
+        this(storage, modified, new SupportedOpcodes(), settings);
+    }
+
+    /**
+     * Constructor.
+     * @param storage Storage from which retrieve the XMIRs and where to save the modified ones.
+     * @param modified Storage where to save the modified of each decompiled file.
+     * @param supported Supported opcodes are used in selection.
+     * @param settings Settings of the run.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public SelectiveDecompiler(
+        final Storage storage,
+        final Storage modified,
+        final SupportedOpcodes supported,
+        final Settings settings
     ) {
         this.storage = storage;
         this.modified = modified;
-        this.supported = supported.clone();
+        this.supported = supported;
+        this.settings = settings;
     }
 
     @Override
     public void decompile() {
-        this.storage.all().parallel().forEach(
-            entry -> {
-                final XmirEntry res;
-                final List<String> trycatches = entry.xpath(SelectiveDecompiler.trycatches());
-                final Set<String> opcodes = this.unsupported(entry);
-                if (opcodes.isEmpty() && trycatches.isEmpty()) {
-                    res = entry.transform(
-                        xml -> new JeoDecompiler(xml, entry.relative()).decompile()
-                    );
-                    this.modified.save(res);
-                } else {
-                    Logger.info(
-                        this,
-                        "Skipping %s, because of unsupported opcodes: %s, or try-catch blocks: %s",
-                        entry,
-                        opcodes,
-                        trycatches
-                    );
-                    res = entry;
-                }
-                this.storage.save(res);
-            }
+        Logger.info(
+            this,
+            "Decompiled %d EO sources",
+            this.settings.workers().apply(this.storage.all(), XmirEntry::weight, this::decompile)
         );
     }
 
     /**
-     * Find all opcodes that are not supported.
+     * Decompile the entry if it contains only supported instructions.
+     * The decision is made by the streaming metadata index, so DOM is built only
+     * for the entries that are going to be decompiled.
      * @param entry XMIR entry.
-     * @return Set of unsupported opcodes.
-     */
-    private Set<String> unsupported(final XmirEntry entry) {
-        final Set<String> all = entry.xpath("//o[@base='opcode']/@name")
-            .stream()
-            .map(s -> String.format("%s%s", s, "-"))
-            .map(s -> s.substring(0, s.indexOf('-')))
-            .collect(Collectors.toSet());
-        all.removeAll(Arrays.asList(this.supported));
-        return all;
-    }
-
-    /**
-     * Xpath to find all try-catch blocks.
-     * @return Xpath.
+     * @return One if decompiled, zero if skipped.
      * @todo #284:90min Decompile try-catch blocks.
      *  Currently we skip decompilation of methods that contain try-catch blocks.
      *  We need to implement decompilation of try-catch blocks.
      *  Don't forget to add tests for the new functionality.
      */
-    private static String trycatches() {
-        return "//o[@base='tuple' and contains(@name,'trycatchblocks')]/@name";
+    private int decompile(final XmirEntry entry) {
+        final XmirEntry res;
+        final int result;
+        final boolean trycatches = entry.index().trycatches();
+        final Set<String> opcodes = this.unsupported(entry);
+        if (opcodes.isEmpty() && !trycatches) {
+            res = this.settings.cache().transformed(
+                entry,
+                origin -> origin.modify(
+                    node -> new JeoDecompiler(
+                        node,
+                        origin.relative(),
+                        this.settings.agents(),
+                        this.settings.split(),
+                        this.settings.memo()
+                    ).decompile()
+                )
+            );
+            this.modified.save(res);
+            result = 1;
+        } else {
+            Logger.info(
+                this,
+                "Skipping %s, because of unsupported opcodes: %s, or try-catch blocks: %s",
+                entry,
+                opcodes,
+                trycatches
+            );
+            res = entry;
+            result = 0;
+        }
+        this.storage.save(res);
+        return result;
+    }
+
+    /**
+     * Find all opcodes that are not supported.
+     * @param entry XMIR entry.
+     * @return Set of unsupported opcodes.
+     */
+    private Set<String> unsupported(final XmirEntry entry) {
+        return entry.index().opcodes().stream()
+            .filter(opcode -> !this.supported.contains(opcode))
+            .collect(Collectors.toSet());
     }
 }
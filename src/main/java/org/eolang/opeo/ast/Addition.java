@@ -33,7 +33,6 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Add output node.
@@ -77,11 +76,15 @@ public final class Addition implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", ".plus")
-            .append(this.left.toXmir())
-            .append(this.right.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".plus");
+        this.left.write(sink);
+        this.right.write(sink);
+        sink.up();
     }
 
     @Override
@@ -36,9 +36,9 @@ import org.eolang.opeo.compilation.Parser;
 public final class Arguments {
 
     /**
-     * Root node.
+     * Children of the root node.
      */
-    private final XmlNode root;
+    private final List<XmlNode> children;
 
     /**
      * Parser that understands how to parse subnodes.
@@ -58,7 +58,18 @@ public final class Arguments {
      * @param begin Begin index.
      */
     public Arguments(final XmlNode root, final Parser parser, final int begin) {
-        this.root = root;
+        this(root.children().collect(Collectors.toList()), parser, begin);
+    }
+
+    /**
+     * Constructor.
+     * Added for efficiency to receive children nodes only once.
+     * @param children Children of the root node.
+     * @param parser Parser that understands how to parse subnodes.
+     * @param begin Begin index.
+     */
+    public Arguments(final List<XmlNode> children, final Parser parser, final int begin) {
+        this.children = children;
         this.parser = parser;
         this.begin = begin;
     }
@@ -68,10 +79,9 @@ public final class Arguments {
      * @return List of arguments.
      */
     public List<AstNode> toList() {
-        final List<XmlNode> all = this.root.children().collect(Collectors.toList());
         final List<AstNode> arguments;
-        if (all.size() > this.begin) {
-            arguments = all.subList(this.begin, all.size())
+        if (this.children.size() > this.begin) {
+            arguments = this.children.subList(this.begin, this.children.size())
                 .stream()
                 .map(this.parser::parse)
                 .collect(Collectors.toList());
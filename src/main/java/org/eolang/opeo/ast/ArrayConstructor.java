@@ -28,14 +28,12 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Array constructor.
@@ -79,12 +77,16 @@ public final class ArrayConstructor implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        final Directives directives = new Directives();
-        directives.add("o")
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o")
             .attr("base", ".array-node")
-            .append(new DirectivesData(this.atype))
-            .append(this.size.toXmir());
-        return directives.up();
+            .append(new Data(this.atype));
+        this.size.write(sink);
+        sink.up();
     }
 
     @Override
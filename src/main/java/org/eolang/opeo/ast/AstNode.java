@@ -56,6 +56,11 @@ public interface AstNode extends Xmir {
             return Collections.emptyList();
         }
 
+        @Override
+        public void write(final XmirSink sink) {
+            // Nothing to write.
+        }
+
         @Override
         public Type type() {
             return Type.VOID_TYPE;
@@ -32,7 +32,6 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import org.cactoos.map.MapEntry;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.xembly.Directives;
@@ -90,7 +89,12 @@ public final class Attributes implements Xmir {
 
     @Override
     public Directives toXmir() {
-        return new Directives(new DirectivesData(this.toString()));
+        return new Directives(new Data(this.toString()));
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.append(this.toXmir());
     }
 
     @Override
@@ -30,13 +30,11 @@ import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Cast node.
@@ -80,11 +78,14 @@ public final class Cast implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o").attr("base", "cast")
-            .append(this.origin.toXmir())
-            .append(new DirectivesData(this.target.getDescriptor()))
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", "cast");
+        this.origin.write(sink);
+        sink.append(new Data(this.target.getDescriptor())).up();
     }
 
     @Override
@@ -26,14 +26,12 @@ package org.eolang.opeo.ast;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Check if the value is of the given type.
@@ -72,10 +70,14 @@ public final class CheckCast implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o").attr("base", "checkcast")
-            .append(new DirectivesData(this.ctype))
-            .append(this.value.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", "checkcast").append(new Data(this.ctype));
+        this.value.write(sink);
+        sink.up();
     }
 
     @Override
@@ -31,7 +31,6 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Access to a static field.
@@ -74,11 +73,14 @@ public final class ClassField implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o")
-            .attr("base", "static-field")
-            .append(this.attributes.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", "static-field");
+        this.attributes.write(sink);
+        sink.up();
     }
 
     @Override
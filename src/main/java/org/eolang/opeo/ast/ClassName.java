@@ -26,7 +26,6 @@ package org.eolang.opeo.ast;
 import java.util.Collections;
 import java.util.List;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
@@ -78,7 +77,12 @@ public final class ClassName implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new DirectivesData(this.name);
+        return new Data(this.name);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.append(this.toXmir());
     }
 
     @Override
@@ -28,12 +28,10 @@ import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.jeo.representation.DataType;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Constant.
@@ -92,9 +90,14 @@ public final class Constant implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o")
             .attr("base", "load-constant")
-            .append(new DirectivesData(this.value))
+            .append(new Data(this.value))
             .up();
     }
 
@@ -34,7 +34,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Constructor output node.
@@ -114,11 +113,46 @@ public final class Constructor implements AstNode, Typed {
      * @param parser Parser that understands how to parse subnodes.
      */
     public Constructor(final XmlNode node, final Parser parser) {
-        this(
-            Constructor.xtarget(node, parser),
-            Constructor.xattrs(node, parser),
-            new Arguments(node, parser, 2).toList()
-        );
+        this(node.children().collect(Collectors.toList()), parser);
+    }
+
+    /**
+     * Constructor.
+     * Added for efficiency to receive children nodes only once.
+     * @param children Children of the xmir representation of constructor.
+     * @param parser Parser that understands how to parse subnodes.
+     */
+    public Constructor(final List<XmlNode> children, final Parser parser) {
+        this(parser.parse(children.get(0)), children, parser);
+    }
+
+    /**
+     * Constructor.
+     * The target is parsed before the arguments, since arguments may refer to it.
+     * @param ctype Constructor type
+     * @param children Children of the xmir representation of constructor.
+     * @param parser Parser that understands how to parse subnodes.
+     */
+    private Constructor(
+        final AstNode ctype,
+        final List<XmlNode> children,
+        final Parser parser
+    ) {
+        this(ctype, new Arguments(children, parser, 2).toList(), new Attributes(children.get(1)));
+    }
+
+    /**
+     * Constructor.
+     * @param ctype Constructor type
+     * @param arguments Constructor arguments, parsed only once
+     * @param attributes Constructor attributes without the arguments in the descriptor
+     */
+    private Constructor(
+        final AstNode ctype,
+        final List<AstNode> arguments,
+        final Attributes attributes
+    ) {
+        this(ctype, Constructor.xattrs(attributes, arguments), arguments);
     }
 
     /**
@@ -139,13 +173,16 @@ public final class Constructor implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        final Directives directives = new Directives();
-        directives.add("o")
-            .attr("base", ".new")
-            .append(this.ctype.toXmir())
-            .append(this.attributes.toXmir());
-        this.arguments.stream().map(AstNode::toXmir).forEach(directives::append);
-        return directives.up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".new");
+        this.ctype.write(sink);
+        this.attributes.write(sink);
+        this.arguments.forEach(argument -> argument.write(sink));
+        sink.up();
     }
 
     @Override
@@ -195,35 +232,17 @@ public final class Constructor implements AstNode, Typed {
     }
 
     /**
-     * Get attributes from XML node.
-     * @param node XML node.
-     * @param parser Parser.
+     * Put the arguments into the descriptor of attributes.
+     * @param attrs Attributes parsed from XML node.
+     * @param arguments Constructor arguments.
      * @return Attributes.
-     * @todo #316:90min Refactor {@link Constructor#xattrs(XmlNode, Parser)} method.
+     * @todo #316:90min Refactor {@link Constructor#xattrs(Attributes, List)} method.
      *  It is too complex and hard to understand.
      *  We need to refactor it to make it more readable and maintainable.
      *  As you can see here we create several Attributes classes which looks strange.
      */
-    private static Attributes xattrs(final XmlNode node, final Parser parser) {
-        final Attributes attrs = new Attributes(
-            node.children().collect(Collectors.toList()).get(1)
-        );
-        attrs.descriptor(
-            new ConstructorDescriptor(
-                attrs.descriptor(),
-                new Arguments(node, parser, 2).toList()
-            ).toString()
-        );
+    private static Attributes xattrs(final Attributes attrs, final List<AstNode> arguments) {
+        attrs.descriptor(new ConstructorDescriptor(attrs.descriptor(), arguments).toString());
         return attrs;
     }
-
-    /**
-     * Get target node.
-     * @param node Constructor node.
-     * @param parser Parser, which can extract AstNode from XmlNode.
-     * @return Target node.
-     */
-    private static AstNode xtarget(final XmlNode node, final Parser parser) {
-        return parser.parse(node.children().collect(Collectors.toList()).get(0));
-    }
 }
@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import java.util.Iterator;
+import lombok.ToString;
+import org.eolang.jeo.representation.HexData;
+import org.objectweb.asm.Handle;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Data object in XMIR.
+ * The same as jeo data object, but the "line" attribute is derived from the
+ * data itself instead of being random, so decompiling the same class twice
+ * gives the same XMIR.
+ * @since 0.5
+ */
+@ToString
+final class Data implements Iterable<Directive> {
+
+    /**
+     * Data.
+     */
+    private final HexData data;
+
+    /**
+     * Name.
+     */
+    private final String name;
+
+    /**
+     * Constructor.
+     * @param data Data.
+     * @param <T> Data type.
+     */
+    <T> Data(final T data) {
+        this("", data);
+    }
+
+    /**
+     * Constructor.
+     * @param name Name.
+     * @param data Data.
+     * @param <T> Data type.
+     */
+    <T> Data(final String name, final T data) {
+        this.data = new HexData(data);
+        this.name = name;
+    }
+
+    /**
+     * Opcode operand in XMIR.
+     * Method handles are written the same way jeo writes them.
+     * @param operand Raw operand.
+     * @return Operand directives.
+     */
+    static Iterable<Directive> operand(final Object operand) {
+        final Iterable<Directive> result;
+        if (operand instanceof Label) {
+            result = ((Label) operand).toXmir();
+        } else if (operand instanceof Handle) {
+            final Handle handle = (Handle) operand;
+            result = new Directives()
+                .add("o")
+                .attr("base", "handle")
+                .append(new Data(handle.getTag()))
+                .append(new Data(handle.getOwner()))
+                .append(new Data(handle.getName()))
+                .append(new Data(handle.getDesc()))
+                .append(new Data(handle.isInterface()))
+                .up();
+        } else {
+            result = new Data(operand);
+        }
+        return result;
+    }
+
+    @Override
+    public Iterator<Directive> iterator() {
+        try {
+            final String type = this.data.type();
+            final String value = this.data.value();
+            final Directives directives = new Directives().add("o")
+                .attr("base", type)
+                .attr("data", "bytes")
+                .attr("line", (type + value).hashCode() & Integer.MAX_VALUE);
+            if (!this.name.isEmpty()) {
+                directives.attr("name", this.name);
+            }
+            return directives.set(value).up().iterator();
+        } catch (final IllegalArgumentException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to create directives for %s", this), exception
+            );
+        }
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.xembly.Directive;
+import org.xembly.Directives;
+
+/**
+ * Sink that collects Xembly directives.
+ * It keeps {@link Xmir#toXmir()} working for the nodes that write their XMIR
+ * to a sink: all the directives are collected into a single flat list,
+ * without copying directives of children into their parents.
+ * @since 0.5
+ */
+public final class DirectivesSink implements XmirSink {
+
+    /**
+     * Collected directives.
+     */
+    private final Directives directives;
+
+    /**
+     * Names of the objects already written.
+     */
+    private final Set<String> names;
+
+    /**
+     * Constructor.
+     */
+    public DirectivesSink() {
+        this(new Directives());
+    }
+
+    /**
+     * Constructor.
+     * @param directives Directives to add to.
+     */
+    public DirectivesSink(final Directives directives) {
+        this.directives = directives;
+        this.names = new HashSet<>(0);
+    }
+
+    /**
+     * Write the node and return all the collected directives.
+     * @param node Node to write.
+     * @return Directives.
+     */
+    public Directives written(final Xmir node) {
+        node.write(this);
+        return this.directives;
+    }
+
+    @Override
+    public XmirSink add(final String name) {
+        this.directives.add(name);
+        return this;
+    }
+
+    @Override
+    public XmirSink attr(final String name, final Object value) {
+        this.directives.attr(name, value);
+        return this;
+    }
+
+    @Override
+    public XmirSink up() {
+        this.directives.up();
+        return this;
+    }
+
+    @Override
+    public XmirSink append(final Iterable<Directive> directives) {
+        this.directives.append(directives);
+        return this;
+    }
+
+    @Override
+    public boolean fresh(final String name) {
+        return this.names.add(name);
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xembly.Directive;
+import org.xembly.Xembler;
+
+/**
+ * Sink that builds DOM in place.
+ * Elements are added right to the given node of the document,
+ * so there is no need to import them from another document later.
+ * @since 0.5
+ */
+public final class DomSink implements XmirSink {
+
+    /**
+     * Document that owns all the nodes.
+     */
+    private final Document doc;
+
+    /**
+     * Names of the objects already written.
+     */
+    private final Set<String> names;
+
+    /**
+     * Current node.
+     */
+    private Node cursor;
+
+    /**
+     * Constructor.
+     * @param node Node to add elements to.
+     */
+    public DomSink(final Node node) {
+        this(DomSink.owner(node), node);
+    }
+
+    /**
+     * Constructor.
+     * @param doc Document that owns all the nodes.
+     * @param cursor Current node.
+     */
+    private DomSink(final Document doc, final Node cursor) {
+        this.doc = doc;
+        this.cursor = cursor;
+        this.names = new HashSet<>(0);
+    }
+
+    @Override
+    public XmirSink add(final String name) {
+        this.cursor = this.cursor.appendChild(this.doc.createElement(name));
+        return this;
+    }
+
+    @Override
+    public XmirSink attr(final String name, final Object value) {
+        ((Element) this.cursor).setAttribute(name, value.toString());
+        return this;
+    }
+
+    @Override
+    public XmirSink up() {
+        this.cursor = this.cursor.getParentNode();
+        return this;
+    }
+
+    @Override
+    public XmirSink append(final Iterable<Directive> directives) {
+        if (directives.iterator().hasNext()) {
+            new Xembler(directives).applyQuietly(this.cursor);
+        }
+        return this;
+    }
+
+    @Override
+    public boolean fresh(final String name) {
+        return this.names.add(name);
+    }
+
+    /**
+     * Document of the node.
+     * @param node Node.
+     * @return Document.
+     */
+    private static Document owner(final Node node) {
+        final Document result;
+        if (node instanceof Document) {
+            result = (Document) node;
+        } else {
+            result = node.getOwnerDocument();
+        }
+        return result;
+    }
+}
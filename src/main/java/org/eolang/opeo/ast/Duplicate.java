@@ -23,21 +23,20 @@
  */
 package org.eolang.opeo.ast;
 
-import java.security.SecureRandom;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Random;
-import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Duplicate.
  * This class represents the DUP instruction in the JVM bytecode.
+ * The node is stateless: the same node always gives the same XMIR and opcodes.
+ * When it is written to a sink several times, only the first time it is written
+ * as a definition and then as a reference by its alias.
  * @since 0.2
  */
 public final class Duplicate implements AstNode, Typed {
@@ -48,72 +47,45 @@ public final class Duplicate implements AstNode, Typed {
      */
     private final String alias;
 
-    /**
-     * Flag to indicate if the node was compiled.
-     */
-    private final AtomicBoolean compiled;
-
-    /**
-     * Flag to indicate if the node was decompiled.
-     */
-    private final AtomicBoolean decompiled;
-
     /**
      * The original node which was duplicated.
      */
     private final AtomicReference<AstNode> original;
 
     /**
-     * Constructor.
-     * @param original The original node to duplicate.
+     * Whether this node is just a reference to the duplicated node defined before.
      */
-    public Duplicate(final AstNode original) {
-        this(
-            Duplicate.randomName(),
-            new AtomicBoolean(false),
-            new AtomicBoolean(false),
-            new AtomicReference<>(original)
-        );
-    }
+    private final boolean ref;
 
     /**
      * Constructor.
      * @param alias Reference name that will be used to refer to this node.
      * @param original The original node to duplicate.
      */
-    Duplicate(final String alias, final AstNode original) {
-        this(
-            alias,
-            new AtomicBoolean(false),
-            new AtomicBoolean(false),
-            new AtomicReference<>(original)
-        );
+    public Duplicate(final String alias, final AstNode original) {
+        this(alias, new AtomicReference<>(original), false);
     }
 
     /**
      * Constructor.
      * @param alias Reference name that will be used to refer to this node.
-     * @param compiled Flag to indicate if the node was compiled.
-     * @param decompiled Flag to indicate if the node was decompiled.
      * @param original The original node to duplicate.
-     * @checkstyle ParameterNumberCheck (5 lines)
+     * @param ref Whether this node is just a reference to the duplicated node.
      */
-    Duplicate(
+    private Duplicate(
         final String alias,
-        final AtomicBoolean compiled,
-        final AtomicBoolean decompiled,
-        final AtomicReference<AstNode> original
+        final AtomicReference<AstNode> original,
+        final boolean ref
     ) {
         this.alias = alias;
-        this.compiled = compiled;
-        this.decompiled = decompiled;
         this.original = original;
+        this.ref = ref;
     }
 
     @Override
     public List<AstNode> opcodes() {
         final List<AstNode> result;
-        if (this.compiled.getAndSet(true)) {
+        if (this.ref) {
             result = Collections.emptyList();
         } else {
             result = new ArrayList<>(3);
@@ -125,23 +97,25 @@ public final class Duplicate implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        final int line = new Random().nextInt(Integer.MAX_VALUE);
-        final Iterable<Directive> result;
-        if (this.decompiled.getAndSet(true)) {
-            result = new Directives().add("o")
-                .attr("base", this.alias)
-                .attr("line", line)
-                .up();
-        } else {
-            result = new Directives()
-                .add("o")
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        final int line = this.alias.hashCode() & Integer.MAX_VALUE;
+        if (sink.fresh(this.alias)) {
+            sink.add("o")
                 .attr("base", "duplicated")
                 .attr("name", this.alias)
+                .attr("line", line);
+            this.original.get().write(sink);
+            sink.up();
+        } else {
+            sink.add("o")
+                .attr("base", this.alias)
                 .attr("line", line)
-                .append(this.original.get().toXmir())
                 .up();
         }
-        return result;
     }
 
     @Override
@@ -170,16 +144,12 @@ public final class Duplicate implements AstNode, Typed {
     }
 
     /**
-     * Generates random string alias.
-     * @return Random string.
+     * Reference to this node.
+     * The reference shares the original node, but doesn't produce any opcodes,
+     * since the value is already on the stack after the duplicated node.
+     * @return Reference.
      */
-    private static String randomName() {
-        final char[] alphabet = "abcdefghijklmnopqrstuvwxyz".toCharArray();
-        final StringBuilder name = new StringBuilder(14);
-        final SecureRandom random = new SecureRandom();
-        for (int index = 0; index < 10; ++index) {
-            name.append(alphabet[random.nextInt(alphabet.length)]);
-        }
-        return String.format("ref-%s", name);
+    public Duplicate reference() {
+        return new Duplicate(this.alias, this.original, true);
     }
 }
@@ -28,14 +28,12 @@ import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Dynamic invocation.
@@ -173,14 +171,17 @@ public final class DynamicInvocation implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        final Directives directives = new Directives().add("o")
-            .attr("base", String.format(".%s", this.name))
-            .append(this.factory.toXmir())
-            .append(this.attributes.toXmir());
-        DynamicInvocation.xmirArgs(this.farguments).stream().map(Xmir::toXmir)
-            .forEach(directives::append);
-        this.arguments.stream().map(AstNode::toXmir).forEach(directives::append);
-        return directives.up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", String.format(".%s", this.name));
+        this.factory.write(sink);
+        this.attributes.write(sink);
+        DynamicInvocation.xmirArgs(this.farguments).forEach(sink::append);
+        this.arguments.forEach(argument -> argument.write(sink));
+        sink.up();
     }
 
     @Override
@@ -274,14 +275,14 @@ public final class DynamicInvocation implements AstNode, Typed {
      * @param args Arguments.
      * @return XMIR arguments.
      */
-    private static List<Xmir> xmirArgs(final List<Object> args) {
+    private static List<Iterable<Directive>> xmirArgs(final List<Object> args) {
         return args.stream().map(
             node -> {
-                final Xmir result;
+                final Iterable<Directive> result;
                 if (node instanceof org.objectweb.asm.Handle) {
-                    result = new Handle((org.objectweb.asm.Handle) node);
+                    result = new Handle((org.objectweb.asm.Handle) node).toXmir();
                 } else {
-                    result = () -> new DirectivesData(node);
+                    result = new Data(node);
                 }
                 return result;
             }
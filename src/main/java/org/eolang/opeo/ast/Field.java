@@ -33,7 +33,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Access to a field.
@@ -77,12 +76,15 @@ public final class Field implements Xmir, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o")
-            .attr("base", String.format(".%s", this.attributes.name()))
-            .append(this.inst.toXmir())
-            .append(this.attributes.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", String.format(".%s", this.attributes.name()));
+        this.inst.write(sink);
+        this.attributes.write(sink);
+        sink.up();
     }
 
     @Override
@@ -30,7 +30,6 @@ import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Field assignment.
@@ -77,11 +76,15 @@ public final class FieldAssignment implements AstNode {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", ".write-field")
-            .append(this.field.toXmir())
-            .append(this.value.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".write-field");
+        this.field.write(sink);
+        this.value.write(sink);
+        sink.up();
     }
 
     @Override
@@ -30,7 +30,6 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Field retrieval.
@@ -92,10 +91,14 @@ public final class FieldRetrieval implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", ".get-field")
-            .append(this.field.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".get-field");
+        this.field.write(sink);
+        sink.up();
     }
 
     @Override
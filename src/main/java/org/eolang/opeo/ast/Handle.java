@@ -27,11 +27,9 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Method or field reference.
@@ -137,7 +135,12 @@ public final class Handle implements Xmir {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o")
             .attr(
                 "base",
                 String.format(
@@ -146,9 +149,9 @@ public final class Handle implements Xmir {
                     this.name
                 )
             )
-            .append(new DirectivesData("", this.tag))
-            .append(new DirectivesData("", this.desc))
-            .append(new DirectivesData("", this.itf))
+            .append(new Data("", this.tag))
+            .append(new Data("", this.desc))
+            .append(new Data("", this.itf))
             .up();
     }
 
@@ -29,12 +29,9 @@ import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.HexData;
-import org.eolang.jeo.representation.xmir.AllLabels;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * If ast node.
@@ -69,20 +66,6 @@ public final class If implements AstNode {
         this(If.xfirst(node, search), If.xsecond(node, search), If.xtarget(node));
     }
 
-    /**
-     * Constructor.
-     * @param first First value.
-     * @param second Second value.
-     * @param target Target label.
-     */
-    public If(
-        final AstNode first,
-        final AstNode second,
-        final org.objectweb.asm.Label target
-    ) {
-        this(first, second, new Label(new HexData(new AllLabels().uid(target)).value()));
-    }
-
     /**
      * Constructor.
      * @param first First value.
@@ -102,21 +85,25 @@ public final class If implements AstNode {
                 this.first.opcodes().stream(),
                 this.second.opcodes().stream()
             ),
-            Stream.of(new Opcode(Opcodes.IF_ICMPGT, this.target.toAsmLabel()))
+            Stream.of(new Opcode(Opcodes.IF_ICMPGT, this.target))
         ).collect(Collectors.toList());
     }
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o").attr("base", ".if")
-            .add("o").attr("base", ".gt")
-            .append(this.first.toXmir())
-            .append(this.second.toXmir())
-            .up()
-            .append(this.target.toXmir())
-            .add("o").attr("base", "nop").up()
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".if");
+        sink.add("o").attr("base", ".gt");
+        this.first.write(sink);
+        this.second.write(sink);
+        sink.up();
+        this.target.write(sink);
+        sink.add("o").attr("base", "nop").up();
+        sink.up();
     }
 
     /**
@@ -35,7 +35,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Interface invocation.
@@ -88,13 +87,37 @@ public final class InterfaceInvocation implements AstNode, Typed {
      * @param parser Parser, which can extract AstNode from XmlNode.
      */
     public InterfaceInvocation(final XmlNode node, final Parser parser) {
+        this(node.children().collect(Collectors.toList()), parser);
+    }
+
+    /**
+     * Constructor.
+     * Added for efficiency to receive children nodes and attributes only once.
+     * @param children XML node children.
+     * @param attributes Method attributes parsed from the second child.
+     * @param parser Parser, which can extract AstNode from XmlNode.
+     */
+    public InterfaceInvocation(
+        final List<XmlNode> children,
+        final Attributes attributes,
+        final Parser parser
+    ) {
         this(
-            InterfaceInvocation.xsource(node, parser),
-            new Attributes(node.children().collect(Collectors.toList()).get(1)),
-            new Arguments(node, parser, 2).toList()
+            parser.parse(children.get(0)),
+            attributes,
+            new Arguments(children, parser, 2).toList()
         );
     }
 
+    /**
+     * Constructor.
+     * @param children XML node children.
+     * @param parser Parser, which can extract AstNode from XmlNode.
+     */
+    private InterfaceInvocation(final List<XmlNode> children, final Parser parser) {
+        this(children, new Attributes(children.get(1)), parser);
+    }
+
     /**
      * Constructor.
      * @param source Source or target on which the invocation is performed
@@ -127,6 +150,11 @@ public final class InterfaceInvocation implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
         if (Objects.isNull(this.source)) {
             throw new IllegalArgumentException(
                 String.format(
@@ -135,13 +163,11 @@ public final class InterfaceInvocation implements AstNode, Typed {
                 )
             );
         }
-        final Directives directives = new Directives();
-        directives.add("o")
-            .attr("base", String.format(".%s", this.attrs.name()))
-            .append(this.source.toXmir())
-            .append(this.attrs.toXmir());
-        this.arguments.stream().map(AstNode::toXmir).forEach(directives::append);
-        return directives.up();
+        sink.add("o").attr("base", String.format(".%s", this.attrs.name()));
+        this.source.write(sink);
+        this.attrs.write(sink);
+        this.arguments.forEach(argument -> argument.write(sink));
+        sink.up();
     }
 
     @Override
@@ -173,14 +199,4 @@ public final class InterfaceInvocation implements AstNode, Typed {
     public Type type() {
         return Type.getReturnType(this.attrs.descriptor());
     }
-
-    /**
-     * Extracts source from the node.
-     * @param node XML node.
-     * @param parser Parser.
-     * @return Source.
-     */
-    private static AstNode xsource(final XmlNode node, final Parser parser) {
-        return parser.parse(node.children().collect(Collectors.toList()).get(0));
-    }
 }
@@ -35,7 +35,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Invocation output node.
@@ -66,13 +65,37 @@ public final class Invocation implements AstNode, Typed {
      * @param parser Parser for child nodes.
      */
     public Invocation(final XmlNode node, final Parser parser) {
+        this(node.children().collect(Collectors.toList()), parser);
+    }
+
+    /**
+     * Constructor.
+     * Added for efficiency to receive children nodes and attributes only once.
+     * @param children XML node children.
+     * @param attributes Method attributes parsed from the second child.
+     * @param parser Parser for child nodes.
+     */
+    public Invocation(
+        final List<XmlNode> children,
+        final Attributes attributes,
+        final Parser parser
+    ) {
         this(
-            parser.parse(node.children().collect(Collectors.toList()).get(0)),
-            new Attributes(node.children().collect(Collectors.toList()).get(1)),
-            new Arguments(node, parser, 2).toList()
+            parser.parse(children.get(0)),
+            attributes,
+            new Arguments(children, parser, 2).toList()
         );
     }
 
+    /**
+     * Constructor.
+     * @param children XML node children.
+     * @param parser Parser for child nodes.
+     */
+    private Invocation(final List<XmlNode> children, final Parser parser) {
+        this(children, new Attributes(children.get(1)), parser);
+    }
+
     /**
      * Constructor.
      * @param source Source or target on which the invocation is performed
@@ -150,6 +173,11 @@ public final class Invocation implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
         if (Objects.isNull(this.source)) {
             throw new IllegalArgumentException(
                 String.format(
@@ -158,14 +186,11 @@ public final class Invocation implements AstNode, Typed {
                 )
             );
         }
-        final Directives directives = new Directives();
-        directives.add("o")
-            .attr("base", String.format(".%s", this.attributes.name()))
-            .append(this.source.toXmir())
-            .append(this.attributes.toXmir());
-        this.arguments.stream().map(AstNode::toXmir)
-            .forEach(directives::append);
-        return directives.up();
+        sink.add("o").attr("base", String.format(".%s", this.attributes.name()));
+        this.source.write(sink);
+        this.attributes.write(sink);
+        this.arguments.forEach(argument -> argument.write(sink));
+        sink.up();
     }
 
     @Override
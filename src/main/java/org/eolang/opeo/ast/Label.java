@@ -23,18 +23,21 @@
  */
 package org.eolang.opeo.ast;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesData;
-import org.eolang.jeo.representation.xmir.AllLabels;
+import org.eolang.jeo.representation.HexData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.xembly.Directive;
+import org.xembly.Directives;
 
 /**
  * Label ast node.
+ * The label is written by its identifier right away, without ASM labels,
+ * so it doesn't depend on the label cache of jeo, which is per-thread.
  * @since 0.1
  */
 @ToString
@@ -64,20 +67,29 @@ public final class Label implements AstNode {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new DirectivesData(new AllLabels().label(this.identifier));
-    }
-
-    @Override
-    public List<AstNode> opcodes() {
-        return Collections.singletonList(this);
+        return new Directives()
+            .add("o")
+            .attr("base", "label")
+            .attr("data", "bytes")
+            .set(this.hex())
+            .up();
     }
 
     /**
-     * Convert to ASM label.
-     * @return ASM label.
+     * Hex representation of the identifier, exactly as it is written to XMIR.
+     * @return Hex string.
      */
-    org.objectweb.asm.Label toAsmLabel() {
-        return new AllLabels().label(this.identifier);
+    public String hex() {
+        return new HexData(this.identifier.getBytes(StandardCharsets.UTF_8)).value();
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.append(this.toXmir());
     }
 
+    @Override
+    public List<AstNode> opcodes() {
+        return Collections.singletonList(this);
+    }
 }
@@ -33,7 +33,6 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.decompilation.agents.InvokespecialAgent;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Node with an attached label.
@@ -95,11 +94,15 @@ public final class Labeled implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o").attr("base", "labeled")
-            .append(this.node.toXmir())
-            .append(this.label.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", "labeled");
+        this.node.write(sink);
+        this.label.write(sink);
+        sink.up();
     }
 
     @Override
@@ -28,7 +28,6 @@ import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
@@ -155,7 +154,12 @@ public final class Literal implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new DirectivesData(this.lvalue);
+        return new Data(this.lvalue);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.append(this.toXmir());
     }
 
     @Override
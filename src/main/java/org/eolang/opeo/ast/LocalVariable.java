@@ -31,7 +31,6 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * A local variable.
@@ -93,10 +92,14 @@ public final class LocalVariable implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", String.format("%s%d", LocalVariable.PREFIX, this.identifier))
-            .append(this.attributes.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", String.format("%s%d", LocalVariable.PREFIX, this.identifier));
+        this.attributes.write(sink);
+        sink.up();
     }
 
     @Override
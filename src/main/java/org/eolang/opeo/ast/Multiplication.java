@@ -31,7 +31,6 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Multiplication.
@@ -70,11 +69,15 @@ public final class Multiplication implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", "times")
-            .append(this.left.toXmir())
-            .append(this.right.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", "times");
+        this.left.write(sink);
+        this.right.write(sink);
+        sink.up();
     }
 
     @Override
@@ -27,13 +27,11 @@ import java.util.Collections;
 import java.util.List;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesData;
 import org.eolang.jeo.representation.xmir.HexString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * This class represents NEW instruction in the JVM bytecode.
@@ -71,10 +69,14 @@ public final class NewAddress implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o")
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o")
             .attr("base", ".new-type")
-            .append(new DirectivesData(this.ctype))
+            .append(new Data(this.ctype))
             .up();
     }
 
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.ToString;
+import org.eolang.jeo.representation.HexData;
+
+/**
+ * Numbering of opcode names and labels.
+ * It is set once per run: either all the opcode names get numbers, like 'return-1',
+ * or none of them. Numbers are counted per method, starting from one, so the names
+ * depend only on the method itself and not on what was processed before it or
+ * concurrently with it.
+ * ASM labels of the method are numbered the same way, so they never go through
+ * the label cache of jeo, which is per-thread and never cleared.
+ * @since 0.5
+ */
+@ToString
+public final class Numbering {
+
+    /**
+     * Do we add numbers to opcode names?
+     */
+    private final boolean enabled;
+
+    /**
+     * Last number given in the method.
+     */
+    @ToString.Exclude
+    private final AtomicInteger last;
+
+    /**
+     * Labels of the method by their ASM labels.
+     */
+    @ToString.Exclude
+    private final Map<org.objectweb.asm.Label, Label> labels;
+
+    /**
+     * Constructor.
+     * @param enabled Do we add numbers to opcode names?
+     */
+    public Numbering(final boolean enabled) {
+        this(enabled, new AtomicInteger(0), new HashMap<>(0));
+    }
+
+    /**
+     * Constructor.
+     * @param enabled Do we add numbers to opcode names?
+     * @param last Last number given in the method.
+     * @param labels Labels of the method by their ASM labels.
+     */
+    private Numbering(
+        final boolean enabled,
+        final AtomicInteger last,
+        final Map<org.objectweb.asm.Label, Label> labels
+    ) {
+        this.enabled = enabled;
+        this.last = last;
+        this.labels = labels;
+    }
+
+    /**
+     * The same numbering for the next method, counted from the start.
+     * @return Numbering.
+     */
+    public Numbering method() {
+        return new Numbering(this.enabled);
+    }
+
+    /**
+     * Give the opcode the next number of the method, if numbering is enabled.
+     * @param opcode Opcode.
+     * @return Opcode with the number or without any.
+     */
+    public Opcode apply(final Opcode opcode) {
+        final Opcode result;
+        if (this.enabled) {
+            result = opcode.numbered(this.last.incrementAndGet());
+        } else {
+            result = opcode.numbered(0);
+        }
+        return result;
+    }
+
+    /**
+     * Label of the method for the ASM label.
+     * The same ASM label always gets the same label within the method.
+     * @param label ASM label.
+     * @return Label.
+     */
+    public Label label(final org.objectweb.asm.Label label) {
+        return this.labels.computeIfAbsent(
+            label,
+            key -> new Label(
+                new HexData(String.format("label-%d", this.labels.size() + 1)).value()
+            )
+        );
+    }
+}
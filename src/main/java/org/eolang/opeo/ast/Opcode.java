@@ -25,21 +25,21 @@ package org.eolang.opeo.ast;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
-import java.util.concurrent.atomic.AtomicBoolean;
-import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.representation.directives.DirectivesInstruction;
 import org.eolang.jeo.representation.xmir.XmlInstruction;
 import org.eolang.jeo.representation.xmir.XmlNode;
-import org.eolang.jeo.representation.xmir.XmlOperand;
 import org.eolang.opeo.Instruction;
 import org.xembly.Directive;
+import org.xembly.Directives;
 
 /**
  * Opcode output node.
+ * Operands might contain {@link Label} nodes, which are written by their
+ * identifiers instead of ASM labels.
+ * The name of the opcode might have a number, like 'return-1', which is given
+ * by {@link Numbering} of the method.
  * @since 0.1
  */
 @ToString
@@ -47,9 +47,10 @@ import org.xembly.Directive;
 public final class Opcode implements AstNode {
 
     /**
-     * Opcodes counting.
+     * Line of all the opcodes.
+     * jeo writes the same constant line for all the instructions, so we do too.
      */
-    private static final AtomicBoolean COUNTING = new AtomicBoolean(true);
+    private static final String LINE = "999";
 
     /**
      * Opcode.
@@ -62,14 +63,13 @@ public final class Opcode implements AstNode {
     private final List<Object> operands;
 
     /**
-     * Opcodes counting.
-     * Do we add number to opcode name or not?
-     * if true then we add number to opcode name:
-     *   RETURN -> RETURN-1
-     * if false then we do not add number to opcode name:
-     *   RETURN -> RETURN
+     * Number of the opcode name or zero if the name is without number.
+     * The number doesn't change the opcode itself, only its name:
+     *   RETURN with number 1 -> return-1
+     *   RETURN with number 0 -> return
      */
-    private final boolean counting;
+    @EqualsAndHashCode.Exclude
+    private final int number;
 
     /**
      * Constructor.
@@ -80,22 +80,13 @@ public final class Opcode implements AstNode {
         this(opcode, Arrays.asList(operands));
     }
 
-    /**
-     * Constructor.
-     * @param opcode Opcode
-     * @param counting Opcodes counting
-     */
-    public Opcode(final int opcode, final boolean counting) {
-        this(opcode, Collections.emptyList(), counting);
-    }
-
     /**
      * Constructor.
      * @param opcode Opcode
      * @param operands Opcode operands
      */
     public Opcode(final int opcode, final List<Object> operands) {
-        this(opcode, operands, Opcode.COUNTING.get());
+        this(opcode, operands, 0);
     }
 
     /**
@@ -111,15 +102,13 @@ public final class Opcode implements AstNode {
      * @param instruction XMIR instruction.
      */
     public Opcode(final XmlInstruction instruction) {
-        this(
-            instruction.opcode(),
-            instruction.operands()
-                .stream()
-                .map(XmlOperand::asObject)
-                .collect(Collectors.toList())
-        );
+        this(instruction.opcode(), new Operands(instruction).toList());
     }
 
+    /**
+     * Constructor.
+     * @param instruction Instruction.
+     */
     public Opcode(final Instruction instruction) {
         this(instruction.opcode(), instruction.operands());
     }
@@ -128,17 +117,31 @@ public final class Opcode implements AstNode {
      * Constructor.
      * @param bytecode Bytecode
      * @param operands Opcode operands
-     * @param counting Opcodes counting
+     * @param number Number of the opcode name or zero.
      */
-    public Opcode(final int bytecode, final List<Object> operands, final boolean counting) {
+    private Opcode(final int bytecode, final List<Object> operands, final int number) {
         this.bytecode = bytecode;
         this.operands = new ArrayList<>(operands);
-        this.counting = counting;
+        this.number = number;
     }
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new DirectivesInstruction(this.bytecode, this.counting, this.operands.toArray());
+        final Directives directives = new Directives()
+            .add("o")
+            .attr("name", this.name())
+            .attr("line", Opcode.LINE)
+            .attr("base", "opcode")
+            .append(new Data(this.bytecode));
+        for (final Object operand : this.operands) {
+            directives.append(Data.operand(operand));
+        }
+        return directives.up();
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.append(this.toXmir());
     }
 
     @Override
@@ -189,15 +192,33 @@ public final class Opcode implements AstNode {
     }
 
     /**
-     * Disable opcodes counting.
-     * It is useful for tests.
-     * @todo #65:30min Remove public static method 'disableCounting()' from Opcode.
-     *  Currently it is used in tests. We should find another
-     *  way to disable opcodes counting in tests. When we find
-     *  the way to do it, we should remove this method.
+     * The same opcode with the given number of its name.
+     * Use {@link Numbering} to give numbers.
+     * @param num Number of the opcode name or zero if the name is without number.
+     * @return Opcode.
      */
-    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
-    public static void disableCounting() {
-        Opcode.COUNTING.set(false);
+    Opcode numbered(final int num) {
+        final Opcode result;
+        if (this.number == num) {
+            result = this;
+        } else {
+            result = new Opcode(this.bytecode, this.operands, num);
+        }
+        return result;
+    }
+
+    /**
+     * Opcode name with or without number.
+     * @return Opcode name.
+     */
+    private String name() {
+        final OpcodeName name = new OpcodeName(this.bytecode);
+        final String result;
+        if (this.number > 0) {
+            result = name.numbered(this.number);
+        } else {
+            result = name.simplified();
+        }
+        return result;
     }
 }
@@ -24,6 +24,7 @@
 package org.eolang.opeo.ast;
 
 import java.lang.reflect.Field;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Locale;
 import java.util.Map;
@@ -41,9 +42,15 @@ import org.objectweb.asm.Opcodes;
 public final class OpcodeName {
 
     /**
-     * Opcode names.
+     * Opcode names indexed by opcode.
+     * Bytecode operation codes fit into one byte, so the array is small and dense.
      */
-    private static final Map<Integer, String> NAMES = OpcodeName.init();
+    private static final String[] NAMES = OpcodeName.init();
+
+    /**
+     * Opcodes indexed by name.
+     */
+    private static final Map<String, Integer> CODES = OpcodeName.index(OpcodeName.NAMES);
 
     /**
      * Unknown opcode name.
@@ -60,17 +67,7 @@ public final class OpcodeName {
      * @param name Opcode name.
      */
     public OpcodeName(final String name) {
-        this(
-            OpcodeName.NAMES.entrySet()
-                .stream().filter(e -> e.getValue().equals(name.toLowerCase(Locale.ROOT)))
-                .findFirst()
-                .orElseThrow(
-                    () -> new IllegalArgumentException(
-                        String.format("Opcode name '%s' not found", name)
-                    )
-                )
-                .getKey()
-        );
+        this(OpcodeName.code(name));
     }
 
     /**
@@ -86,7 +83,23 @@ public final class OpcodeName {
      * @return Simplified opcode name.
      */
     public String simplified() {
-        return OpcodeName.NAMES.getOrDefault(this.opcode, OpcodeName.UNKNOWN);
+        final String result;
+        if (this.opcode >= 0 && this.opcode < OpcodeName.NAMES.length
+            && OpcodeName.NAMES[this.opcode] != null) {
+            result = OpcodeName.NAMES[this.opcode];
+        } else {
+            result = OpcodeName.UNKNOWN;
+        }
+        return result;
+    }
+
+    /**
+     * Get opcode name with number, the same as jeo gives.
+     * @param number Number of the opcode.
+     * @return Opcode name, like 'return-1A'.
+     */
+    public String numbered(final int number) {
+        return String.format("%s-%X", this.simplified(), number);
     }
 
     /**
@@ -97,16 +110,49 @@ public final class OpcodeName {
         return this.opcode;
     }
 
+    /**
+     * Find opcode by its name.
+     * @param name Opcode name.
+     * @return Opcode.
+     */
+    private static int code(final String name) {
+        final Integer result = OpcodeName.CODES.get(name.toLowerCase(Locale.ROOT));
+        if (result == null) {
+            throw new IllegalArgumentException(
+                String.format("Opcode name '%s' not found", name)
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Index opcodes by their names.
+     * @param names Opcode names indexed by opcode.
+     * @return Opcodes indexed by name.
+     */
+    private static Map<String, Integer> index(final String... names) {
+        final Map<String, Integer> res = new HashMap<>(names.length);
+        for (int code = 0; code < names.length; ++code) {
+            if (names[code] != null) {
+                res.putIfAbsent(names[code], code);
+            }
+        }
+        return Collections.unmodifiableMap(res);
+    }
+
     /**
      * Initialize opcode names.
-     * @return Opcode names.
+     * @return Opcode names indexed by opcode.
      */
-    private static Map<Integer, String> init() {
+    private static String[] init() {
         try {
-            final Map<Integer, String> res = new HashMap<>();
+            final String[] res = new String[256];
             for (final Field field : Opcodes.class.getFields()) {
                 if (field.getType() == int.class) {
-                    res.put(field.getInt(Opcodes.class), field.getName().toLowerCase(Locale.ROOT));
+                    final int code = field.getInt(Opcodes.class);
+                    if (code >= 0 && code < res.length) {
+                        res[code] = field.getName().toLowerCase(Locale.ROOT);
+                    }
                 }
             }
             return res;
@@ -23,29 +23,44 @@
  */
 package org.eolang.opeo.ast;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.eolang.jeo.representation.xmir.XmlNode;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xembly.Directives;
 import org.xembly.Xembler;
 
 /**
  * Utility class that transforms {@link AstNode} to a list of XmlNode`s.
  * See {@link org.eolang.jeo.representation.xmir.XmlNode}.
+ * All the opcodes are rendered in a single pass into one document,
+ * so there is no separate document for each opcode.
  * @since 0.1
  */
 public final class OpcodeNodes {
 
     /**
-     * Ast node.
+     * Ast nodes.
      */
-    private final AstNode node;
+    private final List<? extends AstNode> nodes;
 
     /**
      * Constructor.
      * @param node Ast node.
      */
     public OpcodeNodes(final AstNode node) {
-        this.node = node;
+        this(Collections.singletonList(node));
+    }
+
+    /**
+     * Constructor.
+     * @param nodes Ast nodes.
+     */
+    public OpcodeNodes(final List<? extends AstNode> nodes) {
+        this.nodes = nodes;
     }
 
     /**
@@ -53,12 +68,35 @@ public final class OpcodeNodes {
      * @return List of XmlNode`s.
      */
     public List<XmlNode> opcodes() {
-        return this.node.opcodes()
-            .stream()
-            .map(AstNode::toXmir)
-            .map(Xembler::new)
-            .map(Xembler::xmlQuietly)
-            .map(XmlNode::new)
-            .collect(Collectors.toList());
+        return OpcodeNodes.rendered(this.nodes.stream().flatMap(node -> node.opcodes().stream()));
+    }
+
+    /**
+     * Transform the nodes themselves, without splitting them into opcodes.
+     * @return List of XmlNode`s.
+     */
+    public List<XmlNode> nodes() {
+        return OpcodeNodes.rendered(this.nodes.stream());
+    }
+
+    /**
+     * Render all the nodes into one document.
+     * @param all Nodes to render.
+     * @return List of XmlNode`s, one for each node.
+     */
+    private static List<XmlNode> rendered(final Stream<? extends AstNode> all) {
+        final Directives dirs = new Directives().add("o");
+        all.map(AstNode::toXmir).forEach(dirs::append);
+        final NodeList children = new Xembler(dirs).domQuietly()
+            .getDocumentElement()
+            .getChildNodes();
+        final List<XmlNode> result = new ArrayList<>(children.getLength());
+        for (int idx = 0; idx < children.getLength(); ++idx) {
+            final Node child = children.item(idx);
+            if (child.getNodeType() == Node.ELEMENT_NODE) {
+                result.add(new XmlNode(child));
+            }
+        }
+        return result;
     }
 }
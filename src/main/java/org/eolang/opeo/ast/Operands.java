@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.xmir.XmlInstruction;
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.eolang.jeo.representation.xmir.XmlOperand;
+
+/**
+ * Operands of an XMIR instruction.
+ * Unlike {@link XmlOperand}, labels are read as {@link Label} nodes by their
+ * identifiers. So they never go through the label cache of jeo, which is
+ * per-thread and grows with each label it has ever seen.
+ * @since 0.5
+ */
+public final class Operands {
+
+    /**
+     * Instruction node.
+     */
+    private final XmlNode node;
+
+    /**
+     * Constructor.
+     * @param instruction XMIR instruction.
+     */
+    public Operands(final XmlInstruction instruction) {
+        this(instruction.toNode());
+    }
+
+    /**
+     * Constructor.
+     * @param node Instruction node.
+     */
+    public Operands(final XmlNode node) {
+        this.node = node;
+    }
+
+    /**
+     * All the operands.
+     * @return Operands.
+     */
+    public List<Object> toList() {
+        return this.node.children()
+            .skip(1)
+            .map(Operands::operand)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Read a single operand.
+     * @param operand Operand node.
+     * @return Operand.
+     */
+    private static Object operand(final XmlNode operand) {
+        final Object result;
+        if (operand.attribute("base").map("label"::equals).orElse(false)) {
+            result = new Label(operand);
+        } else {
+            result = new XmlOperand(operand).asObject();
+        }
+        return result;
+    }
+}
@@ -26,7 +26,6 @@ package org.eolang.opeo.ast;
 import lombok.EqualsAndHashCode;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Owner.
@@ -61,8 +60,12 @@ public final class Owner implements Xmir {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o")
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o")
             .attr("base", new PrefixedName(this.toString()).withPrefix())
             .up();
     }
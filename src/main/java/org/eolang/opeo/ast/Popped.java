@@ -29,7 +29,6 @@ import java.util.stream.Stream;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Popped.
@@ -66,10 +65,14 @@ public final class Popped implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o").attr("base", ".ignore-result")
-            .append(this.node.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".ignore-result");
+        this.node.write(sink);
+        sink.up();
     }
 
     @Override
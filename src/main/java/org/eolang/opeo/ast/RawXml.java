@@ -75,4 +75,9 @@ public final class RawXml implements AstNode {
             ).node()
         );
     }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.append(this.toXmir());
+    }
 }
@@ -31,7 +31,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Return statement.
@@ -71,11 +70,14 @@ public final class Return implements AstNode {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives()
-            .add("o")
-            .attr("base", "return")
-            .append(this.value.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", "return");
+        this.value.write(sink);
+        sink.up();
     }
 
     @Override
@@ -26,11 +26,9 @@ package org.eolang.opeo.ast;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
-import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Root node.
@@ -68,17 +66,24 @@ public final class Root implements AstNode {
 
     @Override
     public Iterable<Directive> toXmir() {
-        final Iterable<Directive> result;
-        if (this.children.isEmpty()) {
-            result = Collections.emptyList();
-        } else {
-            final Directives directives = new Directives();
-            directives.add("o").attr("base", "tuple").attr("star", "");
-            this.children.stream().map(AstNode::toXmir).forEach(directives::append);
-            directives.up();
-            result = directives;
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        if (!this.children.isEmpty()) {
+            sink.add("o").attr("base", "tuple").attr("star", "");
+            this.content(sink);
+            sink.up();
         }
-        return result;
+    }
+
+    /**
+     * Write children only, without the wrapping tuple.
+     * @param sink Sink to write to.
+     */
+    public void content(final XmirSink sink) {
+        this.children.forEach(child -> child.write(sink));
     }
 
     @Override
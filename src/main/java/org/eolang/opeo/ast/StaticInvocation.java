@@ -34,7 +34,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Static invocation ast node.
@@ -112,10 +111,28 @@ public final class StaticInvocation implements AstNode, Typed {
      * @param arguments Arguments
      */
     public StaticInvocation(final XmlNode node, final List<AstNode> arguments) {
+        this(node, node.children().collect(Collectors.toList()), arguments);
+    }
+
+    /**
+     * Constructor.
+     * Added for efficiency to receive children nodes and attributes only once.
+     * @param node XML node
+     * @param children XML node children
+     * @param attributes Method attributes parsed from the second child
+     * @param parser Parser that will be used to parse the child nodes of the invocation.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public StaticInvocation(
+        final XmlNode node,
+        final List<XmlNode> children,
+        final Attributes attributes,
+        final Parser parser
+    ) {
         this(
-            new Attributes(node.children().collect(Collectors.toList()).get(1)),
-            StaticInvocation.xowner(node),
-            arguments
+            attributes,
+            StaticInvocation.xowner(node, children),
+            new Arguments(children, parser, 2).toList()
         );
     }
 
@@ -128,6 +145,24 @@ public final class StaticInvocation implements AstNode, Typed {
         this(node, Arrays.asList(arguments));
     }
 
+    /**
+     * Constructor.
+     * @param node XML node
+     * @param children XML node children
+     * @param arguments Arguments
+     */
+    private StaticInvocation(
+        final XmlNode node,
+        final List<XmlNode> children,
+        final List<AstNode> arguments
+    ) {
+        this(
+            new Attributes(children.get(1)),
+            StaticInvocation.xowner(node, children),
+            arguments
+        );
+    }
+
     /**
      * Constructor.
      * @param attributes Method attributes
@@ -160,12 +195,16 @@ public final class StaticInvocation implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        final Directives directives = new Directives();
-        directives.add("o").attr("base", String.format(".%s", this.attributes.name()));
-        directives.append(this.owner.toXmir());
-        directives.append(this.attributes.toXmir());
-        this.args.stream().map(AstNode::toXmir).forEach(directives::append);
-        return directives.up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", String.format(".%s", this.attributes.name()));
+        this.owner.write(sink);
+        this.attributes.write(sink);
+        this.args.forEach(argument -> argument.write(sink));
+        sink.up();
     }
 
     @Override
@@ -192,11 +231,11 @@ public final class StaticInvocation implements AstNode, Typed {
     /**
      * Extracts owner from the node.
      * @param node XML node
+     * @param children XML node children
      * @return Owner
      */
-    private static Owner xowner(final XmlNode node) {
-        return node.children().collect(Collectors.toList())
-            .get(0)
+    private static Owner xowner(final XmlNode node, final List<XmlNode> children) {
+        return children.get(0)
             .attribute("base").map(Owner::new)
             .orElseThrow(
                 () -> new IllegalArgumentException(
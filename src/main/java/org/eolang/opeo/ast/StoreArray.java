@@ -31,7 +31,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Store array element.
@@ -100,12 +99,16 @@ public final class StoreArray implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", ".write-array")
-            .append(this.array.toXmir())
-            .append(this.index.toXmir())
-            .append(this.value.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".write-array");
+        this.array.write(sink);
+        this.index.write(sink);
+        this.value.write(sink);
+        sink.up();
     }
 
     @Override
@@ -31,7 +31,6 @@ import org.eolang.jeo.representation.xmir.XmlNode;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Substraction output node.
@@ -73,11 +72,15 @@ public final class Substraction implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", ".minus")
-            .append(this.left.toXmir())
-            .append(this.right.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".minus");
+        this.left.write(sink);
+        this.right.write(sink);
+        sink.up();
     }
 
     @Override
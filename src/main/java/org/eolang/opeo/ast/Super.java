@@ -34,7 +34,6 @@ import org.eolang.opeo.compilation.Parser;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Super output node.
@@ -151,13 +150,16 @@ public final class Super implements AstNode, Typed {
 
     @Override
     public Iterable<Directive> toXmir() {
-        final Directives directives = new Directives();
-        directives.add("o")
-            .attr("base", ".super")
-            .append(this.instance.toXmir())
-            .append(this.attributes.toXmir());
-        this.arguments.stream().map(AstNode::toXmir).forEach(directives::append);
-        return directives.up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".super");
+        this.instance.write(sink);
+        this.attributes.write(sink);
+        this.arguments.forEach(argument -> argument.write(sink));
+        sink.up();
     }
 
     @Override
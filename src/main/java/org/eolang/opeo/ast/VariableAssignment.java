@@ -31,7 +31,6 @@ import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.opeo.compilation.Parser;
 import org.xembly.Directive;
-import org.xembly.Directives;
 
 /**
  * Variable assignment.
@@ -84,11 +83,15 @@ public final class VariableAssignment implements AstNode {
 
     @Override
     public Iterable<Directive> toXmir() {
-        return new Directives().add("o")
-            .attr("base", ".write-local-var")
-            .append(this.left.toXmir())
-            .append(this.right.toXmir())
-            .up();
+        return new DirectivesSink().written(this);
+    }
+
+    @Override
+    public void write(final XmirSink sink) {
+        sink.add("o").attr("base", ".write-local-var");
+        this.left.write(sink);
+        this.right.write(sink);
+        sink.up();
     }
 
     @Override
@@ -38,4 +38,12 @@ public interface Xmir {
      */
     Iterable<Directive> toXmir();
 
+    /**
+     * Write node to XMIR sink.
+     * Unlike {@link #toXmir()}, nodes write their children right to the sink,
+     * so there are no intermediate directives for each level of the tree.
+     * @param sink Where to write.
+     */
+    void write(XmirSink sink);
+
 }
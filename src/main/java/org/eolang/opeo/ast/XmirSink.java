@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import org.xembly.Directive;
+
+/**
+ * Sink of XMIR.
+ * AST nodes write their XMIR to a sink in one pass, from the root to the leaves.
+ * The methods are the same as in {@link org.xembly.Directives}, so a sink might either
+ * build XML directly or collect directives.
+ * @since 0.5
+ */
+public interface XmirSink {
+
+    /**
+     * Add a child element and move to it.
+     * @param name Element name.
+     * @return This sink.
+     */
+    XmirSink add(String name);
+
+    /**
+     * Set an attribute of the current element.
+     * @param name Attribute name.
+     * @param value Attribute value.
+     * @return This sink.
+     */
+    XmirSink attr(String name, Object value);
+
+    /**
+     * Move to the parent element.
+     * @return This sink.
+     */
+    XmirSink up();
+
+    /**
+     * Apply directives to the current element.
+     * The directives must return to the current element in the end,
+     * the same way as {@link Xmir#toXmir()} of all the nodes does.
+     * @param directives Directives.
+     * @return This sink.
+     */
+    XmirSink append(Iterable<Directive> directives);
+
+    /**
+     * Register a name of an object written to the sink.
+     * Used by nodes that are defined once and then referred to by their names.
+     * @param name Name of the object.
+     * @return True if the name is registered in this sink for the first time.
+     */
+    boolean fresh(String name);
+}
@@ -25,6 +25,8 @@ package org.eolang.opeo.compilation;
 
 import com.jcabi.log.Logger;
 import java.nio.file.Path;
+import org.eolang.opeo.ast.Numbering;
+import org.eolang.opeo.parallel.Workers;
 import org.eolang.opeo.storage.CompilationStorage;
 import org.eolang.opeo.storage.Storage;
 import org.eolang.opeo.storage.XmirEntry;
@@ -40,6 +42,16 @@ public class DefaultCompiler implements Compiler {
      */
     private final Storage storage;
 
+    /**
+     * Workers that compile the XMIRs.
+     */
+    private final Workers workers;
+
+    /**
+     * Numbering of opcode names.
+     */
+    private final Numbering numbering;
+
     /**
      * Constructor.
      * @param xmirs Path to the generated XMIRs by opeo-maven-plugin.
@@ -54,7 +66,20 @@ public class DefaultCompiler implements Compiler {
      * @param generated The default Maven 'generated-sources' directory.
      */
     DefaultCompiler(final Path generated) {
-        this(generated.resolve("opeo-xmir"), generated.resolve("xmir"));
+        this(generated, new Numbering(true));
+    }
+
+    /**
+     * Constructor.
+     * @param generated The default Maven 'generated-sources' directory.
+     * @param numbering Numbering of opcode names.
+     */
+    DefaultCompiler(final Path generated, final Numbering numbering) {
+        this(
+            new CompilationStorage(generated.resolve("opeo-xmir"), generated.resolve("xmir")),
+            new Workers(),
+            numbering
+        );
     }
 
     /**
@@ -62,7 +87,30 @@ public class DefaultCompiler implements Compiler {
      * @param storage The storage where the XMIRs are stored.
      */
     private DefaultCompiler(final Storage storage) {
+        this(storage, new Workers());
+    }
+
+    /**
+     * Constructor.
+     * @param storage The storage where the XMIRs are stored.
+     * @param workers Workers that compile the XMIRs.
+     */
+    public DefaultCompiler(final Storage storage, final Workers workers) {
+        this(storage, workers, new Numbering(true));
+    }
+
+    /**
+     * Constructor.
+     * @param storage The storage where the XMIRs are stored.
+     * @param workers Workers that compile the XMIRs.
+     * @param numbering Numbering of opcode names.
+     */
+    public DefaultCompiler(
+        final Storage storage, final Workers workers, final Numbering numbering
+    ) {
         this.storage = storage;
+        this.workers = workers;
+        this.numbering = numbering;
     }
 
     /**
@@ -72,10 +120,7 @@ public class DefaultCompiler implements Compiler {
         Logger.info(
             this,
             "Compiled %d sources",
-            this.storage.all()
-                .parallel()
-                .mapToInt(this::compile)
-                .sum()
+            this.workers.apply(this.storage.all(), XmirEntry::weight, this::compile)
         );
     }
 
@@ -85,7 +130,7 @@ public class DefaultCompiler implements Compiler {
      * @return Number of compiled files.
      */
     private int compile(final XmirEntry xmir) {
-        this.storage.save(xmir.transform(xml -> new JeoCompiler(xml).compile()));
+        this.storage.save(xmir.transform(xml -> new JeoCompiler(xml, this.numbering).compile()));
         return 1;
     }
 }
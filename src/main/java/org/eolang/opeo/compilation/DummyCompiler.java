@@ -52,7 +52,7 @@ public final class DummyCompiler implements Compiler {
      * Constructor.
      * @param storage The storage where the XMIRs are stored.
      */
-    private DummyCompiler(final Storage storage) {
+    public DummyCompiler(final Storage storage) {
         this.storage = storage;
     }
 
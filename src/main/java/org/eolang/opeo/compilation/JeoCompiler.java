@@ -24,11 +24,23 @@
 package org.eolang.opeo.compilation;
 
 import com.jcabi.xml.XML;
-import org.eolang.jeo.representation.xmir.AllLabels;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.cactoos.Scalar;
+import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Unchecked;
 import org.eolang.jeo.representation.xmir.XmlClass;
 import org.eolang.jeo.representation.xmir.XmlMethod;
 import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.jeo.representation.xmir.XmlProgram;
+import org.eolang.opeo.ast.Numbering;
+import org.eolang.opeo.parallel.Split;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
+import org.xembly.Directives;
+import org.xembly.Xembler;
 
 /**
  * Compiler of high-level EO programs to low-level EO suitable for jeo-maven-plugin.
@@ -42,31 +54,157 @@ public final class JeoCompiler {
      */
     private final XML opeo;
 
+    /**
+     * The package of the program.
+     */
+    private final Unchecked<String> pckg;
+
+    /**
+     * Split of large classes into methods compiled concurrently.
+     */
+    private final Split split;
+
+    /**
+     * Numbering of opcode names of the compiled instructions.
+     */
+    private final Numbering numbering;
+
     /**
      * Constructor.
      *
      * @param opeo The high-level EO program generated by opeo-maven-plugin.
      */
     public JeoCompiler(final XML opeo) {
+        this(
+            opeo,
+            () -> opeo.xpath("/program/metas/meta[head='package']/tail/text()").stream()
+                .findFirst()
+                .orElse("")
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param opeo The high-level EO program generated by opeo-maven-plugin.
+     * @param pckg The package of the program, if it is already known.
+     */
+    public JeoCompiler(final XML opeo, final String pckg) {
+        this(opeo, pckg, new Split());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param opeo The high-level EO program generated by opeo-maven-plugin.
+     * @param pckg The package of the program, if it is already known.
+     * @param split Split of large classes into methods compiled concurrently.
+     */
+    public JeoCompiler(final XML opeo, final String pckg, final Split split) {
+        this(opeo, pckg, split, new Numbering(true));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param opeo The high-level EO program generated by opeo-maven-plugin.
+     * @param numbering Numbering of opcode names.
+     */
+    public JeoCompiler(final XML opeo, final Numbering numbering) {
+        this(
+            opeo,
+            () -> opeo.xpath("/program/metas/meta[head='package']/tail/text()").stream()
+                .findFirst()
+                .orElse(""),
+            new Split(),
+            numbering
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param opeo The high-level EO program generated by opeo-maven-plugin.
+     * @param pckg The package of the program, if it is already known.
+     * @param split Split of large classes into methods compiled concurrently.
+     * @param numbering Numbering of opcode names.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JeoCompiler(
+        final XML opeo, final String pckg, final Split split, final Numbering numbering
+    ) {
+        this(opeo, () -> pckg, split, numbering);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param opeo The high-level EO program generated by opeo-maven-plugin.
+     * @param pckg The package of the program.
+     */
+    private JeoCompiler(final XML opeo, final Scalar<String> pckg) {
+        this(opeo, pckg, new Split(), new Numbering(true));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param opeo The high-level EO program generated by opeo-maven-plugin.
+     * @param pckg The package of the program.
+     * @param split Split of large classes into methods compiled concurrently.
+     * @param numbering Numbering of opcode names.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private JeoCompiler(
+        final XML opeo,
+        final Scalar<String> pckg,
+        final Split split,
+        final Numbering numbering
+    ) {
         this.opeo = opeo;
+        this.pckg = new Unchecked<>(pckg);
+        this.split = split;
+        this.numbering = numbering;
     }
 
     /**
      * Compiles the high-level EO program to low-level EO suitable for jeo-maven-plugin.
+     * If the class is large enough, instructions of its methods are copied into
+     * separate documents and compiled concurrently. Compiled instructions are put
+     * back into the methods in the original order.
      *
      * @return The low-level EO program suitable for jeo-maven-plugin.
      */
     public XML compile() {
         final XmlProgram program = new XmlProgram(this.opeo.node());
-        final String pckg = program.toXml().xpath("//meta[head='package']/tail/text()").stream()
-            .findFirst()
-            .orElse("");
+        final String pckg = this.pckg.value();
         final XmlClass clazz = program.top();
-        final XmlMethod[] methods = clazz.methods().stream()
-            .map(method -> JeoCompiler.compile(method, pckg))
-            .toArray(XmlMethod[]::new);
+        final List<XmlMethod> methods = clazz.methods();
+        final List<List<XmlNode>> nodes = methods.stream()
+            .map(XmlMethod::nodes)
+            .collect(Collectors.toList());
+        final XmlMethod[] compiled = new XmlMethod[methods.size()];
+        if (this.split.worth(methods.size(), nodes.stream().mapToInt(List::size).sum())) {
+            final List<List<XmlNode>> instructions = this.split.map(
+                IntStream.range(0, methods.size())
+                    .mapToObj(
+                        idx -> new MapEntry<>(
+                            methods.get(idx).name(), JeoCompiler.detached(nodes.get(idx))
+                        )
+                    )
+                    .collect(Collectors.toList()),
+                entry -> this.parsed(entry.getKey(), entry.getValue())
+            );
+            for (int idx = 0; idx < compiled.length; ++idx) {
+                compiled[idx] = JeoCompiler.replaced(methods.get(idx), instructions.get(idx), pckg);
+            }
+        } else {
+            for (int idx = 0; idx < compiled.length; ++idx) {
+                compiled[idx] = this.compile(methods.get(idx), nodes.get(idx), pckg);
+            }
+        }
         return program.replaceTopClass(
-            clazz.replaceMethods(methods)
+            clazz.replaceMethods(compiled)
         ).toXml();
     }
 
@@ -74,16 +212,13 @@ public final class JeoCompiler {
      * Compiles a single method.
      *
      * @param method The method to compile.
+     * @param nodes The high-level nodes of the method.
      * @param pckg The package of the method.
      * @return The compiled method.
      * @todo #229:90min Refactor {@link #compile} method to handle exceptions appropriately.
      *  The method {@link #compile} is catching generic exceptions which is bad.
      *  We should refactor it to simplify the code and remove duplicated catch blocks.
      *  After, don't forget to remove the Checkstyle and PMD tags.
-     * @todo #229:90min Optimize Labels Generation.
-     *  Here we clean the cache of labels before compiling a method. This is a workaround
-     *  to avoid a bug in the generation of labels. When we have lot's of methods, the cache grows
-     *  and the compilation time increases significantly.
      * @todo #229:90min Calculate the Max Stack Size.
      *  We should calculate the max stack size of the method and set it into the compiled method.
      *  To enforce jeo to calculate the max stack size, we use 'withoutMaxs()' method.
@@ -96,20 +231,13 @@ public final class JeoCompiler {
      * @checkstyle IllegalCatch (50 lines)
      */
     @SuppressWarnings({"PMD.AvoidCatchingGenericException", "PMD.IdenticalCatchBranches"})
-    private static XmlMethod compile(final XmlMethod method, final String pckg) {
+    private XmlMethod compile(
+        final XmlMethod method, final List<XmlNode> nodes, final String pckg
+    ) {
         try {
-            final XmlMethod result;
-            new AllLabels().clearCache();
-            if (pckg.contains("org.eolang")) {
-                result = method.withoutMaxs().withInstructions(
-                    new XmirParser(method.nodes()).toJeoNodes().toArray(new XmlNode[0])
-                );
-            } else {
-                result = method.withInstructions(
-                    new XmirParser(method.nodes()).toJeoNodes().toArray(new XmlNode[0])
-                );
-            }
-            return result;
+            return JeoCompiler.replaced(
+                method, new XmirParser(nodes, this.numbering).toJeoNodes(), pckg
+            );
         } catch (final ClassCastException exception) {
             throw new IllegalArgumentException(
                 String.format(
@@ -148,4 +276,66 @@ public final class JeoCompiler {
             );
         }
     }
+
+    /**
+     * Replaces instructions of the method with compiled ones.
+     *
+     * @param method The method.
+     * @param instructions Compiled instructions.
+     * @param pckg The package of the method.
+     * @return The compiled method.
+     */
+    private static XmlMethod replaced(
+        final XmlMethod method, final List<XmlNode> instructions, final String pckg
+    ) {
+        final XmlMethod result;
+        final XmlNode[] array = instructions.toArray(new XmlNode[0]);
+        if (pckg.contains("org.eolang")) {
+            result = method.withoutMaxs().withInstructions(array);
+        } else {
+            result = method.withInstructions(array);
+        }
+        return result;
+    }
+
+    /**
+     * Compiles high-level nodes of a method into instructions.
+     * It is used for concurrent compilation, so it doesn't touch the method itself.
+     *
+     * @param name The name of the method.
+     * @param nodes The high-level nodes of the method.
+     * @return Compiled instructions.
+     */
+    private List<XmlNode> parsed(final String name, final List<XmlNode> nodes) {
+        try {
+            return new XmirParser(nodes, this.numbering).toJeoNodes();
+        } catch (final ClassCastException | IllegalArgumentException exception) {
+            throw new IllegalArgumentException(
+                String.format("Failed to compile method %s", name),
+                exception
+            );
+        } catch (final IllegalStateException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to compile method %s", name),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Copies nodes into their own document.
+     * DOM is not thread-safe, so each concurrently compiled method needs its own document.
+     *
+     * @param nodes The nodes to copy.
+     * @return Copies of the nodes.
+     */
+    private static List<XmlNode> detached(final List<XmlNode> nodes) {
+        final Document doc = new Xembler(new Directives().add("o")).domQuietly();
+        final Node root = doc.getDocumentElement();
+        final List<XmlNode> result = new ArrayList<>(nodes.size());
+        for (final XmlNode node : nodes) {
+            result.add(new XmlNode(root.appendChild(doc.importNode(node.node(), true))));
+        }
+        return result;
+    }
 }
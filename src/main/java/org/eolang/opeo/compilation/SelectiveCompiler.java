@@ -25,12 +25,14 @@ package org.eolang.opeo.compilation;
 
 import com.jcabi.log.Logger;
 import java.nio.file.Path;
-import java.util.Arrays;
+import java.util.Set;
 import java.util.stream.Collectors;
-import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.decompilation.agents.SupportedOpcodes;
+import org.eolang.opeo.settings.Settings;
 import org.eolang.opeo.storage.CompilationStorage;
 import org.eolang.opeo.storage.Storage;
 import org.eolang.opeo.storage.XmirEntry;
+import org.eolang.opeo.storage.XmirIndex;
 
 /**
  * Selective compiler.
@@ -48,7 +50,13 @@ public final class SelectiveCompiler implements Compiler {
     /**
      * Supported opcodes.
      */
-    private final String[] supported;
+    private final SupportedOpcodes supported;
+
+    /**
+     * Settings of the run.
+     * Only workers, split and cache are used.
+     */
+    private final Settings settings;
 
     /**
      * Constructor.
@@ -64,8 +72,18 @@ public final class SelectiveCompiler implements Compiler {
      * @param storage Storage.
      */
     public SelectiveCompiler(final Storage storage) {
+        this(storage, new Settings());
+    }
+
+    /**
+     * Constructor.
+     * @param storage Storage.
+     * @param settings Settings of the run, only workers, split and cache are used.
+     */
+    public SelectiveCompiler(final Storage storage, final Settings settings) {
         this.storage = storage;
-        this.supported = new AllAgents().supportedOpcodes();
+        this.supported = new SupportedOpcodes();
+        this.settings = settings;
     }
 
     @Override
@@ -73,24 +91,27 @@ public final class SelectiveCompiler implements Compiler {
         Logger.info(
             this,
             "Compiled %d sources",
-            this.storage.all()
-                .parallel()
-                .mapToInt(this::compile)
-                .sum()
+            this.settings.workers().apply(this.storage.all(), XmirEntry::weight, this::compile)
         );
     }
 
     /**
      * Compile the entry.
+     * The decision is made by the metadata index of the entry,
+     * so we don't run XPath queries over the whole document.
      * @param entry Entry to compile.
      * @return One if compiled, zero otherwise.
      */
     private int compile(final XmirEntry entry) {
+        final XmirIndex index = entry.index();
         final XmirEntry res;
-        if (entry.xpath(this.unsupportedOpcodes()).isEmpty()
-            || entry.xpath(SelectiveCompiler.trycatches())
-            .isEmpty()) {
-            res = entry.transform(xml -> new JeoCompiler(xml).compile());
+        if (this.unsupported(index).isEmpty() || !index.trycatches()) {
+            res = this.settings.cache().transformed(
+                entry,
+                origin -> origin.transform(
+                    xml -> new JeoCompiler(xml, index.pckg(), this.settings.split()).compile()
+                )
+            );
         } else {
             Logger.info(
                 this,
@@ -104,21 +125,13 @@ public final class SelectiveCompiler implements Compiler {
     }
 
     /**
-     * Xpath to find all opcodes that are not supported.
-     * @return Xpath.
-     */
-    private String unsupportedOpcodes() {
-        return String.format(
-            "//o[@base='opcode'][not(contains('%s', substring-before(concat(@name, '-'), '-'))) ]/@name",
-            Arrays.stream(this.supported).collect(Collectors.joining(" "))
-        );
-    }
-
-    /**
-     * Xpath to find all try-catch blocks.
-     * @return Xpath.
+     * All opcodes of the entry that are not supported.
+     * @param index Metadata index of the entry.
+     * @return Unsupported opcode names.
      */
-    private static String trycatches() {
-        return "//o[@base='tuple' and @name='trycatchblocks']/@name";
+    private Set<String> unsupported(final XmirIndex index) {
+        return index.opcodes().stream()
+            .filter(opcode -> !this.supported.contains(opcode))
+            .collect(Collectors.toSet());
     }
 }
@@ -24,6 +24,7 @@
 package org.eolang.opeo.compilation;
 
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -52,7 +53,9 @@ import org.eolang.opeo.ast.Literal;
 import org.eolang.opeo.ast.LocalVariable;
 import org.eolang.opeo.ast.Multiplication;
 import org.eolang.opeo.ast.NewAddress;
+import org.eolang.opeo.ast.Numbering;
 import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.ast.OpcodeNodes;
 import org.eolang.opeo.ast.Popped;
 import org.eolang.opeo.ast.RawXml;
 import org.eolang.opeo.ast.Return;
@@ -62,7 +65,6 @@ import org.eolang.opeo.ast.Substraction;
 import org.eolang.opeo.ast.Super;
 import org.eolang.opeo.ast.This;
 import org.eolang.opeo.ast.VariableAssignment;
-import org.xembly.Xembler;
 
 /**
  * High-level representation of Opeo nodes.
@@ -72,6 +74,11 @@ import org.xembly.Xembler;
  */
 final class XmirParser implements Parser {
 
+    /**
+     * Kinds of nodes indexed by their exact 'base' attribute.
+     */
+    private static final Map<String, Kind> KINDS = XmirParser.kinds();
+
     /**
      * Opeo nodes.
      */
@@ -82,20 +89,18 @@ final class XmirParser implements Parser {
      */
     private final Map<String, Duplicate> references;
 
+    /**
+     * Numbering of opcode names of the compiled instructions.
+     */
+    private final Numbering numbering;
+
     /**
      * Constructor.
      *
      * @param nodes Opeo nodes.
      */
     XmirParser(final AstNode... nodes) {
-        this(
-            Arrays.stream(nodes)
-                .map(AstNode::toXmir)
-                .map(Xembler::new)
-                .map(Xembler::xmlQuietly)
-                .map(XmlNode::new)
-                .collect(Collectors.toList())
-        );
+        this(new OpcodeNodes(Arrays.asList(nodes)).nodes());
     }
 
     /**
@@ -104,22 +109,31 @@ final class XmirParser implements Parser {
      * @param nodes Opeo nodes.
      */
     XmirParser(final List<XmlNode> nodes) {
+        this(nodes, new Numbering(true));
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param nodes Opeo nodes.
+     * @param numbering Numbering of opcode names.
+     */
+    XmirParser(final List<XmlNode> nodes, final Numbering numbering) {
         this.nodes = nodes;
         this.references = new HashMap<>(0);
+        this.numbering = numbering;
     }
 
     /**
      * Convert XmlNode to AstNode.
+     * The kind of the node is resolved by its 'base' attribute through
+     * the precomputed table of kinds, instead of a chain of comparisons.
      *
      * @param node XmlNode
      * @return Ast node
-     * @checkstyle CyclomaticComplexityCheck (500 lines)
-     * @checkstyle JavaNCSSCheck (500 lines)
      * @checkstyle NoJavadocForOverriddenMethodsCheck (500 lines)
-     * @checkstyle ExecutableStatementCountCheck (500 lines)
      */
     @Override
-    @SuppressWarnings({"PMD.NcssCount", "PMD.ExcessiveMethodLength"})
     public AstNode parse(final XmlNode node) {
         final AstNode result;
         final String base = node.attribute("base").orElseThrow(
@@ -130,95 +144,15 @@ final class XmirParser implements Parser {
                 )
             )
         );
-        if (".ignore-result".equals(base)) {
-            result = new Popped(this.parse(node.firstChild()));
-        } else if ("labeled".equals(base)) {
-            result = new Labeled(node, this::parse);
-        } else if ("times".equals(base)) {
-            result = new Multiplication(node, this::parse);
-        } else if (".if".equals(base)) {
-            result = new If(node, this::parse);
-        } else if ("load-constant".equals(base)) {
-            result = new Constant(node);
-        } else if (".new-type".equals(base)) {
-            result = new NewAddress(node);
+        final Kind kind = XmirParser.KINDS.get(base);
+        if (kind != null) {
+            result = kind.parse(this, node);
         } else if (base.startsWith("ref-")) {
-            if (this.references.containsKey(base)) {
-                result = this.references.get(base);
-            } else {
-                throw new IllegalStateException(String.format("Reference not found '%s'", base));
-            }
-        } else if ("duplicated".equals(base)) {
-            final String name = node.attribute("name")
-                .orElseThrow(
-                    () -> new IllegalStateException(
-                        String.format("Name attribute is missing '%s'", node)
-                    )
-                );
-            final Duplicate duplicate = new Duplicate(this.parse(node.firstChild()));
-            this.references.put(name, duplicate);
-            result = duplicate;
-        } else if (".plus".equals(base)) {
-            result = new Addition(node, this::parse);
-        } else if (".minus".equals(base)) {
-            result = new Substraction(node, this::parse);
-        } else if ("cast".equals(base)) {
-            result = new Cast(node, this::parse);
-        } else if ("frame".equals(base)) {
-            result = new RawXml(node);
-        } else if ("opcode".equals(base)) {
-            result = new Opcode(node);
-        } else if ("label".equals(base)) {
-            result = new Label(node);
-        } else if ("float".equals(base)) {
-            result = new Literal(node);
-        } else if ("int".equals(base)) {
-            result = new Literal(node);
-        } else if ("string".equals(base)) {
-            result = new Literal(node);
-        } else if ("double".equals(base)) {
-            result = new Literal(node);
-        } else if ("long".equals(base)) {
-            result = new Literal(node);
-        } else if ("type".equals(base)) {
-            result = new ClassName(node);
-        } else if (".super".equals(base)) {
-            result = new Super(node, this);
-        } else if ("$".equals(base)) {
-            result = new This(node);
-        } else if ("static-field".equals(base)) {
-            result = new ClassField(node);
-        } else if (".write-array".equals(base)) {
-            result = new StoreArray(node, this);
-        } else if (".write-local-var".equals(base)) {
-            result = new VariableAssignment(node, this);
-        } else if (".get-field".equals(base)) {
-            result = new FieldRetrieval(node, this);
-        } else if (".write-field".equals(base)) {
-            result = new FieldAssignment(node, this);
+            result = this.reference(base);
         } else if (base.startsWith("local-")) {
             result = new LocalVariable(node);
-        } else if (".new".equals(base)) {
-            result = new Constructor(node, this);
-        } else if (".array-node".equals(base)) {
-            result = new ArrayConstructor(node, this);
-        } else if ("return".equals(base)) {
-            result = new Return(node, this);
-        } else if ("checkcast".equals(base)) {
-            result = new CheckCast(node, this);
         } else if (!base.isEmpty() && base.charAt(0) == '.') {
-            final Attributes attributes = new Attributes(
-                node.children().collect(Collectors.toList()).get(1)
-            );
-            if ("static".equals(attributes.type())) {
-                result = new StaticInvocation(node, this);
-            } else if ("interface".equals(attributes.type())) {
-                result = new InterfaceInvocation(node, this);
-            } else if ("dynamic".equals(attributes.type())) {
-                result = new DynamicInvocation(node, this);
-            } else {
-                result = new Invocation(node, this);
-            }
+            result = this.invocation(node);
         } else {
             throw new IllegalArgumentException(
                 String.format("Can't recognize node: %n%s%n", node)
@@ -229,29 +163,156 @@ final class XmirParser implements Parser {
 
     /**
      * Convert to XML nodes.
+     * Opcode names are numbered from the start each time, so the result is always the same.
      *
      * @return XML nodes.
      */
     List<XmlNode> toJeoNodes() {
-        return this.nodes.stream()
-            .map(this::opcodes)
-            .flatMap(List::stream)
-            .collect(Collectors.toList());
+        final Numbering method = this.numbering.method();
+        return new OpcodeNodes(
+            this.nodes.stream()
+                .map(this::parse)
+                .map(AstNode::opcodes)
+                .flatMap(List::stream)
+                .map(node -> XmirParser.numbered(node, method))
+                .collect(Collectors.toList())
+        ).opcodes();
     }
 
     /**
-     * Convert XmlNode into a list of opcodes.
+     * Number the opcode name of the node.
      *
-     * @param node XmlNode
-     * @return List of opcodes
+     * @param node Node.
+     * @param numbering Numbering of the method.
+     * @return The same node or opcode with the number.
+     */
+    private static AstNode numbered(final AstNode node, final Numbering numbering) {
+        final AstNode result;
+        if (node instanceof Opcode) {
+            result = numbering.apply((Opcode) node);
+        } else {
+            result = node;
+        }
+        return result;
+    }
+
+    /**
+     * Find a reference to a duplicated node.
+     *
+     * @param base Name of the reference.
+     * @return Reference to the duplicated node.
      */
-    private List<XmlNode> opcodes(final XmlNode node) {
-        return this.parse(node).opcodes()
-            .stream()
-            .map(AstNode::toXmir)
-            .map(Xembler::new)
-            .map(Xembler::xmlQuietly)
-            .map(XmlNode::new)
-            .collect(Collectors.toList());
+    private AstNode reference(final String base) {
+        final Duplicate duplicate = this.references.get(base);
+        if (duplicate == null) {
+            throw new IllegalStateException(String.format("Reference not found '%s'", base));
+        }
+        return duplicate.reference();
+    }
+
+    /**
+     * Parse a duplicated node and remember it under its name.
+     *
+     * @param node Duplicated node.
+     * @return Duplicate.
+     */
+    private AstNode duplicated(final XmlNode node) {
+        final String name = node.attribute("name")
+            .orElseThrow(
+                () -> new IllegalStateException(
+                    String.format("Name attribute is missing '%s'", node)
+                )
+            );
+        final Duplicate duplicate = new Duplicate(name, this.parse(node.firstChild()));
+        this.references.put(name, duplicate);
+        return duplicate;
+    }
+
+    /**
+     * Parse a method invocation.
+     * Children of the node and its attributes are materialised only once
+     * and then shared with the chosen invocation.
+     *
+     * @param node Invocation node.
+     * @return Invocation.
+     */
+    private AstNode invocation(final XmlNode node) {
+        final List<XmlNode> children = node.children().collect(Collectors.toList());
+        final Attributes attributes = new Attributes(children.get(1));
+        final String type = attributes.type();
+        final AstNode result;
+        if ("static".equals(type)) {
+            result = new StaticInvocation(node, children, attributes, this);
+        } else if ("interface".equals(type)) {
+            result = new InterfaceInvocation(children, attributes, this);
+        } else if ("dynamic".equals(type)) {
+            result = new DynamicInvocation(node, children, this);
+        } else {
+            result = new Invocation(children, attributes, this);
+        }
+        return result;
+    }
+
+    /**
+     * All kinds of nodes with exact 'base' attribute.
+     *
+     * @return Kinds indexed by 'base' attribute.
+     */
+    private static Map<String, Kind> kinds() {
+        final Map<String, Kind> kinds = new HashMap<>(64);
+        kinds.put(".ignore-result", (parser, node) -> new Popped(parser.parse(node.firstChild())));
+        kinds.put("labeled", (parser, node) -> new Labeled(node, parser::parse));
+        kinds.put("times", (parser, node) -> new Multiplication(node, parser::parse));
+        kinds.put(".if", (parser, node) -> new If(node, parser::parse));
+        kinds.put("load-constant", (parser, node) -> new Constant(node));
+        kinds.put(".new-type", (parser, node) -> new NewAddress(node));
+        kinds.put("duplicated", XmirParser::duplicated);
+        kinds.put(".plus", (parser, node) -> new Addition(node, parser::parse));
+        kinds.put(".minus", (parser, node) -> new Substraction(node, parser::parse));
+        kinds.put("cast", (parser, node) -> new Cast(node, parser::parse));
+        kinds.put("frame", (parser, node) -> new RawXml(node));
+        kinds.put("opcode", (parser, node) -> new Opcode(node));
+        kinds.put("label", (parser, node) -> new Label(node));
+        kinds.put("float", (parser, node) -> new Literal(node));
+        kinds.put("int", (parser, node) -> new Literal(node));
+        kinds.put("string", (parser, node) -> new Literal(node));
+        kinds.put("double", (parser, node) -> new Literal(node));
+        kinds.put("long", (parser, node) -> new Literal(node));
+        kinds.put("type", (parser, node) -> new ClassName(node));
+        kinds.put(".super", (parser, node) -> new Super(node, parser));
+        kinds.put("$", (parser, node) -> new This(node));
+        kinds.put("static-field", (parser, node) -> new ClassField(node));
+        kinds.put(".write-array", (parser, node) -> new StoreArray(node, parser));
+        kinds.put(".write-local-var", (parser, node) -> new VariableAssignment(node, parser));
+        kinds.put(".get-field", (parser, node) -> new FieldRetrieval(node, parser));
+        kinds.put(".write-field", (parser, node) -> new FieldAssignment(node, parser));
+        kinds.put(
+            ".new",
+            (parser, node) -> new Constructor(
+                node.children().collect(Collectors.toList()), parser
+            )
+        );
+        kinds.put(".array-node", (parser, node) -> new ArrayConstructor(node, parser));
+        kinds.put("return", (parser, node) -> new Return(node, parser));
+        kinds.put("checkcast", (parser, node) -> new CheckCast(node, parser));
+        return Collections.unmodifiableMap(kinds);
+    }
+
+    /**
+     * Kind of node that knows how to build its AST node.
+     *
+     * @since 0.2
+     */
+    @FunctionalInterface
+    private interface Kind {
+
+        /**
+         * Build AST node.
+         *
+         * @param parser Parser for child nodes.
+         * @param node XML node.
+         * @return AST node.
+         */
+        AstNode parse(XmirParser parser, XmlNode node);
     }
 }
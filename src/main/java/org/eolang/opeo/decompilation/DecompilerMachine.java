@@ -30,8 +30,10 @@ import java.util.Map;
 import java.util.stream.Collectors;
 import org.cactoos.list.ListOf;
 import org.eolang.opeo.Instruction;
+import org.eolang.opeo.ast.DirectivesSink;
 import org.eolang.opeo.ast.Opcode;
 import org.eolang.opeo.ast.Root;
+import org.eolang.opeo.ast.XmirSink;
 import org.eolang.opeo.decompilation.agents.AllAgents;
 import org.eolang.opeo.decompilation.agents.TracedAgent;
 import org.xembly.Directive;
@@ -43,6 +45,17 @@ import org.xembly.Directive;
  */
 public final class DecompilerMachine {
 
+    /**
+     * Agents that put numbers to opcodes and log at DEBUG level.
+     * Agents are stateless, so they are built once and shared by all methods.
+     */
+    private static final AllAgents COUNTING = new AllAgents(true, new TracedAgent.Log());
+
+    /**
+     * Agents that don't put numbers to opcodes and log at DEBUG level.
+     */
+    private static final AllAgents PLAIN = new AllAgents(false, new TracedAgent.Log());
+
     /**
      * Local variables.
      */
@@ -53,6 +66,11 @@ public final class DecompilerMachine {
      */
     private final AllAgents agents;
 
+    /**
+     * How many last decompilation steps to keep for the failure report.
+     */
+    private final int steps;
+
     /**
      * Constructor.
      */
@@ -76,13 +94,38 @@ public final class DecompilerMachine {
      * @param arguments Arguments provided to decompiler.
      */
     public DecompilerMachine(final LocalVariables locals, final Map<String, Object> arguments) {
-        this.locals = locals;
-        this.agents = new AllAgents(
-            "true".equals(arguments.getOrDefault("counting", "true")),
-            TracedAgent.Output.class.cast(arguments.getOrDefault("output", new TracedAgent.Log()))
+        this(
+            locals,
+            DecompilerMachine.agents(arguments),
+            Integer.parseInt(String.valueOf(arguments.getOrDefault("steps", "64")))
         );
     }
 
+    /**
+     * Constructor.
+     *
+     * @param locals Local variables.
+     * @param agents Agents that decompile instructions.
+     */
+    public DecompilerMachine(final LocalVariables locals, final AllAgents agents) {
+        this(locals, agents, 64);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param locals Local variables.
+     * @param agents Agents that decompile instructions.
+     * @param steps How many last decompilation steps to keep for the failure report.
+     */
+    public DecompilerMachine(
+        final LocalVariables locals, final AllAgents agents, final int steps
+    ) {
+        this.locals = locals;
+        this.agents = agents;
+        this.steps = steps;
+    }
+
     /**
      * Decompile instructions into directives.
      *
@@ -90,15 +133,72 @@ public final class DecompilerMachine {
      * @return Decompiled instructions.
      */
     public Iterable<Directive> decompile(final Instruction... instructions) {
+        return new DirectivesSink().written(this.root(instructions));
+    }
+
+    /**
+     * Decompile instructions and write them to the sink.
+     * Unlike {@link #decompile(Instruction...)}, it doesn't build any intermediate directives
+     * and writes the decompiled nodes without the wrapping tuple, so they can be spliced
+     * right into the method body.
+     *
+     * @param sink Where to write decompiled instructions.
+     * @param instructions Instructions to decompile.
+     */
+    public void decompile(final XmirSink sink, final Instruction... instructions) {
+        this.root(instructions).content(sink);
+    }
+
+    /**
+     * Decompile instructions into AST.
+     * If decompilation fails, the last decompilation steps are attached
+     * to the exception as a suppressed one, the exception itself stays the same.
+     *
+     * @param instructions Instructions to decompile.
+     * @return Root of decompiled AST.
+     * @checkstyle IllegalCatch (30 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Root root(final Instruction... instructions) {
+        final Recorder recorder = new Recorder(this.steps);
         final DecompilerState initial = new DecompilerState(
             Arrays.stream(instructions)
                 .map(Opcode::new)
                 .collect(Collectors.toCollection(LinkedList::new)),
             new OperandStack(),
-            this.locals
+            this.locals,
+            recorder,
+            this.agents.numbering().method()
         );
-        this.agents.handle(initial);
-        return new Root(new ListOf<>(initial.stack().descendingIterator())).toXmir();
+        try {
+            this.agents.handle(initial);
+        } catch (final RuntimeException exception) {
+            exception.addSuppressed(new IllegalStateException(recorder.dump()));
+            throw exception;
+        }
+        return new Root(new ListOf<>(initial.stack().descendingIterator()));
     }
-}
 
+    /**
+     * Agents for the arguments.
+     * Shared agents are used unless a custom output is provided.
+     *
+     * @param arguments Arguments provided to decompiler.
+     * @return Agents.
+     */
+    private static AllAgents agents(final Map<String, Object> arguments) {
+        final boolean counting = "true".equals(arguments.getOrDefault("counting", "true"));
+        final AllAgents result;
+        if (arguments.containsKey("output")) {
+            result = new AllAgents(
+                counting,
+                TracedAgent.Output.class.cast(arguments.get("output"))
+            );
+        } else if (counting) {
+            result = DecompilerMachine.COUNTING;
+        } else {
+            result = DecompilerMachine.PLAIN;
+        }
+        return result;
+    }
+}
@@ -25,10 +25,13 @@ package org.eolang.opeo.decompilation;
 
 import java.util.Deque;
 import java.util.LinkedList;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.opeo.ast.AstNode;
+import org.eolang.opeo.ast.Label;
+import org.eolang.opeo.ast.Numbering;
 import org.eolang.opeo.ast.Opcode;
 import org.objectweb.asm.Type;
 
@@ -59,6 +62,27 @@ public final class DecompilerState {
      */
     private final LocalVariables vars;
 
+    /**
+     * Recorder of the last decompilation steps.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Recorder recorder;
+
+    /**
+     * Number of aliases given to duplicated nodes of the method.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final AtomicInteger aliases;
+
+    /**
+     * Numbering of the opcodes left as they are in the method.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Numbering numbering;
+
     /**
      * Constructor.
      */
@@ -101,10 +125,49 @@ public final class DecompilerState {
         final Deque<Opcode> opcodes,
         final OperandStack stack,
         final LocalVariables vars
+    ) {
+        this(opcodes, stack, vars, new Recorder(0));
+    }
+
+    /**
+     * Constructor.
+     * @param opcodes Remaining opcodes.
+     * @param stack Operand stack.
+     * @param vars Method local variables.
+     * @param recorder Recorder of the last decompilation steps.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public DecompilerState(
+        final Deque<Opcode> opcodes,
+        final OperandStack stack,
+        final LocalVariables vars,
+        final Recorder recorder
+    ) {
+        this(opcodes, stack, vars, recorder, new Numbering(false));
+    }
+
+    /**
+     * Constructor.
+     * @param opcodes Remaining opcodes.
+     * @param stack Operand stack.
+     * @param vars Method local variables.
+     * @param recorder Recorder of the last decompilation steps.
+     * @param numbering Numbering of the opcodes of the method.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public DecompilerState(
+        final Deque<Opcode> opcodes,
+        final OperandStack stack,
+        final LocalVariables vars,
+        final Recorder recorder,
+        final Numbering numbering
     ) {
         this.opcodes = opcodes;
         this.ostack = stack;
         this.vars = vars;
+        this.recorder = recorder;
+        this.aliases = new AtomicInteger(0);
+        this.numbering = numbering;
     }
 
     /**
@@ -163,6 +226,50 @@ public final class DecompilerState {
         return this.ostack;
     }
 
+    /**
+     * Next alias for a duplicated node.
+     * Aliases are numbered in the order of appearance within the method,
+     * so the same method always gets the same names.
+     * @return Alias.
+     */
+    public String alias() {
+        return String.format("ref-%d", this.aliases.incrementAndGet());
+    }
+
+    /**
+     * Give the opcode its name within the method.
+     * Like aliases, opcodes are numbered in the order of appearance within
+     * the method.
+     * @param opcode Opcode left as it is.
+     * @return Numbered opcode.
+     */
+    public Opcode numbered(final Opcode opcode) {
+        return this.numbering.apply(opcode);
+    }
+
+    /**
+     * Label of the method for the ASM label.
+     * @param label ASM label.
+     * @return Label.
+     */
+    public Label label(final org.objectweb.asm.Label label) {
+        return this.numbering.label(label);
+    }
+
+    /**
+     * Record that the agent is going to handle the current instruction.
+     * @param agent Agent that handles the instruction.
+     */
+    public void record(final Class<?> agent) {
+        final int opcode;
+        if (this.opcodes.isEmpty()) {
+            opcode = -1;
+        } else {
+            opcode = this.opcodes.peek().opcode();
+        }
+        this.recorder.record(agent, opcode, this.ostack.size());
+    }
+
     /**
      * Print opcodes in a pretty way.
      * @return Pretty opcodes string
@@ -52,7 +52,7 @@ public final class DummyDecompiler implements Decompiler {
      * Constructor.
      * @param storage The storage where the XMIRs are stored.
      */
-    private DummyDecompiler(final Storage storage) {
+    public DummyDecompiler(final Storage storage) {
         this.storage = storage;
     }
 
@@ -27,6 +27,7 @@ import java.util.Arrays;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.eolang.opeo.ast.AstNode;
@@ -126,6 +127,24 @@ public final class LocalVariables {
         return this.restore(index).orElseGet(() -> this.store(index, type));
     }
 
+    /**
+     * Signature of the variables.
+     * It includes everything that affects the variables: method modifiers,
+     * argument types and the class type, so methods with the same signature
+     * always get the same variables.
+     * @return Signature.
+     */
+    public String signature() {
+        return String.format(
+            "%d %s %s",
+            this.modifiers,
+            Arrays.stream(this.types)
+                .map(type -> Optional.ofNullable(type).map(Type::getDescriptor).orElse("-"))
+                .collect(Collectors.joining(",")),
+            this.clazz.getDescriptor()
+        );
+    }
+
     /**
      * Restore variable from cache.
      * @param index Index.
@@ -26,6 +26,7 @@ package org.eolang.opeo.decompilation;
 import com.jcabi.log.Logger;
 import java.nio.file.Path;
 import org.eolang.opeo.jeo.JeoDecompiler;
+import org.eolang.opeo.settings.Settings;
 import org.eolang.opeo.storage.DecompilationStorage;
 import org.eolang.opeo.storage.Storage;
 import org.eolang.opeo.storage.WithoutAliasesStorage;
@@ -48,6 +49,11 @@ public final class NaiveDecompiler implements Decompiler {
      */
     private final Storage storage;
 
+    /**
+     * Settings of the run.
+     */
+    private final Settings settings;
+
     /**
      * Constructor.
      * @param xmirs Path to the generated XMIRs by jeo-maven-plugin.
@@ -72,8 +78,18 @@ public final class NaiveDecompiler implements Decompiler {
      * Constructor.
      * @param storage The storage where the XMIRs are stored.
      */
-    private NaiveDecompiler(final Storage storage) {
+    public NaiveDecompiler(final Storage storage) {
+        this(storage, new Settings());
+    }
+
+    /**
+     * Constructor.
+     * @param storage The storage where the XMIRs are stored.
+     * @param settings Settings of the run.
+     */
+    public NaiveDecompiler(final Storage storage, final Settings settings) {
         this.storage = new WithoutAliasesStorage(storage);
+        this.settings = settings;
     }
 
     @Override
@@ -81,9 +97,7 @@ public final class NaiveDecompiler implements Decompiler {
         Logger.info(
             this,
             "Decompiled %d EO sources",
-            this.storage.all()
-                .parallel()
-                .mapToInt(this::decompile).sum()
+            this.settings.workers().apply(this.storage.all(), XmirEntry::weight, this::decompile)
         );
     }
 
@@ -94,7 +108,18 @@ public final class NaiveDecompiler implements Decompiler {
      */
     private int decompile(final XmirEntry entry) {
         this.storage.save(
-            entry.transform(xml -> new JeoDecompiler(xml, entry.relative()).decompile())
+            this.settings.cache().transformed(
+                entry,
+                origin -> origin.modify(
+                    node -> new JeoDecompiler(
+                        node,
+                        origin.relative(),
+                        this.settings.agents(),
+                        this.settings.split(),
+                        this.settings.memo()
+                    ).decompile()
+                )
+            )
         );
         return 1;
     }
@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import java.util.StringJoiner;
+import org.eolang.opeo.ast.OpcodeName;
+
+/**
+ * Recorder of the last decompilation steps.
+ * Bounded ring buffer of structured events: agent, opcode and stack depth.
+ * Recording doesn't allocate and doesn't format anything; the events are rendered
+ * only by {@link #dump()}, which is called when decompilation of a method fails.
+ * The recorder belongs to a single method decompilation and isn't thread-safe.
+ * @since 0.5
+ */
+public final class Recorder {
+
+    /**
+     * Agents of the events.
+     */
+    private final Class<?>[] agents;
+
+    /**
+     * Opcodes of the events.
+     */
+    private final int[] opcodes;
+
+    /**
+     * Stack depths of the events.
+     */
+    private final int[] depths;
+
+    /**
+     * Total number of recorded events.
+     */
+    private long total;
+
+    /**
+     * Constructor.
+     */
+    public Recorder() {
+        this(64);
+    }
+
+    /**
+     * Constructor.
+     * @param capacity How many last events to keep, zero disables recording.
+     */
+    public Recorder(final int capacity) {
+        this.agents = new Class<?>[Math.max(0, capacity)];
+        this.opcodes = new int[this.agents.length];
+        this.depths = new int[this.agents.length];
+    }
+
+    /**
+     * Record an event.
+     * @param agent Agent that handles the instruction.
+     * @param opcode Instruction opcode.
+     * @param depth Operand stack depth before handling.
+     */
+    public void record(final Class<?> agent, final int opcode, final int depth) {
+        if (this.agents.length > 0) {
+            final int idx = (int) (this.total % this.agents.length);
+            this.agents[idx] = agent;
+            this.opcodes[idx] = opcode;
+            this.depths[idx] = depth;
+        }
+        this.total += 1;
+    }
+
+    /**
+     * Render the recorded events, from the oldest to the newest.
+     * @return Human-readable events.
+     */
+    public String dump() {
+        final int kept = (int) Math.min(this.total, this.agents.length);
+        final StringJoiner result = new StringJoiner(
+            "\n",
+            String.format("Last %d of %d decompilation steps:%n", kept, this.total),
+            ""
+        );
+        for (long event = this.total - kept; event < this.total; ++event) {
+            final int idx = (int) (event % this.agents.length);
+            result.add(
+                String.format(
+                    "%s %s stack=%d",
+                    this.agents[idx].getSimpleName(),
+                    new OpcodeName(this.opcodes[idx]).simplified(),
+                    this.depths[idx]
+                )
+            );
+        }
+        return result.toString();
+    }
+}
@@ -25,8 +25,11 @@ package org.eolang.opeo.decompilation;
 
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
+import java.util.Collection;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eolang.opeo.storage.XmirIndex;
 import org.xembly.Directives;
 import org.xembly.Xembler;
 
@@ -41,12 +44,37 @@ public final class WithoutAliases {
      */
     private final XML original;
 
+    /**
+     * Aliases of jeo objects that are never used in the xmir.
+     */
+    private final Supplier<Collection<String>> unused;
+
     /**
      * Constructor.
+     * Unused aliases are looked up in the DOM of the xmir.
      * @param original Xmir with aliases.
      */
     public WithoutAliases(final XML original) {
+        this(original, () -> WithoutAliases.unused(original));
+    }
+
+    /**
+     * Constructor.
+     * @param original Xmir with aliases.
+     * @param index Metadata index of the same xmir.
+     */
+    public WithoutAliases(final XML original, final XmirIndex index) {
+        this(original, index::unused);
+    }
+
+    /**
+     * Constructor.
+     * @param original Xmir with aliases.
+     * @param unused Aliases of jeo objects that are never used in the xmir.
+     */
+    private WithoutAliases(final XML original, final Supplier<Collection<String>> unused) {
         this.original = original;
+        this.unused = unused;
     }
 
     /**
@@ -60,8 +88,7 @@ public final class WithoutAliases {
                     .xpath(
                         String.format(
                             "./program/metas/meta[head='alias' and contains(%s,tail)]",
-                            Stream.of(this.alias("label"), this.alias("opcode"))
-                                .filter(alias -> !alias.isEmpty())
+                            this.unused.get().stream()
                                 .collect(Collectors.joining(", ", "'", "'"))
                         )
                     )
@@ -71,17 +98,14 @@ public final class WithoutAliases {
     }
 
     /**
-     * Alias for an object.
-     * @param object Object.
-     * @return Alias.
+     * Aliases of jeo objects that are never used in the xmir.
+     * @param xml Xmir with aliases.
+     * @return Aliases, like 'org.eolang.jeo.label'.
      */
-    private String alias(final String object) {
-        final String result;
-        if (this.original.xpath(String.format(".//o[@base='%s']/@base", object)).isEmpty()) {
-            result = String.format("org.eolang.jeo.%s", object);
-        } else {
-            result = "";
-        }
-        return result;
+    private static Collection<String> unused(final XML xml) {
+        return Stream.of("label", "opcode")
+            .filter(base -> xml.xpath(String.format(".//o[@base='%s']/@base", base)).isEmpty())
+            .map(base -> String.format("org.eolang.jeo.%s", base))
+            .collect(Collectors.toList());
     }
 }
@@ -41,7 +41,7 @@ public final class AddAgent implements DecompilationAgent {
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return new OpcodesAgent(this).appropriate(state);
+        return state.hasInstructions() && this.supported().isSupported(state.current());
     }
 
     @Override
@@ -24,12 +24,19 @@
 package org.eolang.opeo.decompilation.agents;
 
 import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.opeo.ast.Numbering;
 import org.eolang.opeo.decompilation.DecompilerState;
 
 /**
  * All agents that try to decompile incoming instructions.
+ * Agents are arranged into an immutable dispatch table indexed by opcode, so
+ * choosing the agent for an instruction is a single array lookup. Opcodes that
+ * no agent supports are handled by the fallback agent. Agents are stateless,
+ * so the same instance might be reused across methods and threads.
  * @since 0.2
  * @todo #376:90min Decompilation Finish Condition.
  *  Currently we decompile until we out of instructions.
@@ -42,9 +49,24 @@ import org.eolang.opeo.decompilation.DecompilerState;
 public final class AllAgents implements DecompilationAgent {
 
     /**
-     * ALl instruction handlers.
+     * All instruction handlers in the order of priority.
      */
-    private final Set<? extends DecompilationAgent> agents;
+    private final List<? extends DecompilationAgent> agents;
+
+    /**
+     * Handlers indexed by opcode.
+     */
+    private final DecompilationAgent[] table;
+
+    /**
+     * Handler for opcodes that no other agent supports.
+     */
+    private final DecompilationAgent fallback;
+
+    /**
+     * Numbering of the opcodes that no agent supports.
+     */
+    private final Numbering numbering;
 
     /**
      * Constructor.
@@ -59,67 +81,101 @@ public final class AllAgents implements DecompilationAgent {
      * @param output Where do we save output logs?
      */
     public AllAgents(final boolean counting, final TracedAgent.Output output) {
+        this(counting, output, new Measurements());
+    }
+
+    /**
+     * Constructor.
+     * @param counting Do we put numbers to opcodes?
+     * @param output Where do we save output logs?
+     * @param measurements Performance counters of the agents.
+     */
+    public AllAgents(
+        final boolean counting,
+        final TracedAgent.Output output,
+        final Measurements measurements
+    ) {
         this(
-            new HashSet<>(
-                Arrays.asList(
-                    new TracedAgent(new ConstAgent(), output),
-                    new TracedAgent(new AddAgent(), output),
-                    new TracedAgent(new SubAgent(), output),
-                    new TracedAgent(new MulAgent(), output),
-                    new TracedAgent(new IfAgent(), output),
-                    new TracedAgent(new CastAgent(), output),
-                    new TracedAgent(new LoadAgent(), output),
-                    new TracedAgent(new StoreAgent(), output),
-                    new TracedAgent(new StoreToArrayAgent(), output),
-                    new TracedAgent(new NewArrayAgent(), output),
-                    new TracedAgent(new CheckCastAgent(), output),
-                    new TracedAgent(new NewAgent(), output),
-                    new TracedAgent(new DupAgent(), output),
-                    new TracedAgent(new BipushAgent(), output),
-                    new TracedAgent(new InvokespecialAgent(), output),
-                    new TracedAgent(new InvokevirtualAgent(), output),
-                    new TracedAgent(new InvokestaticAgent(), output),
-                    new TracedAgent(new InvokeinterfaceAgent(), output),
-                    new TracedAgent(new InvokedynamicAgent(), output),
-                    new TracedAgent(new GetFieldAgent(), output),
-                    new TracedAgent(new PutFieldAgent(), output),
-                    new TracedAgent(new GetStaticAgent(), output),
-                    new TracedAgent(new LdcAgent(), output),
-                    new TracedAgent(new PopAgent(), output),
-                    new TracedAgent(new ReturnAgent(), output),
-                    new TracedAgent(new LabelAgent(), output),
-                    new TracedAgent(new UnimplementedAgent(counting), output)
-                )
-            )
+            Stream.of(
+                new ConstAgent(),
+                new AddAgent(),
+                new SubAgent(),
+                new MulAgent(),
+                new IfAgent(),
+                new CastAgent(),
+                new LoadAgent(),
+                new StoreAgent(),
+                new StoreToArrayAgent(),
+                new NewArrayAgent(),
+                new CheckCastAgent(),
+                new NewAgent(),
+                new DupAgent(),
+                new BipushAgent(),
+                new InvokespecialAgent(),
+                new InvokevirtualAgent(),
+                new InvokestaticAgent(),
+                new InvokeinterfaceAgent(),
+                new InvokedynamicAgent(),
+                new GetFieldAgent(),
+                new PutFieldAgent(),
+                new GetStaticAgent(),
+                new LdcAgent(),
+                new PopAgent(),
+                new ReturnAgent(),
+                new LabelAgent()
+            ).map(agent -> AllAgents.wrapped(agent, output, measurements))
+                .collect(Collectors.toList()),
+            AllAgents.wrapped(new UnimplementedAgent(), output, measurements),
+            new Numbering(counting)
         );
     }
 
     /**
      * Constructor.
      * @param agents All handlers that will try to handle incoming instructions.
+     * @param fallback Handler for opcodes that no other agent supports.
+     * @param numbering Numbering of the opcodes that no agent supports.
      */
-    private AllAgents(final Set<? extends DecompilationAgent> agents) {
-        this.agents = agents;
+    private AllAgents(
+        final List<? extends DecompilationAgent> agents,
+        final DecompilationAgent fallback,
+        final Numbering numbering
+    ) {
+        this.agents = Collections.unmodifiableList(agents);
+        this.table = AllAgents.table(agents, fallback);
+        this.fallback = fallback;
+        this.numbering = numbering;
+    }
+
+    /**
+     * Numbering of the opcodes that no agent supports.
+     * The decompiler starts a new method numbering from it for each method.
+     * @return Numbering of the run.
+     */
+    public Numbering numbering() {
+        return this.numbering;
     }
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return this.agents.stream().anyMatch(agent -> agent.appropriate(state));
+        return state.hasInstructions() && AllAgents.appropriate(this.agent(state), state);
     }
 
     @Override
     public Supported supported() {
         return this.agents.stream()
             .map(DecompilationAgent::supported)
-            .reduce(new Supported(), Supported::merge);
+            .reduce(this.fallback.supported(), Supported::merge);
     }
 
     @Override
     public void handle(final DecompilerState state) {
-        while (this.appropriate(state)) {
-            this.agents.stream().filter(agent -> agent.appropriate(state))
-                .findFirst()
-                .ifPresent(agent -> agent.handle(state));
+        while (state.hasInstructions()) {
+            final DecompilationAgent agent = this.agent(state);
+            if (!AllAgents.appropriate(agent, state)) {
+                break;
+            }
+            agent.handle(state);
         }
     }
 
@@ -128,7 +184,92 @@ public final class AllAgents implements DecompilationAgent {
      * @return Supported opcodes.
      */
     public String[] supportedOpcodes() {
-        return this.supported().names();
+        return new SupportedOpcodes().names();
     }
 
+    /**
+     * Check if the agent from the dispatch table can handle the current instruction.
+     * Agents of the table support their opcodes by construction, so only the fallback
+     * agent is asked in full.
+     * @param agent Agent from the dispatch table.
+     * @param state Current state with at least one instruction.
+     * @return True if the agent can handle the instruction.
+     */
+    private static boolean appropriate(
+        final DecompilationAgent agent, final DecompilerState state
+    ) {
+        return agent.supported().isSupported(state.current()) || agent.appropriate(state);
+    }
+
+    /**
+     * Wrap the agent with tracing and, if enabled, with performance counters.
+     * @param agent Agent to wrap.
+     * @param output Where do we save output logs?
+     * @param measurements Performance counters of the agents.
+     * @return Wrapped agent.
+     */
+    private static DecompilationAgent wrapped(
+        final DecompilationAgent agent,
+        final TracedAgent.Output output,
+        final Measurements measurements
+    ) {
+        final DecompilationAgent result;
+        if (measurements.enabled()) {
+            result = new MeasuredAgent(
+                new TracedAgent(agent, output),
+                agent.getClass().getSimpleName(),
+                measurements
+            );
+        } else {
+            result = new TracedAgent(agent, output);
+        }
+        return result;
+    }
+
+    /**
+     * Agent for the current instruction.
+     * @param state Current state.
+     * @return Agent that handles the current instruction.
+     */
+    private DecompilationAgent agent(final DecompilerState state) {
+        final int opcode = state.current().opcode();
+        final DecompilationAgent result;
+        if (opcode >= 0 && opcode < this.table.length) {
+            result = this.table[opcode];
+        } else {
+            result = this.fallback;
+        }
+        return result;
+    }
+
+    /**
+     * Build dispatch table.
+     * If several agents support the same opcode, the first one wins.
+     * @param agents All handlers in the order of priority.
+     * @param fallback Handler for opcodes that no other agent supports.
+     * @return Handlers indexed by opcode.
+     */
+    private static DecompilationAgent[] table(
+        final List<? extends DecompilationAgent> agents,
+        final DecompilationAgent fallback
+    ) {
+        final int size = agents.stream()
+            .map(DecompilationAgent::supported)
+            .flatMapToInt(supported -> Arrays.stream(supported.codes()))
+            .max()
+            .orElse(-1) + 1;
+        final DecompilationAgent[] result = new DecompilationAgent[size];
+        for (int idx = agents.size() - 1; idx >= 0; --idx) {
+            final DecompilationAgent agent = agents.get(idx);
+            for (final int opcode : agent.supported().codes()) {
+                result[opcode] = agent;
+            }
+        }
+        for (int opcode = 0; opcode < size; ++opcode) {
+            if (result[opcode] == null) {
+                result[opcode] = fallback;
+            }
+        }
+        return result;
+    }
 }
@@ -35,7 +35,7 @@ public final class BipushAgent implements DecompilationAgent {
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return new OpcodesAgent(this).appropriate(state);
+        return state.hasInstructions() && this.supported().isSupported(state.current());
     }
 
     @Override
@@ -43,7 +43,7 @@ public final class CheckCastAgent implements DecompilationAgent {
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return new OpcodesAgent(this).appropriate(state);
+        return state.hasInstructions() && this.supported().isSupported(state.current());
     }
 
     @Override
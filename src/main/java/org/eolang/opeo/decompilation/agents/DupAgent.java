@@ -46,14 +46,14 @@ public final class DupAgent implements DecompilationAgent {
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return new OpcodesAgent(this).appropriate(state);
+        return state.hasInstructions() && this.supported().isSupported(state.current());
     }
 
     @Override
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
             final OperandStack stack = state.stack();
-            stack.push(new Duplicate(stack.pop()));
+            stack.push(new Duplicate(state.alias(), stack.pop()));
             state.popInstruction();
         } else {
             throw new IllegalAgentException(this, state);
@@ -25,9 +25,9 @@ package org.eolang.opeo.decompilation.agents;
 
 import org.eolang.opeo.ast.AstNode;
 import org.eolang.opeo.ast.If;
+import org.eolang.opeo.ast.Label;
 import org.eolang.opeo.decompilation.DecompilerState;
 import org.eolang.opeo.decompilation.OperandStack;
-import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
 
 /**
@@ -46,7 +46,7 @@ public final class IfAgent implements DecompilationAgent {
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return new OpcodesAgent(this).appropriate(state);
+        return state.hasInstructions() && this.supported().isSupported(state.current());
     }
 
     @Override
@@ -60,8 +60,14 @@ public final class IfAgent implements DecompilationAgent {
             final OperandStack stack = state.stack();
             final AstNode second = stack.pop();
             final AstNode first = stack.pop();
-            final Label operand = (Label) state.operand(0);
-            stack.push(new If(first, second, operand));
+            final Object operand = state.operand(0);
+            if (operand instanceof Label) {
+                stack.push(new If(first, second, (Label) operand));
+            } else {
+                stack.push(
+                    new If(first, second, state.label((org.objectweb.asm.Label) operand))
+                );
+            }
             state.popInstruction();
         } else {
             throw new IllegalAgentException(this, state);
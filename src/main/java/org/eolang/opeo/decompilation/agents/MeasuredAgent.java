@@ -0,0 +1,90 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation.agents;
+
+import org.eolang.opeo.decompilation.DecompilerState;
+
+/**
+ * Agent that measures how much time and memory the original agent spends.
+ * Counters are collected per agent and per handled opcode into {@link Measurements}.
+ * @since 0.5
+ */
+public final class MeasuredAgent implements DecompilationAgent {
+
+    /**
+     * Original agent.
+     */
+    private final DecompilationAgent original;
+
+    /**
+     * Name of the agent in the report.
+     */
+    private final String name;
+
+    /**
+     * Performance counters.
+     */
+    private final Measurements measurements;
+
+    /**
+     * Constructor.
+     * @param original Original agent.
+     * @param name Name of the agent in the report.
+     * @param measurements Performance counters.
+     */
+    public MeasuredAgent(
+        final DecompilationAgent original,
+        final String name,
+        final Measurements measurements
+    ) {
+        this.original = original;
+        this.name = name;
+        this.measurements = measurements;
+    }
+
+    @Override
+    public boolean appropriate(final DecompilerState state) {
+        return this.original.appropriate(state);
+    }
+
+    @Override
+    public Supported supported() {
+        return this.original.supported();
+    }
+
+    @Override
+    public void handle(final DecompilerState state) {
+        final int opcode = state.current().opcode();
+        final long bytes = this.measurements.allocated();
+        final long start = System.nanoTime();
+        this.original.handle(state);
+        final long nanos = System.nanoTime() - start;
+        this.measurements.record(
+            this.name,
+            opcode,
+            nanos,
+            Math.max(0L, this.measurements.allocated() - bytes)
+        );
+    }
+}
@@ -0,0 +1,254 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation.agents;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.opeo.ast.OpcodeName;
+
+/**
+ * Performance counters of decompilation agents.
+ * Invocation counts, cumulative nanoseconds and allocated bytes per agent and
+ * per opcode. Counters are {@link LongAdder}s, so parallel threads don't contend.
+ * Allocated bytes are counted only if the JVM supports per-thread allocation
+ * measurement, otherwise they are zero.
+ * @since 0.5
+ */
+public final class Measurements {
+
+    /**
+     * CSV header.
+     */
+    private static final String HEADER = "kind,name,count,nanos,bytes";
+
+    /**
+     * Counters per agent.
+     */
+    private final ConcurrentMap<String, Counter> agents;
+
+    /**
+     * Counters per opcode.
+     */
+    private final ConcurrentMap<String, Counter> opcodes;
+
+    /**
+     * Whether the counters are collected.
+     */
+    private final boolean active;
+
+    /**
+     * Thread management bean to measure allocations.
+     */
+    private final ThreadMXBean threads;
+
+    /**
+     * Constructor.
+     * Disabled measurements.
+     */
+    public Measurements() {
+        this(false);
+    }
+
+    /**
+     * Constructor.
+     * @param active Whether the counters are collected.
+     */
+    public Measurements(final boolean active) {
+        this.agents = new ConcurrentHashMap<>(0);
+        this.opcodes = new ConcurrentHashMap<>(0);
+        this.active = active;
+        this.threads = ManagementFactory.getThreadMXBean();
+    }
+
+    /**
+     * Whether the counters are collected.
+     * @return True if enabled.
+     */
+    public boolean enabled() {
+        return this.active;
+    }
+
+    /**
+     * Bytes allocated by the current thread so far.
+     * @return Allocated bytes or zero if the JVM can't tell.
+     */
+    public long allocated() {
+        final long result;
+        if (this.threads instanceof com.sun.management.ThreadMXBean) {
+            result = Math.max(
+                0L,
+                ((com.sun.management.ThreadMXBean) this.threads)
+                    .getThreadAllocatedBytes(Thread.currentThread().getId())
+            );
+        } else {
+            result = 0L;
+        }
+        return result;
+    }
+
+    /**
+     * Record one invocation of an agent.
+     * @param agent Agent name.
+     * @param opcode Handled opcode.
+     * @param nanos Spent nanoseconds.
+     * @param bytes Allocated bytes.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public void record(final String agent, final int opcode, final long nanos, final long bytes) {
+        Measurements.counter(this.agents, agent).add(nanos, bytes);
+        Measurements.counter(this.opcodes, new OpcodeName(opcode).simplified()).add(nanos, bytes);
+    }
+
+    /**
+     * Total number of recorded invocations.
+     * @return Number of invocations.
+     */
+    public long invocations() {
+        return this.agents.values().stream().mapToLong(counter -> counter.count.sum()).sum();
+    }
+
+    /**
+     * Report in CSV format.
+     * One line per agent and per opcode, the most expensive first.
+     * @return CSV report.
+     */
+    public String csv() {
+        return Stream.concat(
+            Stream.of(Measurements.HEADER),
+            Stream.concat(
+                Measurements.lines("agent", this.agents),
+                Measurements.lines("opcode", this.opcodes)
+            )
+        ).collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    /**
+     * Save the CSV report.
+     * @param target Where to save the report.
+     */
+    public void save(final Path target) {
+        try {
+            if (target.getParent() != null) {
+                Files.createDirectories(target.getParent());
+            }
+            Files.write(target, this.csv().getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save decompilation metrics to '%s'", target),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Find or create a counter.
+     * @param counters All counters.
+     * @param name Counter name.
+     * @return Counter.
+     */
+    private static Counter counter(
+        final ConcurrentMap<String, Counter> counters, final String name
+    ) {
+        Counter result = counters.get(name);
+        if (result == null) {
+            final Counter fresh = new Counter();
+            result = counters.putIfAbsent(name, fresh);
+            if (result == null) {
+                result = fresh;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * CSV lines of the counters.
+     * @param kind Kind of counters.
+     * @param counters Counters.
+     * @return Lines, the most expensive first.
+     */
+    private static Stream<String> lines(
+        final String kind, final Map<String, Counter> counters
+    ) {
+        return counters.entrySet().stream()
+            .sorted(
+                Comparator.comparingLong(
+                    (Map.Entry<String, Counter> entry) -> entry.getValue().nanos.sum()
+                ).reversed().thenComparing(Map.Entry::getKey)
+            )
+            .map(
+                entry -> String.format(
+                    "%s,%s,%d,%d,%d",
+                    kind,
+                    entry.getKey(),
+                    entry.getValue().count.sum(),
+                    entry.getValue().nanos.sum(),
+                    entry.getValue().bytes.sum()
+                )
+            );
+    }
+
+    /**
+     * Counter of invocations, nanoseconds and bytes.
+     * @since 0.5
+     */
+    private static final class Counter {
+
+        /**
+         * Invocations.
+         */
+        private final LongAdder count = new LongAdder();
+
+        /**
+         * Nanoseconds.
+         */
+        private final LongAdder nanos = new LongAdder();
+
+        /**
+         * Allocated bytes.
+         */
+        private final LongAdder bytes = new LongAdder();
+
+        /**
+         * Add one invocation.
+         * @param time Spent nanoseconds.
+         * @param allocated Allocated bytes.
+         */
+        void add(final long time, final long allocated) {
+            this.count.increment();
+            this.nanos.add(time);
+            this.bytes.add(allocated);
+        }
+    }
+}
@@ -23,10 +23,7 @@
  */
 package org.eolang.opeo.decompilation.agents;
 
-import java.util.Arrays;
-import java.util.HashSet;
-import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.BitSet;
 import org.eolang.opeo.ast.Opcode;
 import org.eolang.opeo.ast.OpcodeName;
 
@@ -39,22 +36,23 @@ final class Supported {
 
     /**
      * Supported opcodes.
+     * Opcode is an index of the bit.
      */
-    private final Set<Integer> all;
+    private final BitSet all;
 
     /**
      * Constructor.
      * @param supported Supported opcodes.
      */
     Supported(final int... supported) {
-        this(Arrays.stream(supported).boxed().collect(Collectors.toSet()));
+        this(Supported.bits(supported));
     }
 
     /**
      * Constructor.
      * @param supported Supported opcodes.
      */
-    Supported(final Set<Integer> supported) {
+    private Supported(final BitSet supported) {
         this.all = supported;
     }
 
@@ -64,7 +62,16 @@ final class Supported {
      * @return True if the instruction is supported, false otherwise.
      */
     boolean isSupported(final Opcode opcode) {
-        return this.all.contains(opcode.opcode());
+        return this.isSupported(opcode.opcode());
+    }
+
+    /**
+     * Check if the opcode is supported.
+     * @param opcode Opcode to check.
+     * @return True if the opcode is supported, false otherwise.
+     */
+    boolean isSupported(final int opcode) {
+        return opcode >= 0 && this.all.get(opcode);
     }
 
     /**
@@ -73,20 +80,40 @@ final class Supported {
      * @return Merged supported set.
      */
     Supported merge(final Supported supported) {
-        final Set<Integer> merged = new HashSet<>(this.all);
-        merged.addAll(supported.all);
+        final BitSet merged = (BitSet) this.all.clone();
+        merged.or(supported.all);
         return new Supported(merged);
     }
 
     /**
      * Simplified names of supported opcodes.
-     * @return Names of supported opcodes.
+     * @return Names of supported opcodes in the order of opcodes.
      */
     String[] names() {
         return this.all.stream()
-            .map(OpcodeName::new)
+            .mapToObj(OpcodeName::new)
             .map(OpcodeName::simplified)
             .toArray(String[]::new);
     }
 
+    /**
+     * Supported opcodes.
+     * @return Opcodes in ascending order.
+     */
+    int[] codes() {
+        return this.all.stream().toArray();
+    }
+
+    /**
+     * Supported opcodes as bits.
+     * @param supported Supported opcodes.
+     * @return Bits where opcode is an index of the bit.
+     */
+    private static BitSet bits(final int... supported) {
+        final BitSet result = new BitSet();
+        for (final int opcode : supported) {
+            result.set(opcode);
+        }
+        return result;
+    }
 }
@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation.agents;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+import org.eolang.opeo.LabelInstruction;
+import org.eolang.opeo.ast.OpcodeName;
+
+/**
+ * Registry of opcodes that can be decompiled.
+ * It answers whether an opcode is supported without building {@link AllAgents}
+ * and without any allocations: by opcode it's a single bit lookup, by simplified
+ * name it's a single hash lookup. The default registry is computed once per JVM
+ * from {@link AllAgents} and is immutable.
+ * @since 0.5
+ */
+public final class SupportedOpcodes {
+
+    /**
+     * Supported opcodes.
+     */
+    private final Supplier<Table> table;
+
+    /**
+     * Constructor.
+     * Opcodes supported by {@link AllAgents}.
+     */
+    public SupportedOpcodes() {
+        this(() -> Default.TABLE);
+    }
+
+    /**
+     * Constructor.
+     * @param names Simplified names of supported opcodes, like 'aload'.
+     */
+    public SupportedOpcodes(final String... names) {
+        this(
+            new Table(
+                new Supported(
+                    Arrays.stream(names).map(OpcodeName::new).mapToInt(OpcodeName::code).toArray()
+                )
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param table Supported opcodes.
+     */
+    private SupportedOpcodes(final Table table) {
+        this(() -> table);
+    }
+
+    /**
+     * Constructor.
+     * @param table Supported opcodes.
+     */
+    private SupportedOpcodes(final Supplier<Table> table) {
+        this.table = table;
+    }
+
+    /**
+     * Check if the opcode is supported.
+     * @param opcode Opcode, like {@link org.objectweb.asm.Opcodes#ALOAD}.
+     * @return True if supported.
+     */
+    public boolean contains(final int opcode) {
+        return this.table.get().supported.isSupported(opcode);
+    }
+
+    /**
+     * Check if the opcode is supported.
+     * @param name Simplified opcode name, like 'aload'.
+     * @return True if supported.
+     */
+    public boolean contains(final String name) {
+        return this.table.get().codes.containsKey(name);
+    }
+
+    /**
+     * Simplified names of all supported opcodes.
+     * @return Names in the order of opcodes.
+     */
+    public String[] names() {
+        return this.table.get().names.clone();
+    }
+
+    /**
+     * Precomputed supported opcodes.
+     * @since 0.5
+     */
+    private static final class Table {
+
+        /**
+         * Supported opcodes.
+         */
+        private final Supported supported;
+
+        /**
+         * Simplified names of supported opcodes.
+         */
+        private final String[] names;
+
+        /**
+         * Supported opcodes indexed by simplified names.
+         */
+        private final Map<String, Integer> codes;
+
+        /**
+         * Constructor.
+         * @param supported Supported opcodes.
+         */
+        Table(final Supported supported) {
+            this(supported, Table.index(supported));
+        }
+
+        /**
+         * Constructor.
+         * @param supported Supported opcodes.
+         * @param codes Supported opcodes indexed by simplified names.
+         */
+        private Table(final Supported supported, final Map<String, Integer> codes) {
+            this.supported = supported;
+            this.codes = codes;
+            this.names = codes.keySet().toArray(new String[0]);
+        }
+
+        /**
+         * Index supported opcodes by simplified names.
+         * Pseudo-opcodes, like labels, don't have names and are skipped.
+         * @param supported Supported opcodes.
+         * @return Opcodes indexed by names in the order of opcodes.
+         */
+        private static Map<String, Integer> index(final Supported supported) {
+            final Map<String, Integer> result = new LinkedHashMap<>(0);
+            for (final int code : supported.codes()) {
+                if (code != LabelInstruction.LABEL_OPCODE) {
+                    result.put(new OpcodeName(code).simplified(), code);
+                }
+            }
+            return Collections.unmodifiableMap(result);
+        }
+    }
+
+    /**
+     * Opcodes supported by {@link AllAgents}.
+     * It's a lazy holder, since {@link AllAgents} themselves might ask the registry.
+     * @since 0.5
+     */
+    private static final class Default {
+
+        /**
+         * Supported opcodes.
+         */
+        private static final Table TABLE = new Table(new AllAgents().supported());
+    }
+}
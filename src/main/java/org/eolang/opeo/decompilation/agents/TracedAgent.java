@@ -81,40 +81,55 @@ public final class TracedAgent implements DecompilationAgent {
     @Override
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
-            final String name = this.original.getClass().getSimpleName();
-            this.output.register(this.original.getClass());
-            this.output.write(
-                String.format(
-                    "Stack before %s: [%s]",
-                    name,
-                    state.stack().pretty()
-                )
-            );
-            this.output.write(
-                String.format(
-                    "Instructions before %s: [%s]",
-                    name,
-                    state.prettyOpcodes()
-                )
-            );
-            this.original.handle(state);
-            this.output.write(
-                String.format(
-                    "Stack after %s: [%s]",
-                    name,
-                    state.stack().pretty()
-                )
-            );
-            this.output.write(
-                String.format(
-                    "Instructions after %s: [%s]",
-                    name,
-                    state.prettyOpcodes()
-                )
-            );
+            state.record(this.original.getClass());
+            if (this.output.enabled()) {
+                this.traced(state);
+            } else {
+                this.original.handle(state);
+            }
         }
     }
 
+    /**
+     * Handle the current state and write all the details to the output.
+     * Rendering the stack and remaining instructions is linear in their size,
+     * so we do it only when the output is going to be used.
+     * @param state Current state to handle.
+     */
+    private void traced(final DecompilerState state) {
+        final String name = this.original.getClass().getSimpleName();
+        this.output.register(this.original.getClass());
+        this.output.write(
+            String.format(
+                "Stack before %s: [%s]",
+                name,
+                state.stack().pretty()
+            )
+        );
+        this.output.write(
+            String.format(
+                "Instructions before %s: [%s]",
+                name,
+                state.prettyOpcodes()
+            )
+        );
+        this.original.handle(state);
+        this.output.write(
+            String.format(
+                "Stack after %s: [%s]",
+                name,
+                state.stack().pretty()
+            )
+        );
+        this.output.write(
+            String.format(
+                "Instructions after %s: [%s]",
+                name,
+                state.prettyOpcodes()
+            )
+        );
+    }
+
     /**
      * Output target.
      * Target for the output of the traced agent.
@@ -134,6 +149,13 @@ public final class TracedAgent implements DecompilationAgent {
          */
         void register(Class<? extends DecompilationAgent> agent);
 
+        /**
+         * Whether the output is going to use messages at all.
+         * If it doesn't, messages are never built.
+         * @return True if enabled.
+         */
+        boolean enabled();
+
     }
 
     /**
@@ -152,6 +174,11 @@ public final class TracedAgent implements DecompilationAgent {
         public void register(final Class<? extends DecompilationAgent> agent) {
             Logger.debug(this, "Agent used: %s", agent.getSimpleName());
         }
+
+        @Override
+        public boolean enabled() {
+            return Logger.isDebugEnabled(this);
+        }
     }
 
     /**
@@ -197,6 +224,11 @@ public final class TracedAgent implements DecompilationAgent {
             this.agents.add(agent);
         }
 
+        @Override
+        public boolean enabled() {
+            return true;
+        }
+
         /**
          * Get all messages.
          * @return All messages.
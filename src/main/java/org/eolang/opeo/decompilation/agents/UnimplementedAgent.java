@@ -33,21 +33,28 @@ import org.eolang.opeo.decompilation.DecompilerState;
 final class UnimplementedAgent implements DecompilationAgent {
 
     /**
-     * Do we put numbers to opcodes?
+     * Opcodes that other agents can handle.
      */
-    private final boolean counting;
+    private final SupportedOpcodes known;
 
     /**
      * Constructor.
-     * @param counting Flag which decides if we need to count opcodes.
      */
-    UnimplementedAgent(final boolean counting) {
-        this.counting = counting;
+    UnimplementedAgent() {
+        this(new SupportedOpcodes());
+    }
+
+    /**
+     * Constructor.
+     * @param known Opcodes that other agents can handle.
+     */
+    UnimplementedAgent(final SupportedOpcodes known) {
+        this.known = known;
     }
 
     @Override
     public boolean appropriate(final DecompilerState state) {
-        return state.hasInstructions() && !new AllAgents().supported().isSupported(state.current());
+        return state.hasInstructions() && !this.known.contains(state.current().opcode());
     }
 
     @Override
@@ -59,10 +66,8 @@ final class UnimplementedAgent implements DecompilationAgent {
     public void handle(final DecompilerState state) {
         if (this.appropriate(state)) {
             state.stack().push(
-                new Opcode(
-                    state.current().opcode(),
-                    state.current().params(),
-                    this.counting
+                state.numbered(
+                    new Opcode(state.current().opcode(), state.current().params())
                 )
             );
             state.popInstruction();
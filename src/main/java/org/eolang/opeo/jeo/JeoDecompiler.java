@@ -26,14 +26,21 @@ package org.eolang.opeo.jeo;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import org.eolang.jeo.representation.xmir.XmlMethod;
-import org.eolang.jeo.representation.xmir.XmlNode;
 import org.eolang.jeo.representation.xmir.XmlProgram;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.ast.DomSink;
 import org.eolang.opeo.decompilation.DecompilerMachine;
 import org.eolang.opeo.decompilation.LocalVariables;
+import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.parallel.Split;
 import org.objectweb.asm.Type;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
-import org.xembly.Transformers;
+import org.xembly.Directives;
 import org.xembly.Xembler;
 
 /**
@@ -45,14 +52,30 @@ public final class JeoDecompiler {
 
     /**
      * Program in XMIR format received from jeo maven plugin.
+     * The decompiler owns this DOM and modifies it in place.
      */
-    private final XML prog;
+    private final Node prog;
 
     /**
      * Program package.
      */
     private final String pckg;
 
+    /**
+     * Decompiler machine for method local variables.
+     */
+    private final Function<LocalVariables, DecompilerMachine> machine;
+
+    /**
+     * Split of large classes into methods decompiled concurrently.
+     */
+    private final Split split;
+
+    /**
+     * Memo of decompiled methods.
+     */
+    private final Memo memo;
+
     /**
      * Constructor.
      *
@@ -69,55 +92,295 @@ public final class JeoDecompiler {
      * @param pckg Program package.
      */
     public JeoDecompiler(final XML prog, final String pckg) {
+        this(
+            prog.node(),
+            pckg,
+            locals -> new DecompilerMachine(locals, Collections.singletonMap("counting", "true"))
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param prog Program in XMIR format received from jeo maven plugin.
+     * @param pckg Program package.
+     * @param agents Agents that decompile instructions.
+     */
+    public JeoDecompiler(final XML prog, final String pckg, final AllAgents agents) {
+        this(prog.node(), pckg, agents);
+    }
+
+    /**
+     * Constructor.
+     * The given DOM is modified in place, so it must not be shared.
+     *
+     * @param prog Program in XMIR format received from jeo maven plugin.
+     * @param pckg Program package.
+     * @param agents Agents that decompile instructions.
+     */
+    public JeoDecompiler(final Node prog, final String pckg, final AllAgents agents) {
+        this(prog, pckg, locals -> new DecompilerMachine(locals, agents));
+    }
+
+    /**
+     * Constructor.
+     * The given DOM is modified in place, so it must not be shared.
+     *
+     * @param prog Program in XMIR format received from jeo maven plugin.
+     * @param pckg Program package.
+     * @param agents Agents that decompile instructions.
+     * @param split Split of large classes into methods decompiled concurrently.
+     * @param memo Memo of decompiled methods.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public JeoDecompiler(
+        final Node prog,
+        final String pckg,
+        final AllAgents agents,
+        final Split split,
+        final Memo memo
+    ) {
+        this(
+            prog,
+            pckg,
+            locals -> new DecompilerMachine(locals, agents),
+            split,
+            memo.numbered(agents.numbering())
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param prog Program in XMIR format received from jeo maven plugin.
+     * @param pckg Program package.
+     * @param machine Decompiler machine for method local variables.
+     */
+    private JeoDecompiler(
+        final Node prog,
+        final String pckg,
+        final Function<LocalVariables, DecompilerMachine> machine
+    ) {
+        this(prog, pckg, machine, new Split(), new Memo());
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param prog Program in XMIR format received from jeo maven plugin.
+     * @param pckg Program package.
+     * @param machine Decompiler machine for method local variables.
+     * @param split Split of large classes into methods decompiled concurrently.
+     * @param memo Memo of decompiled methods.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private JeoDecompiler(
+        final Node prog,
+        final String pckg,
+        final Function<LocalVariables, DecompilerMachine> machine,
+        final Split split,
+        final Memo memo
+    ) {
         this.prog = prog;
         this.pckg = pckg;
+        this.machine = machine;
+        this.split = split;
+        this.memo = memo;
     }
 
     /**
      * Decompile program.
+     * Instructions of all the methods are read from the program first.
+     * If the class is large enough, its methods are decompiled concurrently,
+     * each into its own document, and then spliced back in the original order.
      *
      * @return EO program.
      */
     public XML decompile() {
-        final Node node = this.prog.node();
         final String descriptor = Type.getObjectType(
             this.pckg.replace(".xmir", "").replace(".", "/")
         ).getDescriptor();
-        new XmlProgram(node).top().methods()
-            .forEach(method -> this.decompile(method, descriptor));
-        return new XMLDocument(node);
-    }
-
-    /**
-     * Decompile method.
-     *
-     * @param method Method.
-     * @param clazz Class name.
-     */
-    private void decompile(final XmlMethod method, final String clazz) {
         try {
-            if (!method.instructions().isEmpty()) {
-                method.withInstructions(
-                    new XmlNode(
-                        new Xembler(
-                            new DecompilerMachine(
-                                new LocalVariables(method.access(), method.descriptor(), clazz),
-                                Collections.singletonMap("counting", "true")
-                            ).decompile(new JeoInstructions(method).instructions()),
-                            new Transformers.Node()
-                        ).xmlQuietly()
-                    ).children().toArray(XmlNode[]::new)
-                );
+            final List<Body> bodies = new XmlProgram(this.prog).top().methods().stream()
+                .filter(method -> !method.nodes().isEmpty())
+                .map(method -> new Body(method, descriptor))
+                .collect(Collectors.toList());
+            final int size = bodies.stream().mapToInt(Body::size).sum();
+            if (this.split.worth(bodies.size(), size)) {
+                this.split.map(
+                    bodies.stream().map(Body::detached).collect(Collectors.toList()),
+                    body -> body.decompile(this.machine, this.memo)
+                ).forEach(Body::splice);
+            } else {
+                bodies.stream()
+                    .map(body -> body.decompile(this.machine, this.memo))
+                    .forEach(Body::splice);
             }
         } catch (final ClassCastException | IllegalStateException exception) {
             throw new IllegalStateException(
                 String.format(
-                    "Failed to decompile method '%s' from the following XMIR: '%s'",
-                    method,
-                    this.prog
+                    "Failed to decompile the following XMIR: '%s'",
+                    new XMLDocument(this.prog)
                 ),
                 exception
             );
         }
+        return new XMLDocument(this.prog);
+    }
+
+    /**
+     * Body of a method to decompile.
+     * Decompiled instructions are built in an empty copy of the original body
+     * and then swapped with the original body, so no intermediate documents
+     * are created and the original body stays intact if decompilation fails.
+     *
+     * @since 0.5
+     */
+    private static final class Body {
+
+        /**
+         * Original body.
+         */
+        private final Node original;
+
+        /**
+         * Empty copy of the original body where decompiled instructions are built.
+         */
+        private final Node shell;
+
+        /**
+         * Method name.
+         */
+        private final String name;
+
+        /**
+         * Local variables of the method.
+         */
+        private final LocalVariables locals;
+
+        /**
+         * Instructions of the method.
+         */
+        private final Instruction[] instructions;
+
+        /**
+         * Constructor.
+         * @param method Method.
+         * @param clazz Class name.
+         */
+        Body(final XmlMethod method, final String clazz) {
+            this(
+                method.nodes().get(0).node().getParentNode(),
+                method.name(),
+                new LocalVariables(method.access(), method.descriptor(), clazz),
+                new JeoInstructions(method).detached()
+            );
+        }
+
+        /**
+         * Constructor.
+         * @param original Original body.
+         * @param name Method name.
+         * @param locals Local variables of the method.
+         * @param instructions Instructions of the method.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        private Body(
+            final Node original,
+            final String name,
+            final LocalVariables locals,
+            final Instruction[] instructions
+        ) {
+            this(original, original.cloneNode(false), name, locals, instructions);
+        }
+
+        /**
+         * Constructor.
+         * @param original Original body.
+         * @param shell Empty copy of the original body.
+         * @param name Method name.
+         * @param locals Local variables of the method.
+         * @param instructions Instructions of the method.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        private Body(
+            final Node original,
+            final Node shell,
+            final String name,
+            final LocalVariables locals,
+            final Instruction[] instructions
+        ) {
+            this.original = original;
+            this.shell = shell;
+            this.name = name;
+            this.locals = locals;
+            this.instructions = instructions;
+        }
+
+        /**
+         * Number of instructions.
+         * @return Number of instructions.
+         */
+        int size() {
+            return this.instructions.length;
+        }
+
+        /**
+         * The same body, but built in its own document.
+         * DOM is not thread-safe, so each concurrently decompiled body needs its own document.
+         * @return Body.
+         */
+        Body detached() {
+            final Document doc = new Xembler(new Directives()).domQuietly();
+            doc.appendChild(doc.importNode(this.shell, false));
+            return new Body(
+                this.original,
+                doc.getDocumentElement(),
+                this.name,
+                this.locals,
+                this.instructions
+            );
+        }
+
+        /**
+         * Decompile the instructions into the shell.
+         * @param machine Decompiler machine for method local variables.
+         * @param memo Memo of decompiled methods.
+         * @return This body.
+         */
+        Body decompile(
+            final Function<LocalVariables, DecompilerMachine> machine, final Memo memo
+        ) {
+            try {
+                memo.decompile(
+                    this.shell,
+                    this.locals,
+                    this.instructions,
+                    () -> machine.apply(this.locals).decompile(
+                        new DomSink(this.shell), this.instructions
+                    )
+                );
+            } catch (final ClassCastException | IllegalStateException exception) {
+                throw new IllegalStateException(
+                    String.format("Failed to decompile method '%s'", this.name),
+                    exception
+                );
+            }
+            return this;
+        }
+
+        /**
+         * Swap the original body with the decompiled one.
+         */
+        void splice() {
+            final Document doc = this.original.getOwnerDocument();
+            final Node body;
+            if (doc.equals(this.shell.getOwnerDocument())) {
+                body = this.shell;
+            } else {
+                body = doc.importNode(this.shell, true);
+            }
+            this.original.getParentNode().replaceChild(body, this.original);
+        }
     }
 }
@@ -24,11 +24,10 @@
 package org.eolang.opeo.jeo;
 
 import java.util.List;
-import java.util.stream.Collectors;
 import lombok.ToString;
 import org.eolang.jeo.representation.xmir.XmlInstruction;
-import org.eolang.jeo.representation.xmir.XmlOperand;
 import org.eolang.opeo.Instruction;
+import org.eolang.opeo.ast.Operands;
 
 /**
  * Class that represents the instruction provided by jeo maven plugin.
@@ -62,9 +61,6 @@ public final class JeoInstruction implements Instruction {
 
     @Override
     public List<Object> operands() {
-        return this.instruction.operands()
-            .stream()
-            .map(XmlOperand::asObject)
-            .collect(Collectors.toList());
+        return new Operands(this.instruction).toList();
     }
 }
@@ -30,6 +30,7 @@ import org.eolang.jeo.representation.xmir.XmlLabel;
 import org.eolang.jeo.representation.xmir.XmlMethod;
 import org.eolang.opeo.Instruction;
 import org.eolang.opeo.LabelInstruction;
+import org.eolang.opeo.OpcodeInstruction;
 import org.eolang.opeo.ast.OpcodeName;
 
 /**
@@ -72,6 +73,19 @@ public final class JeoInstructions {
             .toArray(Instruction[]::new);
     }
 
+    /**
+     * Parse instructions and read all their operands at once.
+     * Resulting instructions don't refer to the XMIR anymore, so they might
+     * be decompiled in another thread while the XMIR is being modified.
+     *
+     * @return Instructions array.
+     */
+    public Instruction[] detached() {
+        return Arrays.stream(this.instructions())
+            .map(JeoInstructions::detached)
+            .toArray(Instruction[]::new);
+    }
+
     /**
      * Check if entry is an instruction.
      * @param entry XML bytecode entry.
@@ -100,4 +114,22 @@ public final class JeoInstructions {
         }
         return result;
     }
+
+    /**
+     * Read all the operands of the instruction.
+     *
+     * @param instruction Instruction.
+     * @return Instruction that doesn't refer to XMIR.
+     */
+    private static Instruction detached(final Instruction instruction) {
+        final Instruction result;
+        if (instruction instanceof JeoInstruction) {
+            result = new OpcodeInstruction(
+                instruction.opcode(), instruction.operands().toArray()
+            );
+        } else {
+            result = instruction;
+        }
+        return result;
+    }
 }
@@ -0,0 +1,314 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.jeo;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import org.cactoos.io.InputOf;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.LabelInstruction;
+import org.eolang.opeo.ast.Label;
+import org.eolang.opeo.ast.Numbering;
+import org.eolang.opeo.decompilation.LocalVariables;
+import org.eolang.opeo.storage.Cache;
+import org.eolang.opeo.storage.ContentHash;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Memo of decompiled methods.
+ * Many methods are identical across classes and builds: getters, bridge methods,
+ * generated {@code equals} and {@code hashCode}, and so on. The memo keeps decompiled
+ * bodies of methods in a {@link Cache} under a key, which is the content hash of
+ * the configuration, the signature of the method local variables and the instructions.
+ * Labels get new random identifiers each time a class is disassembled, so the key
+ * refers to labels by their order in the method, and the saved body marks label
+ * objects with their order instead of identifiers, which are set to the labels of
+ * the current method on reuse. Opcode names are numbered per method, so a reused
+ * body has the same names as if the method was decompiled again, while the numbering
+ * itself is a part of the key.
+ * @since 0.5
+ */
+public final class Memo {
+
+    /**
+     * Attribute of a label object in the saved body with the order of the label.
+     */
+    private static final String ORDER = "memo-label";
+
+    /**
+     * Cache of decompiled bodies.
+     */
+    private final Cache cache;
+
+    /**
+     * Configuration of the decompilation.
+     */
+    private final String config;
+
+    /**
+     * Whether the memo is used at all.
+     */
+    private final boolean enabled;
+
+    /**
+     * Constructor.
+     * Creates a memo that doesn't keep anything.
+     */
+    public Memo() {
+        this(new Cache.Disabled(), "", false);
+    }
+
+    /**
+     * Constructor.
+     * @param cache Cache of decompiled bodies.
+     * @param config Configuration of the decompilation.
+     */
+    public Memo(final Cache cache, final String config) {
+        this(cache, config, true);
+    }
+
+    /**
+     * Constructor.
+     * @param cache Cache of decompiled bodies.
+     * @param config Configuration of the decompilation.
+     * @param enabled Whether the memo is used at all.
+     */
+    private Memo(final Cache cache, final String config, final boolean enabled) {
+        this.cache = cache;
+        this.config = config;
+        this.enabled = enabled;
+    }
+
+    /**
+     * The same memo for the given numbering of opcode names.
+     * @param numbering Numbering of opcode names.
+     * @return Memo.
+     */
+    public Memo numbered(final Numbering numbering) {
+        return new Memo(
+            this.cache, String.format("%s %s", this.config, numbering), this.enabled
+        );
+    }
+
+    /**
+     * Decompile the method body or take it from the memo.
+     * @param shell Empty body where decompiled instructions are added to.
+     * @param locals Local variables of the method, before decompilation.
+     * @param instructions Instructions of the method.
+     * @param decompilation Decompilation of the instructions into the shell.
+     */
+    void decompile(
+        final Node shell,
+        final LocalVariables locals,
+        final Instruction[] instructions,
+        final Runnable decompilation
+    ) {
+        if (this.enabled) {
+            final List<Label> labels = Memo.labels(instructions);
+            final String key = new ContentHash(
+                new InputOf(this.config, StandardCharsets.UTF_8),
+                new InputOf(locals.signature(), StandardCharsets.UTF_8),
+                new InputOf(Memo.rendered(instructions, labels), StandardCharsets.UTF_8)
+            ).hex();
+            final Optional<byte[]> body = this.cache.load(key);
+            if (body.isPresent()) {
+                Memo.restore(shell, new String(body.get(), StandardCharsets.UTF_8), labels);
+            } else {
+                decompilation.run();
+                this.cache.store(key, Memo.saved(shell, labels).getBytes(StandardCharsets.UTF_8));
+            }
+        } else {
+            decompilation.run();
+        }
+    }
+
+    /**
+     * All the labels of the method in the order of appearance.
+     * @param instructions Instructions of the method.
+     * @return Distinct labels.
+     */
+    private static List<Label> labels(final Instruction... instructions) {
+        final Map<Label, Boolean> labels = new LinkedHashMap<>(0);
+        for (final Instruction instruction : instructions) {
+            for (final Object operand : instruction.operands()) {
+                Memo.label(instruction, operand).ifPresent(label -> labels.put(label, true));
+            }
+        }
+        return Arrays.asList(labels.keySet().toArray(new Label[0]));
+    }
+
+    /**
+     * Render instructions, where labels are replaced with their indexes.
+     * Each operand is rendered with its type and length, so different operands
+     * never give the same text.
+     * @param instructions Instructions of the method.
+     * @param labels Labels of the method.
+     * @return Text.
+     */
+    private static String rendered(final Instruction[] instructions, final List<Label> labels) {
+        final StringBuilder text = new StringBuilder(instructions.length << 4);
+        for (final Instruction instruction : instructions) {
+            text.append(instruction.opcode());
+            for (final Object operand : instruction.operands()) {
+                final Optional<Label> label = Memo.label(instruction, operand);
+                final String value;
+                if (label.isPresent()) {
+                    value = String.format("label-%d", labels.indexOf(label.get()));
+                } else if (operand instanceof Object[]) {
+                    value = Arrays.deepToString((Object[]) operand);
+                } else {
+                    value = String.valueOf(operand);
+                }
+                text.append(' ')
+                    .append(Optional.ofNullable(operand).map(Object::getClass).orElse(null))
+                    .append(':')
+                    .append(value.length())
+                    .append(':')
+                    .append(value);
+            }
+            text.append('\n');
+        }
+        return text.toString();
+    }
+
+    /**
+     * Label of the operand, if the operand is a label.
+     * @param instruction Instruction.
+     * @param operand Operand.
+     * @return Label.
+     */
+    private static Optional<Label> label(final Instruction instruction, final Object operand) {
+        final Optional<Label> result;
+        if (operand instanceof Label) {
+            result = Optional.of((Label) operand);
+        } else if (instruction.opcode() == LabelInstruction.LABEL_OPCODE
+            && operand instanceof String) {
+            result = Optional.of(new Label((String) operand));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * Serialize the decompiled body, where label objects refer to labels by order.
+     * @param shell Decompiled body.
+     * @param labels Labels of the method.
+     * @return Text.
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static String saved(final Node shell, final List<Label> labels) {
+        final Map<String, Integer> orders = new HashMap<>(labels.size());
+        for (int index = 0; index < labels.size(); ++index) {
+            orders.put(labels.get(index).hex(), index);
+        }
+        final Node copy = shell.cloneNode(true);
+        for (final Element label : Memo.objects(copy)) {
+            final Integer order = orders.get(label.getTextContent().trim());
+            if (order != null) {
+                label.setAttribute(Memo.ORDER, String.valueOf(order));
+                label.setTextContent("");
+            }
+        }
+        final StringWriter writer = new StringWriter();
+        try {
+            final Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.OMIT_XML_DECLARATION, "yes");
+            transformer.transform(new DOMSource(copy), new StreamResult(writer));
+        } catch (final Exception exception) {
+            throw new IllegalStateException("Can't serialize decompiled method", exception);
+        }
+        return writer.toString();
+    }
+
+    /**
+     * Add the saved body to the shell, where placeholders are replaced with labels.
+     * @param shell Empty body.
+     * @param saved Saved body.
+     * @param labels Labels of the method.
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void restore(final Node shell, final String saved, final List<Label> labels) {
+        final Document doc;
+        try {
+            final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(true);
+            doc = factory.newDocumentBuilder().parse(
+                new ByteArrayInputStream(saved.getBytes(StandardCharsets.UTF_8))
+            );
+        } catch (final Exception exception) {
+            throw new IllegalStateException("Can't parse memoized method", exception);
+        }
+        for (final Element label : Memo.objects(doc.getDocumentElement())) {
+            if (label.hasAttribute(Memo.ORDER)) {
+                label.setTextContent(
+                    labels.get(Integer.parseInt(label.getAttribute(Memo.ORDER))).hex()
+                );
+                label.removeAttribute(Memo.ORDER);
+            }
+        }
+        final Document owner = shell.getOwnerDocument();
+        Node child = doc.getDocumentElement().getFirstChild();
+        while (child != null) {
+            shell.appendChild(owner.importNode(child, true));
+            child = child.getNextSibling();
+        }
+    }
+
+    /**
+     * All the label objects of the body.
+     * @param body Body.
+     * @return Label objects.
+     */
+    private static List<Element> objects(final Node body) {
+        final NodeList all = ((Element) body).getElementsByTagName("o");
+        final List<Element> result = new ArrayList<>(0);
+        for (int index = 0; index < all.getLength(); ++index) {
+            final Element element = (Element) all.item(index);
+            if ("label".equals(element.getAttribute("base"))) {
+                result.add(element);
+            }
+        }
+        return result;
+    }
+}
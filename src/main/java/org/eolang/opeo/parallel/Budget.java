@@ -0,0 +1,205 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.parallel;
+
+import com.jcabi.log.Logger;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Memory budget of jobs in flight.
+ * Each job declares its estimated weight in bytes before it starts. A job is admitted
+ * only if the total weight of the jobs in flight stays within the limit and the heap
+ * has enough headroom for it, so the number of concurrently processed documents
+ * shrinks when documents are large or the heap is nearly full, and grows back when
+ * the memory is released. A single job is always admitted, even if it is heavier
+ * than the limit, otherwise it would never run.
+ * Runs should take a {@link #shared(long)} budget, so when Maven builds several modules
+ * in parallel ('-T' option), they all stay within the same limit, just like workers
+ * share the same limit of threads.
+ * @since 0.5
+ */
+public final class Budget {
+
+    /**
+     * How long to wait before checking the heap again, in milliseconds.
+     * Garbage collector doesn't notify us when it frees memory, so we poll.
+     */
+    private static final long POLL = 100L;
+
+    /**
+     * Budgets shared by all the runs in the JVM, by their limits.
+     */
+    private static final Map<Long, Budget> SHARED = new ConcurrentHashMap<>(0);
+
+    /**
+     * Maximum total weight of jobs in flight, in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Total weight of jobs in flight, in bytes.
+     */
+    private long weight;
+
+    /**
+     * Number of jobs in flight.
+     */
+    private int jobs;
+
+    /**
+     * Peak total weight of jobs in flight, in bytes.
+     */
+    private long heaviest;
+
+    /**
+     * Peak number of jobs in flight.
+     */
+    private int busiest;
+
+    /**
+     * Peak used heap, in bytes.
+     */
+    private long heap;
+
+    /**
+     * Constructor.
+     * Half of the maximum heap.
+     */
+    public Budget() {
+        this(Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * Constructor.
+     * @param limit Maximum total weight of jobs in flight, in bytes.
+     */
+    public Budget(final long limit) {
+        this.limit = limit;
+    }
+
+    /**
+     * Budget of half of the maximum heap shared by all the runs in the JVM.
+     * @return Budget.
+     */
+    public static Budget shared() {
+        return Budget.shared(Runtime.getRuntime().maxMemory() / 2);
+    }
+
+    /**
+     * Budget shared by all the runs in the JVM with the same limit.
+     * @param limit Maximum total weight of jobs in flight, in bytes.
+     * @return Budget.
+     */
+    public static Budget shared(final long limit) {
+        return Budget.SHARED.computeIfAbsent(limit, Budget::new);
+    }
+
+    /**
+     * Wait until the job fits the budget and take its weight.
+     * @param job Estimated weight of the job in bytes.
+     */
+    public synchronized void acquire(final long job) {
+        try {
+            while (!this.fits(job)) {
+                this.wait(Budget.POLL);
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for memory", exception);
+        }
+        this.weight += job;
+        this.jobs += 1;
+        this.heaviest = Math.max(this.heaviest, this.weight);
+        this.busiest = Math.max(this.busiest, this.jobs);
+        this.heap = Math.max(this.heap, Budget.used());
+    }
+
+    /**
+     * Give the weight of the finished job back.
+     * @param job Estimated weight of the job in bytes.
+     */
+    public synchronized void release(final long job) {
+        this.heap = Math.max(this.heap, Budget.used());
+        this.weight -= job;
+        this.jobs -= 1;
+        this.notifyAll();
+    }
+
+    /**
+     * Log peak usage of the budget since the previous report and start over.
+     * Workers report once per run, so each run logs its peaks, which include the jobs
+     * of other runs sharing the budget at the same time.
+     */
+    public synchronized void report() {
+        Logger.info(
+            this,
+            String.join(
+                " ",
+                "Peak in flight: %d jobs, %[size]s estimated",
+                "of %[size]s allowed, %[size]s of heap used"
+            ),
+            this.busiest,
+            this.heaviest,
+            this.limit,
+            this.heap
+        );
+        this.busiest = this.jobs;
+        this.heaviest = this.weight;
+        this.heap = 0L;
+    }
+
+    /**
+     * Whether the job fits the budget right now.
+     * @param job Estimated weight of the job in bytes.
+     * @return True if the job can be started.
+     */
+    private boolean fits(final long job) {
+        final boolean result;
+        if (this.jobs == 0) {
+            result = true;
+        } else if (this.weight + job > this.limit) {
+            result = false;
+        } else {
+            result = Runtime.getRuntime().maxMemory() - Budget.used() > job;
+            if (!result) {
+                Logger.debug(
+                    this,
+                    "Heap is almost full, wait for %d jobs in flight to finish",
+                    this.jobs
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Used heap.
+     * @return Bytes.
+     */
+    private static long used() {
+        final Runtime runtime = Runtime.getRuntime();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
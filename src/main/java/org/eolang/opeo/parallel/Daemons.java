@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.parallel;
+
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Factory of daemon worker threads.
+ * Daemon threads never prevent the JVM from exiting, even if some worker hangs.
+ * @since 0.5
+ */
+final class Daemons implements ThreadFactory {
+
+    /**
+     * Prefix of thread names.
+     */
+    private final String prefix;
+
+    /**
+     * Counter of created threads.
+     */
+    private final AtomicInteger counter;
+
+    /**
+     * Constructor.
+     */
+    Daemons() {
+        this("opeo-worker");
+    }
+
+    /**
+     * Constructor.
+     * @param prefix Prefix of thread names.
+     */
+    Daemons(final String prefix) {
+        this.prefix = prefix;
+        this.counter = new AtomicInteger(0);
+    }
+
+    @Override
+    public Thread newThread(final Runnable runnable) {
+        final Thread thread = new Thread(
+            runnable,
+            String.format("%s-%d", this.prefix, this.counter.incrementAndGet())
+        );
+        thread.setDaemon(true);
+        return thread;
+    }
+}
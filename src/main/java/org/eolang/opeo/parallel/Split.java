@@ -0,0 +1,236 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.parallel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+
+/**
+ * Split of a large class into methods processed concurrently.
+ * A few huge classes often become the long tail of a parallel build, when all
+ * the other workers are already idle. If a class has too many methods or
+ * instructions, its methods are processed by the calling thread together with
+ * helper threads. Helpers take the slots of the run's {@link Workers}, so they
+ * stay within the same threads limit, but never wait for them: if all the slots
+ * are taken, the calling thread processes all the methods alone, so cores are
+ * never oversubscribed and nested jobs can't deadlock.
+ * @since 0.5
+ */
+public final class Split {
+
+    /**
+     * Default number of methods starting from which a class is split.
+     */
+    private static final int METHODS = 64;
+
+    /**
+     * Default number of instructions starting from which a class is split.
+     */
+    private static final int INSTRUCTIONS = 10_000;
+
+    /**
+     * Helper threads shared by all the splits in the JVM.
+     * The number of running helpers is limited by the slots of {@link Workers}.
+     */
+    private static final ExecutorService HELPERS = Executors.newCachedThreadPool(
+        new Daemons("opeo-split")
+    );
+
+    /**
+     * Number of methods starting from which a class is split.
+     * Zero or negative disables the criterion.
+     */
+    private final int methods;
+
+    /**
+     * Number of instructions starting from which a class is split.
+     * Zero or negative disables the criterion.
+     */
+    private final int instructions;
+
+    /**
+     * Workers of the run which lend slots to helpers.
+     */
+    private final Workers workers;
+
+    /**
+     * Constructor.
+     */
+    public Split() {
+        this(new Workers());
+    }
+
+    /**
+     * Constructor.
+     * @param workers Workers of the run which lend slots to helpers.
+     */
+    public Split(final Workers workers) {
+        this(Split.METHODS, Split.INSTRUCTIONS, workers);
+    }
+
+    /**
+     * Constructor.
+     * @param methods Number of methods starting from which a class is split.
+     * @param instructions Number of instructions starting from which a class is split.
+     */
+    public Split(final int methods, final int instructions) {
+        this(methods, instructions, new Workers());
+    }
+
+    /**
+     * Constructor.
+     * @param methods Number of methods starting from which a class is split.
+     * @param instructions Number of instructions starting from which a class is split.
+     * @param workers Workers of the run which lend slots to helpers.
+     */
+    public Split(final int methods, final int instructions, final Workers workers) {
+        this.methods = methods;
+        this.instructions = instructions;
+        this.workers = workers;
+    }
+
+    /**
+     * Split that never processes methods concurrently.
+     * @return Split.
+     */
+    public static Split never() {
+        return new Split(0, 0);
+    }
+
+    /**
+     * Whether a class is large enough to be split.
+     * @param count Number of methods in the class.
+     * @param size Total number of instructions in the class.
+     * @return True if methods of the class should be processed concurrently.
+     */
+    public boolean worth(final int count, final int size) {
+        return count > 1
+            && (this.methods > 0 && count >= this.methods
+            || this.instructions > 0 && size >= this.instructions);
+    }
+
+    /**
+     * Apply the job to all the items.
+     * The method blocks until all the items are processed.
+     * Results are returned in the order of the items.
+     * If some job fails, the remaining items are skipped and the failure is rethrown.
+     * @param items Items to process.
+     * @param job Job to apply to each item.
+     * @param <T> Type of items.
+     * @param <R> Type of results.
+     * @return Results of the job in the order of the items.
+     */
+    public <T, R> List<R> map(final List<T> items, final Function<? super T, ? extends R> job) {
+        final Object[] results = new Object[items.size()];
+        final AtomicInteger next = new AtomicInteger(0);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final Runnable loop = () -> Split.loop(items, job, results, next, failure);
+        int helpers = 0;
+        while (helpers < items.size() - 1 && this.workers.borrow()) {
+            ++helpers;
+        }
+        final CountDownLatch done = new CountDownLatch(helpers);
+        for (int idx = 0; idx < helpers; ++idx) {
+            Split.HELPERS.execute(
+                () -> {
+                    try {
+                        loop.run();
+                    } finally {
+                        this.workers.giveBack();
+                        done.countDown();
+                    }
+                }
+            );
+        }
+        loop.run();
+        Split.await(done);
+        Workers.rethrow(failure.get());
+        final List<R> list = new ArrayList<>(results.length);
+        Arrays.stream(results).map(Split::<R>cast).forEach(list::add);
+        return list;
+    }
+
+    /**
+     * Take items one by one and process them until all the items are taken.
+     * @param items Items to process.
+     * @param job Job to apply to each item.
+     * @param results Where to put results.
+     * @param next Index of the next item to take.
+     * @param failure First failure of a job.
+     * @param <T> Type of items.
+     * @param <R> Type of results.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static <T, R> void loop(
+        final List<T> items,
+        final Function<? super T, ? extends R> job,
+        final Object[] results,
+        final AtomicInteger next,
+        final AtomicReference<Throwable> failure
+    ) {
+        for (int idx = next.getAndIncrement(); idx < results.length; idx = next.getAndIncrement()) {
+            if (failure.get() != null) {
+                break;
+            }
+            try {
+                results[idx] = job.apply(items.get(idx));
+            } catch (final RuntimeException | Error exception) {
+                failure.compareAndSet(null, exception);
+            }
+        }
+    }
+
+    /**
+     * Wait until all the helpers are finished.
+     * @param done Latch of helpers.
+     */
+    private static void await(final CountDownLatch done) {
+        try {
+            done.await();
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for helpers", exception);
+        }
+    }
+
+    /**
+     * Cast a result of a job.
+     * @param result Result.
+     * @param <R> Type of result.
+     * @return Result.
+     */
+    @SuppressWarnings("unchecked")
+    private static <R> R cast(final Object result) {
+        return (R) result;
+    }
+}
@@ -0,0 +1,273 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.parallel;
+
+import com.jcabi.log.Logger;
+import java.util.Iterator;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+import java.util.stream.Stream;
+
+/**
+ * Workers.
+ * Dedicated pool of threads that process XMIRs.
+ * We don't use parallel streams here because they run on the JVM-wide common pool,
+ * which is shared with Maven and all the other plugins. Moreover, when Maven builds
+ * several modules in parallel ('-T' option), each module would start its own set of
+ * busy threads. To avoid it, all the workers in the same JVM share a single limit
+ * that is equal to the number of available processors.
+ * @since 0.5
+ */
+public final class Workers {
+
+    /**
+     * Approximate amount of heap one worker needs to process a large XMIR.
+     */
+    private static final long HEAP_PER_WORKER = 256L * 1024 * 1024;
+
+    /**
+     * Limit of concurrently running jobs in the whole JVM.
+     * Shared between all the modules of a reactor build and with {@link Split}.
+     */
+    static final Semaphore REACTOR = new Semaphore(
+        Runtime.getRuntime().availableProcessors()
+    );
+
+    /**
+     * Number of threads.
+     */
+    private final int threads;
+
+    /**
+     * Memory budget of items in flight.
+     */
+    private final Budget budget;
+
+    /**
+     * Slots of the run, one per thread.
+     * Workers and {@link Split} helpers take them, so both stay within the same limit.
+     */
+    private final Semaphore slots;
+
+    /**
+     * Threads of the workers.
+     * Daemons that live as long as the workers do, so runs don't start new threads.
+     */
+    private final ExecutorService executor;
+
+    /**
+     * Constructor.
+     * Picks the number of threads automatically.
+     */
+    public Workers() {
+        this(0);
+    }
+
+    /**
+     * Constructor.
+     * Items in flight are kept within the budget shared by the whole JVM.
+     * @param threads Number of threads or zero to pick it automatically.
+     */
+    public Workers(final int threads) {
+        this(threads, Budget.shared());
+    }
+
+    /**
+     * Constructor.
+     * @param threads Number of threads or zero to pick it automatically.
+     * @param budget Memory budget of items in flight.
+     */
+    public Workers(final int threads, final Budget budget) {
+        if (threads > 0) {
+            this.threads = threads;
+        } else {
+            this.threads = Workers.optimal();
+        }
+        this.budget = budget;
+        this.slots = new Semaphore(this.threads);
+        this.executor = Executors.newFixedThreadPool(this.threads, new Daemons());
+    }
+
+    /**
+     * Apply the job to all the items.
+     * The method blocks until all the items are processed.
+     * If some job fails, the remaining items are not submitted and the failure is rethrown.
+     * @param items Items to process.
+     * @param job Job to apply to each item.
+     * @param <T> Type of items.
+     * @return Sum of all the job results.
+     */
+    public <T> int apply(final Stream<T> items, final ToIntFunction<? super T> job) {
+        return this.apply(items, item -> 0L, job);
+    }
+
+    /**
+     * Apply the job to all the items, keeping the memory they take within the budget.
+     * An item is submitted only when its estimated weight fits the budget, so large items
+     * are processed with less concurrency than small ones. The weight is given back as soon
+     * as the job finishes, and the item is not referenced by workers after that.
+     * The method blocks until all the items are processed.
+     * If some job fails, the remaining items are not submitted and the failure is rethrown.
+     * @param items Items to process.
+     * @param weight Estimated weight of an item in memory, in bytes.
+     * @param job Job to apply to each item.
+     * @param <T> Type of items.
+     * @return Sum of all the job results.
+     * @checkstyle IllegalCatch (50 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    public <T> int apply(
+        final Stream<T> items,
+        final ToLongFunction<? super T> weight,
+        final ToIntFunction<? super T> job
+    ) {
+        final AtomicInteger total = new AtomicInteger(0);
+        final AtomicReference<Throwable> failure = new AtomicReference<>();
+        final int size = this.threads * 2;
+        final Semaphore window = new Semaphore(size);
+        final Iterator<T> iterator = items.iterator();
+        try {
+            while (failure.get() == null && iterator.hasNext()) {
+                final T item = iterator.next();
+                final long bytes = weight.applyAsLong(item);
+                window.acquireUninterruptibly();
+                this.budget.acquire(bytes);
+                this.executor.execute(
+                    () -> {
+                        this.slots.acquireUninterruptibly();
+                        Workers.REACTOR.acquireUninterruptibly();
+                        try {
+                            total.addAndGet(job.applyAsInt(item));
+                        } catch (final RuntimeException | Error exception) {
+                            failure.compareAndSet(null, exception);
+                        } finally {
+                            Workers.REACTOR.release();
+                            this.slots.release();
+                            this.budget.release(bytes);
+                            window.release();
+                        }
+                    }
+                );
+            }
+        } finally {
+            Workers.await(window, size);
+            this.budget.report();
+        }
+        Workers.rethrow(failure.get());
+        return total.get();
+    }
+
+    /**
+     * Number of threads.
+     * @return Number of threads.
+     */
+    public int size() {
+        return this.threads;
+    }
+
+    /**
+     * Take a slot for a helper thread, if there is a free one.
+     * A slot is free when some worker of the run is idle and the JVM-wide limit
+     * is not reached. The method never waits.
+     * @return True if the slot is taken and must be given back.
+     */
+    boolean borrow() {
+        final boolean result;
+        if (this.slots.tryAcquire()) {
+            result = Workers.REACTOR.tryAcquire();
+            if (!result) {
+                this.slots.release();
+            }
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Give back the slot taken by {@link #borrow()}.
+     */
+    void giveBack() {
+        Workers.REACTOR.release();
+        this.slots.release();
+    }
+
+    /**
+     * Optimal number of threads.
+     * Number of available processors bounded by the available heap.
+     * @return Number of threads.
+     */
+    private static int optimal() {
+        final int cores = Runtime.getRuntime().availableProcessors();
+        final long heap = Runtime.getRuntime().maxMemory();
+        final int result = (int) Math.max(
+            1L, Math.min(cores, heap / Workers.HEAP_PER_WORKER)
+        );
+        Logger.debug(
+            Workers.class,
+            "Use %d threads, available processors: %d, max heap: %[size]s",
+            result,
+            cores,
+            heap
+        );
+        return result;
+    }
+
+    /**
+     * Wait until all the submitted jobs are finished.
+     * Each job holds a permit of the window until it finishes, so all the jobs are
+     * finished when all the permits are back.
+     * @param window Window of the run.
+     * @param size Number of permits in the window.
+     */
+    private static void await(final Semaphore window, final int size) {
+        try {
+            while (!window.tryAcquire(size, 1L, TimeUnit.MINUTES)) {
+                Logger.debug(Workers.class, "Waiting for workers to finish...");
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for workers", exception);
+        }
+    }
+
+    /**
+     * Rethrow a failure of a job, if any.
+     * @param failure Failure or null.
+     */
+    static void rethrow(final Throwable failure) {
+        if (failure instanceof RuntimeException) {
+            throw (RuntimeException) failure;
+        }
+        if (failure instanceof Error) {
+            throw (Error) failure;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.settings;
+
+import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.decompilation.agents.TracedAgent;
+import org.eolang.opeo.jeo.Memo;
+import org.eolang.opeo.parallel.Split;
+import org.eolang.opeo.parallel.Workers;
+import org.eolang.opeo.storage.XmirCache;
+
+/**
+ * Settings of a run.
+ * Everything decompilers and compilers need besides storages: workers, agents,
+ * split of large classes, cache of XMIRs and memo of methods. Each setting has
+ * a default, so only the ones that differ are given, for example
+ * {@code new Settings(workers).with(cache)}.
+ * Compilers use only workers, split and cache.
+ * @since 0.5
+ */
+public final class Settings {
+
+    /**
+     * Workers that process the XMIRs.
+     */
+    private final Workers pool;
+
+    /**
+     * Agents that decompile instructions.
+     */
+    private final AllAgents all;
+
+    /**
+     * Split of large classes into methods processed concurrently.
+     */
+    private final Split parts;
+
+    /**
+     * Cache of processed XMIRs.
+     */
+    private final XmirCache xmirs;
+
+    /**
+     * Memo of decompiled methods.
+     */
+    private final Memo methods;
+
+    /**
+     * Constructor.
+     */
+    public Settings() {
+        this(new Workers());
+    }
+
+    /**
+     * Constructor.
+     * @param workers Workers that process the XMIRs.
+     */
+    public Settings(final Workers workers) {
+        this(
+            workers,
+            new AllAgents(true, new TracedAgent.Log()),
+            new Split(workers),
+            new XmirCache(),
+            new Memo()
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param workers Workers that process the XMIRs.
+     * @param agents Agents that decompile instructions.
+     * @param split Split of large classes into methods processed concurrently.
+     * @param cache Cache of processed XMIRs.
+     * @param memo Memo of decompiled methods.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private Settings(
+        final Workers workers,
+        final AllAgents agents,
+        final Split split,
+        final XmirCache cache,
+        final Memo memo
+    ) {
+        this.pool = workers;
+        this.all = agents;
+        this.parts = split;
+        this.xmirs = cache;
+        this.methods = memo;
+    }
+
+    /**
+     * The same settings with other agents.
+     * @param agents Agents that decompile instructions.
+     * @return Settings.
+     */
+    public Settings with(final AllAgents agents) {
+        return new Settings(this.pool, agents, this.parts, this.xmirs, this.methods);
+    }
+
+    /**
+     * The same settings with another split.
+     * @param split Split of large classes into methods processed concurrently.
+     * @return Settings.
+     */
+    public Settings with(final Split split) {
+        return new Settings(this.pool, this.all, split, this.xmirs, this.methods);
+    }
+
+    /**
+     * The same settings with another cache.
+     * @param cache Cache of processed XMIRs.
+     * @return Settings.
+     */
+    public Settings with(final XmirCache cache) {
+        return new Settings(this.pool, this.all, this.parts, cache, this.methods);
+    }
+
+    /**
+     * The same settings with another memo.
+     * @param memo Memo of decompiled methods.
+     * @return Settings.
+     */
+    public Settings with(final Memo memo) {
+        return new Settings(this.pool, this.all, this.parts, this.xmirs, memo);
+    }
+
+    /**
+     * Workers that process the XMIRs.
+     * @return Workers.
+     */
+    public Workers workers() {
+        return this.pool;
+    }
+
+    /**
+     * Agents that decompile instructions.
+     * @return Agents.
+     */
+    public AllAgents agents() {
+        return this.all;
+    }
+
+    /**
+     * Split of large classes into methods processed concurrently.
+     * @return Split.
+     */
+    public Split split() {
+        return this.parts;
+    }
+
+    /**
+     * Cache of processed XMIRs.
+     * @return Cache.
+     */
+    public XmirCache cache() {
+        return this.xmirs;
+    }
+
+    /**
+     * Memo of decompiled methods.
+     * @return Memo.
+     */
+    public Memo memo() {
+        return this.methods;
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.util.Optional;
+
+/**
+ * Content-addressed cache of transformed XMIRs.
+ * Keys are content hashes, so the same key always refers to the same content
+ * and the cache can be shared by many builds at once.
+ * @since 0.5
+ */
+public interface Cache {
+
+    /**
+     * Find content by key.
+     * @param key Content key.
+     * @return Content if it's cached.
+     */
+    Optional<byte[]> load(String key);
+
+    /**
+     * Save content under the key.
+     * @param key Content key.
+     * @param content Content.
+     */
+    void store(String key, byte[] content);
+
+    /**
+     * Cache that never keeps anything.
+     * @since 0.5
+     */
+    final class Disabled implements Cache {
+
+        @Override
+        public Optional<byte[]> load(final String key) {
+            return Optional.empty();
+        }
+
+        /**
+         * Nothing is stored.
+         * @param key Content key.
+         * @param content Content.
+         * @checkstyle MethodBodyCommentsCheck (5 lines)
+         */
+        @Override
+        public void store(final String key, final byte[] content) {
+            // Nothing to store.
+        }
+    }
+}
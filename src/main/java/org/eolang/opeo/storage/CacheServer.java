@@ -0,0 +1,242 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.log.Logger;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.file.Paths;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+/**
+ * Cache server.
+ * A tiny embedded HTTP server for {@link RemoteCache}, so the remote cache can be
+ * tested and used without any external infrastructure. It serves
+ * {@code GET /<key>} and {@code PUT /<key>} requests on top of any other
+ * {@link Cache}, usually a {@link LocalCache}. Only hexadecimal keys are accepted,
+ * and contents larger than the limit are rejected without keeping them in memory.
+ * There is no authentication, so by default it listens to the loopback interface only.
+ * It can be run standalone as well:
+ * {@code java -cp opeo-maven-plugin.jar org.eolang.opeo.storage.CacheServer
+ * <dir> <port> [<mb>] [<host>]}.
+ * @since 0.5
+ */
+public final class CacheServer implements Closeable {
+
+    /**
+     * Allowed keys.
+     */
+    private static final Pattern KEY = Pattern.compile("[0-9a-f]{2,128}");
+
+    /**
+     * Default maximum size of a stored content in bytes.
+     */
+    private static final long LIMIT = 64L << 20;
+
+    /**
+     * Cache to serve.
+     */
+    private final Cache cache;
+
+    /**
+     * HTTP server.
+     */
+    private final HttpServer server;
+
+    /**
+     * Maximum size of a stored content in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Constructor.
+     * The server listens to a random free port of the loopback interface.
+     * @param cache Cache to serve.
+     * @throws IOException If the port can't be bound.
+     */
+    public CacheServer(final Cache cache) throws IOException {
+        this(cache, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0));
+    }
+
+    /**
+     * Constructor.
+     * @param cache Cache to serve.
+     * @param address Address to listen to.
+     * @throws IOException If the address can't be bound.
+     */
+    public CacheServer(final Cache cache, final InetSocketAddress address) throws IOException {
+        this(cache, address, CacheServer.LIMIT);
+    }
+
+    /**
+     * Constructor.
+     * @param cache Cache to serve.
+     * @param address Address to listen to.
+     * @param limit Maximum size of a stored content in bytes.
+     * @throws IOException If the address can't be bound.
+     */
+    public CacheServer(
+        final Cache cache, final InetSocketAddress address, final long limit
+    ) throws IOException {
+        this.cache = cache;
+        this.server = HttpServer.create(address, 0);
+        this.limit = limit;
+        this.server.createContext("/", this::handle);
+    }
+
+    /**
+     * Run the server over a local cache until the process is stopped.
+     * @param args Cache folder, port and, optionally, maximum size of the cache in megabytes
+     *  and the host to listen to, which is the loopback interface by default.
+     * @throws IOException If the port can't be bound.
+     */
+    public static void main(final String... args) throws IOException {
+        final long size;
+        if (args.length > 2) {
+            size = Long.parseLong(args[2]);
+        } else {
+            size = 1024L;
+        }
+        final InetAddress host;
+        if (args.length > 3) {
+            host = InetAddress.getByName(args[3]);
+        } else {
+            host = InetAddress.getLoopbackAddress();
+        }
+        new CacheServer(
+            new LocalCache(Paths.get(args[0]), size << 20),
+            new InetSocketAddress(host, Integer.parseInt(args[1]))
+        ).start();
+    }
+
+    /**
+     * Start the server.
+     * @return This server.
+     */
+    public CacheServer start() {
+        this.server.start();
+        Logger.info(this, "Cache server is started on %s", this.url());
+        return this;
+    }
+
+    /**
+     * Base URL of the server.
+     * @return URL.
+     */
+    public String url() {
+        final InetSocketAddress address = this.server.getAddress();
+        return String.format(
+            "http://%s:%d/", address.getAddress().getHostAddress(), address.getPort()
+        );
+    }
+
+    @Override
+    public void close() {
+        this.server.stop(0);
+    }
+
+    /**
+     * Handle the request.
+     * @param exchange HTTP exchange.
+     * @throws IOException If fails.
+     */
+    private void handle(final HttpExchange exchange) throws IOException {
+        try {
+            final String key = exchange.getRequestURI().getPath().substring(1);
+            final String method = exchange.getRequestMethod();
+            if (!CacheServer.KEY.matcher(key).matches()) {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_REQUEST, -1);
+            } else if ("GET".equals(method)) {
+                CacheServer.send(exchange, this.cache.load(key));
+            } else if ("PUT".equals(method)) {
+                final Optional<byte[]> content = this.body(exchange);
+                if (content.isPresent()) {
+                    this.cache.store(key, content.get());
+                    exchange.sendResponseHeaders(HttpURLConnection.HTTP_NO_CONTENT, -1);
+                } else {
+                    exchange.sendResponseHeaders(HttpURLConnection.HTTP_ENTITY_TOO_LARGE, -1);
+                }
+            } else {
+                exchange.sendResponseHeaders(HttpURLConnection.HTTP_BAD_METHOD, -1);
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    /**
+     * Read the body of the request, unless it is larger than the limit.
+     * @param exchange HTTP exchange.
+     * @return Content or nothing if it is too large.
+     * @throws IOException If fails.
+     */
+    private Optional<byte[]> body(final HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            final ByteArrayOutputStream content = new ByteArrayOutputStream();
+            final byte[] buffer = new byte[8192];
+            int read = body.read(buffer);
+            while (read >= 0 && content.size() <= this.limit) {
+                content.write(buffer, 0, read);
+                read = body.read(buffer);
+            }
+            final Optional<byte[]> result;
+            if (content.size() > this.limit) {
+                result = Optional.empty();
+            } else {
+                result = Optional.of(content.toByteArray());
+            }
+            return result;
+        }
+    }
+
+    /**
+     * Send content.
+     * @param exchange HTTP exchange.
+     * @param content Content, if found.
+     * @throws IOException If fails.
+     */
+    private static void send(
+        final HttpExchange exchange, final Optional<byte[]> content
+    ) throws IOException {
+        if (content.isPresent()) {
+            final byte[] bytes = content.get();
+            exchange.getResponseHeaders().set("Content-Type", "application/octet-stream");
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_OK, bytes.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(bytes);
+            }
+        } else {
+            exchange.sendResponseHeaders(HttpURLConnection.HTTP_NOT_FOUND, -1);
+        }
+    }
+}
@@ -0,0 +1,73 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.util.Optional;
+
+/**
+ * Chain of two caches.
+ * Usually the first one is a fast local cache and the second one is a shared remote cache.
+ * Content is looked up in the first cache and then in the second one; content found
+ * in the second cache is saved to the first one, so the next lookup is local.
+ * New content is saved to both caches.
+ * @since 0.5
+ */
+public final class ChainedCache implements Cache {
+
+    /**
+     * The first cache.
+     */
+    private final Cache first;
+
+    /**
+     * The second cache.
+     */
+    private final Cache second;
+
+    /**
+     * Constructor.
+     * @param first The first cache.
+     * @param second The second cache.
+     */
+    public ChainedCache(final Cache first, final Cache second) {
+        this.first = first;
+        this.second = second;
+    }
+
+    @Override
+    public Optional<byte[]> load(final String key) {
+        Optional<byte[]> result = this.first.load(key);
+        if (!result.isPresent()) {
+            result = this.second.load(key);
+            result.ifPresent(content -> this.first.store(key, content));
+        }
+        return result;
+    }
+
+    @Override
+    public void store(final String key, final byte[] content) {
+        this.first.store(key, content);
+        this.second.store(key, content);
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import org.cactoos.Input;
+import org.cactoos.io.InputOf;
+
+/**
+ * Content hash.
+ * SHA-256 digest of a file, rendered as a lower-case hex string.
+ * It is used to decide whether an XMIR file was changed since the previous run.
+ * If there are several inputs, the digest is calculated over all of them one by one.
+ * @since 0.5
+ */
+public final class ContentHash {
+
+    /**
+     * Hex digits.
+     */
+    private static final char[] DIGITS = "0123456789abcdef".toCharArray();
+
+    /**
+     * Inputs to hash.
+     */
+    private final Input[] inputs;
+
+    /**
+     * Constructor.
+     * @param path Path to the file.
+     */
+    public ContentHash(final Path path) {
+        this(new InputOf(path));
+    }
+
+    /**
+     * Constructor.
+     * @param inputs Inputs to hash.
+     */
+    public ContentHash(final Input... inputs) {
+        this.inputs = inputs.clone();
+    }
+
+    /**
+     * Hex representation of the hash.
+     * @return Hex string.
+     */
+    public String hex() {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            final byte[] buffer = new byte[8192];
+            for (final Input input : this.inputs) {
+                ContentHash.update(digest, input, buffer);
+            }
+            return ContentHash.hex(digest.digest());
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 algorithm is not available", exception);
+        }
+    }
+
+    /**
+     * Update digest with the content of the input.
+     * @param digest Digest.
+     * @param input Input.
+     * @param buffer Buffer to read the input with.
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static void update(
+        final MessageDigest digest, final Input input, final byte[] buffer
+    ) {
+        try (InputStream stream = input.stream()) {
+            int read = stream.read(buffer);
+            while (read >= 0) {
+                digest.update(buffer, 0, read);
+                read = stream.read(buffer);
+            }
+        } catch (final Exception exception) {
+            throw new IllegalStateException(
+                String.format("Can't calculate hash of the '%s' input", input),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Convert bytes to hex string.
+     * @param bytes Bytes.
+     * @return Hex string.
+     */
+    private static String hex(final byte[] bytes) {
+        final char[] chars = new char[bytes.length * 2];
+        for (int index = 0; index < bytes.length; ++index) {
+            chars[index * 2] = ContentHash.DIGITS[(bytes[index] >> 4) & 0xF];
+            chars[index * 2 + 1] = ContentHash.DIGITS[bytes[index] & 0xF];
+        }
+        return new String(chars);
+    }
+}
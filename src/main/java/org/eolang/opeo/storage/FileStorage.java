@@ -25,10 +25,11 @@ package org.eolang.opeo.storage;
 
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
+import java.io.InputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
 import java.util.stream.Stream;
 
 /**
@@ -89,15 +90,40 @@ public final class FileStorage implements Storage {
         }
     }
 
+    /**
+     * Save XMIR.
+     * The XMIR is written into a temporary file first and then moved to the
+     * destination, so the destination is never observed half-written. It also
+     * allows saving an entry into the same file it was read from.
+     * Entries that point outside of the output folder are rejected.
+     * @param xmir XMIR to save
+     * @checkstyle IllegalCatch (60 lines)
+     */
     @Override
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
     public void save(final XmirEntry xmir) {
-        final Path out = this.output.resolve(Paths.get(xmir.relative()));
-        try {
+        final Path folder = this.output.toAbsolutePath().normalize();
+        final Path out = folder.resolve(Paths.get(xmir.relative())).normalize();
+        if (!out.startsWith(folder)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't save file '%s' outside of the '%s' folder",
+                    xmir.relative(),
+                    this.output
+                )
+            );
+        }
+        try (InputStream input = xmir.input().stream()) {
             Files.createDirectories(out.getParent());
-            Files.write(
-                out,
-                xmir.toXml().toString().getBytes(StandardCharsets.UTF_8)
+            final Path temp = Files.createTempFile(
+                out.getParent(), String.format("%s.", out.getFileName()), ".tmp"
             );
+            try {
+                Files.copy(input, temp, StandardCopyOption.REPLACE_EXISTING);
+                Files.move(temp, out, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temp);
+            }
         } catch (final IllegalArgumentException exception) {
             throw new IllegalStateException(
                 String.format(
@@ -127,6 +153,16 @@ public final class FileStorage implements Storage {
                 ),
                 exception
             );
+        } catch (final Exception exception) {
+            throw new IllegalStateException(
+                String.format(
+                    "Can't save file '%s' from the '%s' folder to '%s'",
+                    xmir.relative(),
+                    this.xmirs,
+                    this.output
+                ),
+                exception
+            );
         }
     }
 
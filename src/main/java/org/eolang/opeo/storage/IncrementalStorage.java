@@ -0,0 +1,180 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Incremental storage.
+ * Skips XMIRs that weren't changed since the previous run.
+ * It keeps a {@link Manifest} with content hashes of all the processed input files.
+ * If the hash of an input file and the configuration are the same as in the manifest
+ * and the output file still exists, the file is not returned by {@link #all()} at all.
+ * Outputs of the input files that were deleted since the previous run are removed.
+ * @since 0.5
+ */
+public final class IncrementalStorage implements Storage {
+
+    /**
+     * Default name of the manifest file.
+     */
+    private static final String MANIFEST = ".opeo-manifest";
+
+    /**
+     * Original storage.
+     */
+    private final Storage origin;
+
+    /**
+     * Path to the source folder.
+     */
+    private final Path sources;
+
+    /**
+     * Path to the output folder.
+     */
+    private final Path output;
+
+    /**
+     * Manifest of processed files.
+     */
+    private final Manifest manifest;
+
+    /**
+     * Hashes of the files that are being processed right now.
+     */
+    private final Map<String, String> pending;
+
+    /**
+     * Constructor.
+     * The manifest is kept inside the output folder.
+     * @param origin Original storage.
+     * @param sources Path to the source folder.
+     * @param output Path to the output folder.
+     * @param config Current configuration.
+     */
+    public IncrementalStorage(
+        final Storage origin, final Path sources, final Path output, final String config
+    ) {
+        this(
+            origin,
+            sources,
+            output,
+            new Manifest(output.resolve(IncrementalStorage.MANIFEST), config)
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original storage.
+     * @param sources Path to the source folder.
+     * @param output Path to the output folder.
+     * @param manifest Manifest of processed files.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    public IncrementalStorage(
+        final Storage origin, final Path sources, final Path output, final Manifest manifest
+    ) {
+        this.origin = origin;
+        this.sources = sources;
+        this.output = output;
+        this.manifest = manifest;
+        this.pending = new ConcurrentHashMap<>(0);
+    }
+
+    @Override
+    public Stream<XmirEntry> all() {
+        final Map<String, String> recorded = this.manifest.entries();
+        final Map<String, String> previous;
+        if (this.manifest.compatible()) {
+            previous = recorded;
+        } else {
+            if (!recorded.isEmpty()) {
+                Logger.info(this, "Configuration changed, all the XMIRs will be processed again");
+            }
+            previous = Collections.emptyMap();
+        }
+        recorded.keySet().stream()
+            .filter(relative -> !Files.exists(this.sources.resolve(relative)))
+            .forEach(this::remove);
+        this.manifest.reset();
+        return this.origin.all().filter(entry -> this.changed(entry, previous));
+    }
+
+    @Override
+    public void save(final XmirEntry xmir) {
+        this.origin.save(xmir);
+        Optional.ofNullable(this.pending.remove(xmir.relative()))
+            .ifPresent(hash -> this.manifest.record(xmir.relative(), hash));
+    }
+
+    /**
+     * Check if the entry was changed since the previous run.
+     * Up-to-date entries are recorded in the manifest right away.
+     * @param entry Entry to check.
+     * @param previous Hashes from the previous run.
+     * @return True if the entry has to be processed.
+     */
+    private boolean changed(final XmirEntry entry, final Map<String, String> previous) {
+        final String relative = entry.relative();
+        final String hash = new ContentHash(this.sources.resolve(relative)).hex();
+        final boolean result;
+        if (hash.equals(previous.get(relative))
+            && Files.exists(this.output.resolve(relative))) {
+            Logger.debug(this, "Skipping %s, it wasn't changed since the previous run", relative);
+            this.manifest.record(relative, hash);
+            result = false;
+        } else {
+            this.pending.put(relative, hash);
+            result = true;
+        }
+        return result;
+    }
+
+    /**
+     * Remove the stale output of a deleted input file.
+     * @param relative Relative path of the deleted input file.
+     */
+    private void remove(final String relative) {
+        final Path stale = this.output.resolve(relative);
+        try {
+            if (Files.deleteIfExists(stale)) {
+                Logger.info(this, "Removed stale %[file]s", stale);
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't remove stale file '%s'", stale),
+                exception
+            );
+        }
+    }
+}
@@ -0,0 +1,250 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Local cache.
+ * Keeps content in a folder, for example, in {@code ~/.m2/opeo-cache}, so it can be shared
+ * by all the projects and builds of the machine. Each content is a separate file named by
+ * its key. Files are written into temporary files first and then moved atomically,
+ * so concurrent builds never see half-written content.
+ * The cache is limited by size: when it is exceeded, the least recently used files
+ * are removed. Every hit updates the modification time of the file, which is used
+ * as the time of the last usage.
+ * Since the cache is just an optimization, it never breaks the build: if something
+ * goes wrong, the content is considered missing.
+ * @since 0.5
+ */
+public final class LocalCache implements Cache {
+
+    /**
+     * Suffix of temporary files.
+     */
+    private static final String TEMP = ".tmp";
+
+    /**
+     * Cache folder.
+     */
+    private final Path dir;
+
+    /**
+     * Maximum size of the cache in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Current size of the cache in bytes.
+     * It's calculated once and then updated by this cache only,
+     * so it might be inaccurate if other builds write to the same folder.
+     */
+    private final Unchecked<AtomicLong> size;
+
+    /**
+     * Constructor.
+     * @param dir Cache folder.
+     * @param limit Maximum size of the cache in bytes.
+     */
+    public LocalCache(final Path dir, final long limit) {
+        this.dir = dir;
+        this.limit = limit;
+        this.size = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(
+                    () -> new AtomicLong(
+                        this.files().stream().mapToLong(LocalCache::length).sum()
+                    )
+                )
+            )
+        );
+    }
+
+    @Override
+    public Optional<byte[]> load(final String key) {
+        final Path file = this.file(key);
+        Optional<byte[]> result;
+        try {
+            result = Optional.of(Files.readAllBytes(file));
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+        } catch (final NoSuchFileException exception) {
+            result = Optional.empty();
+        } catch (final IOException exception) {
+            Logger.warn(this, "Can't read cached %[file]s: %[exception]s", file, exception);
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    @Override
+    public void store(final String key, final byte[] content) {
+        final Path file = this.file(key);
+        try {
+            if (!Files.exists(file)) {
+                Files.createDirectories(file.getParent());
+                final Path temp = Files.createTempFile(file.getParent(), key, LocalCache.TEMP);
+                try {
+                    Files.write(temp, content);
+                    LocalCache.move(temp, file);
+                } finally {
+                    Files.deleteIfExists(temp);
+                }
+                if (this.size.value().addAndGet(content.length) > this.limit) {
+                    this.evict();
+                }
+            }
+        } catch (final IOException exception) {
+            Logger.warn(this, "Can't cache %[file]s: %[exception]s", file, exception);
+        }
+    }
+
+    /**
+     * Remove the least recently used files until the cache is 10% below the limit.
+     */
+    private synchronized void evict() {
+        final long low = this.limit - this.limit / 10;
+        final List<Path> files = this.files();
+        long total = files.stream().mapToLong(LocalCache::length).sum();
+        int removed = 0;
+        for (final Path file : files) {
+            if (total <= low) {
+                break;
+            }
+            final long length = LocalCache.length(file);
+            try {
+                Files.deleteIfExists(file);
+                total -= length;
+                removed += 1;
+            } catch (final IOException exception) {
+                Logger.warn(this, "Can't evict %[file]s: %[exception]s", file, exception);
+            }
+        }
+        this.size.value().set(total);
+        Logger.debug(
+            this, "Evicted %d files from %[file]s, %[size]s left", removed, this.dir, total
+        );
+    }
+
+    /**
+     * All the cached files, from the least recently used to the most recently used.
+     * Modification times are read once before sorting, since other builds
+     * might touch the files at the same time.
+     * @return Files.
+     */
+    private List<Path> files() {
+        List<Path> result;
+        if (Files.exists(this.dir)) {
+            try (Stream<Path> all = Files.walk(this.dir)) {
+                final Map<Path, Long> times = all.filter(Files::isRegularFile)
+                    .filter(path -> !path.toString().endsWith(LocalCache.TEMP))
+                    .collect(Collectors.toMap(path -> path, LocalCache::modified));
+                result = times.entrySet().stream()
+                    .sorted(Map.Entry.comparingByValue())
+                    .map(Map.Entry::getKey)
+                    .collect(Collectors.toList());
+            } catch (final IOException | UncheckedIOException exception) {
+                Logger.warn(
+                    this, "Can't list cached files in %[file]s: %[exception]s", this.dir, exception
+                );
+                result = Collections.emptyList();
+            }
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
+    /**
+     * File of the key.
+     * Files are spread over subfolders by the first two characters of the key,
+     * so no folder contains too many files.
+     * @param key Key.
+     * @return Path to the file.
+     */
+    private Path file(final String key) {
+        return this.dir.resolve(key.substring(0, 2)).resolve(key);
+    }
+
+    /**
+     * Move the file atomically if the file system allows it.
+     * @param source Source file.
+     * @param target Target file.
+     * @throws IOException If fails.
+     */
+    private static void move(final Path source, final Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Size of the file.
+     * @param file File.
+     * @return Size in bytes or zero if the file was already removed.
+     */
+    private static long length(final Path file) {
+        long result;
+        try {
+            result = Files.size(file);
+        } catch (final IOException exception) {
+            result = 0L;
+        }
+        return result;
+    }
+
+    /**
+     * Modification time of the file.
+     * @param file File.
+     * @return Time in milliseconds or zero if the file was already removed.
+     */
+    private static long modified(final Path file) {
+        long result;
+        try {
+            result = Files.getLastModifiedTime(file).toMillis();
+        } catch (final IOException exception) {
+            result = 0L;
+        }
+        return result;
+    }
+}
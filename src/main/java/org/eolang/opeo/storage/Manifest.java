@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Manifest of the processed XMIR files.
+ * The first line of the manifest is the configuration the files were processed with.
+ * Each next line contains the content hash of an input file and its relative path,
+ * separated by a tab. The manifest is an append-only log, so if the same path appears
+ * several times, the last line wins. It makes the manifest safe to interrupt: all
+ * the files that were saved before the interruption stay recorded.
+ * @since 0.5
+ */
+public final class Manifest {
+
+    /**
+     * Separator between hash and relative path.
+     */
+    private static final char SEPARATOR = '\t';
+
+    /**
+     * Path to the manifest file.
+     */
+    private final Path file;
+
+    /**
+     * Current configuration.
+     * Plugin version, supported opcodes and so on.
+     */
+    private final String config;
+
+    /**
+     * Constructor.
+     * @param file Path to the manifest file.
+     * @param config Current configuration.
+     */
+    public Manifest(final Path file, final String config) {
+        this.file = file;
+        this.config = config;
+    }
+
+    /**
+     * All the recorded entries.
+     * @return Map from relative path to content hash.
+     */
+    public Map<String, String> entries() {
+        final List<String> lines = this.lines();
+        final Map<String, String> result = new HashMap<>(lines.size());
+        for (final String line : lines.subList(Math.min(1, lines.size()), lines.size())) {
+            final int split = line.indexOf(Manifest.SEPARATOR);
+            if (split > 0) {
+                result.put(line.substring(split + 1), line.substring(0, split));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Whether the manifest was written with the current configuration.
+     * @return True if the recorded hashes can be trusted.
+     */
+    public boolean compatible() {
+        final List<String> lines = this.lines();
+        return !lines.isEmpty() && this.config.equals(lines.get(0));
+    }
+
+    /**
+     * Start a new manifest.
+     * Removes all the recorded entries and writes the current configuration.
+     */
+    public void reset() {
+        try {
+            Files.createDirectories(this.file.getParent());
+            Files.write(
+                this.file,
+                Collections.singletonList(this.config),
+                StandardCharsets.UTF_8
+            );
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't reset manifest '%s'", this.file),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Record a processed file.
+     * @param relative Relative path of the file.
+     * @param hash Content hash of the input file.
+     */
+    public synchronized void record(final String relative, final String hash) {
+        try {
+            Files.write(
+                this.file,
+                Collections.singletonList(
+                    String.format("%s%c%s", hash, Manifest.SEPARATOR, relative)
+                ),
+                StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.APPEND
+            );
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't record '%s' into manifest '%s'", relative, this.file),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Read all the manifest lines.
+     * @return Lines or empty list if there is no manifest yet.
+     */
+    private List<String> lines() {
+        try {
+            final List<String> result;
+            if (Files.exists(this.file)) {
+                result = Files.readAllLines(this.file, StandardCharsets.UTF_8);
+            } else {
+                result = Collections.emptyList();
+            }
+            return result;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read manifest '%s'", this.file),
+                exception
+            );
+        }
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Memory cache.
+ * Keeps content in memory during a single run. It is limited by size and by
+ * the number of entries: when either limit is exceeded, the least recently used
+ * content is removed.
+ * @since 0.5
+ */
+public final class MemoryCache implements Cache {
+
+    /**
+     * Maximum size of all the content in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Maximum number of entries.
+     */
+    private final int count;
+
+    /**
+     * Content by keys, from the least recently used to the most recently used.
+     */
+    private final Map<String, byte[]> entries;
+
+    /**
+     * Current size of all the content in bytes.
+     */
+    private long size;
+
+    /**
+     * Constructor.
+     * @param limit Maximum size of all the content in bytes.
+     */
+    public MemoryCache(final long limit) {
+        this(limit, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Constructor.
+     * @param limit Maximum size of all the content in bytes.
+     * @param count Maximum number of entries.
+     */
+    public MemoryCache(final long limit, final int count) {
+        this.limit = limit;
+        this.count = count;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true);
+    }
+
+    @Override
+    public synchronized Optional<byte[]> load(final String key) {
+        return Optional.ofNullable(this.entries.get(key));
+    }
+
+    @Override
+    public synchronized void store(final String key, final byte[] content) {
+        if (!this.entries.containsKey(key) && content.length <= this.limit) {
+            this.entries.put(key, content);
+            this.size += content.length;
+            final Iterator<byte[]> eldest = this.entries.values().iterator();
+            while (this.size > this.limit || this.entries.size() > this.count) {
+                this.size -= eldest.next().length;
+                eldest.remove();
+            }
+        }
+    }
+}
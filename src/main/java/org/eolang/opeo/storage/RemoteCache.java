@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.IoCheckedBytes;
+
+/**
+ * Remote cache.
+ * Keeps content on a remote server with plain HTTP: {@code GET <url>/<key>} returns
+ * the content or 404 if it's missing, {@code PUT <url>/<key>} saves the content.
+ * Any HTTP server that supports these two requests can be used, for example,
+ * {@link CacheServer} or a general-purpose build cache.
+ * Each request is limited by the timeout. Since the cache is just an optimization,
+ * failures never break the build: the content is considered missing and the XMIR
+ * is transformed locally. After several failures in a row the remote cache isn't
+ * requested anymore, so an unavailable server doesn't slow the build down.
+ * @since 0.5
+ */
+public final class RemoteCache implements Cache {
+
+    /**
+     * Number of failures in a row after which the cache is not used anymore.
+     */
+    private static final int FAILURES = 3;
+
+    /**
+     * Base URL of the cache.
+     */
+    private final String url;
+
+    /**
+     * Timeout of connection and reading in milliseconds.
+     */
+    private final int timeout;
+
+    /**
+     * Number of failures in a row.
+     */
+    private final AtomicInteger failures;
+
+    /**
+     * Constructor.
+     * @param url Base URL of the cache.
+     * @param timeout Timeout of connection and reading in milliseconds.
+     */
+    public RemoteCache(final String url, final int timeout) {
+        this.url = RemoteCache.normalized(url);
+        this.timeout = timeout;
+        this.failures = new AtomicInteger(0);
+    }
+
+    @Override
+    public Optional<byte[]> load(final String key) {
+        Optional<byte[]> result = Optional.empty();
+        if (this.available()) {
+            try {
+                final HttpURLConnection conn = this.connection(key, "GET");
+                try {
+                    final int code = conn.getResponseCode();
+                    if (code == HttpURLConnection.HTTP_OK) {
+                        try (InputStream body = conn.getInputStream()) {
+                            result = Optional.of(new IoCheckedBytes(new BytesOf(body)).asBytes());
+                        }
+                        this.failures.set(0);
+                    } else if (code == HttpURLConnection.HTTP_NOT_FOUND) {
+                        this.failures.set(0);
+                    } else {
+                        this.failed(key, String.format("HTTP %d", code));
+                    }
+                } finally {
+                    conn.disconnect();
+                }
+            } catch (final IOException exception) {
+                this.failed(key, exception.getMessage());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void store(final String key, final byte[] content) {
+        if (this.available()) {
+            try {
+                final HttpURLConnection conn = this.connection(key, "PUT");
+                try {
+                    conn.setDoOutput(true);
+                    conn.setFixedLengthStreamingMode(content.length);
+                    conn.setRequestProperty("Content-Type", "application/octet-stream");
+                    try (OutputStream body = conn.getOutputStream()) {
+                        body.write(content);
+                    }
+                    final int code = conn.getResponseCode();
+                    if (code >= HttpURLConnection.HTTP_OK
+                        && code < HttpURLConnection.HTTP_MULT_CHOICE) {
+                        this.failures.set(0);
+                    } else {
+                        this.failed(key, String.format("HTTP %d", code));
+                    }
+                } finally {
+                    conn.disconnect();
+                }
+            } catch (final IOException exception) {
+                this.failed(key, exception.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Whether the cache is still used.
+     * @return True if the cache didn't fail too many times in a row.
+     */
+    private boolean available() {
+        return this.failures.get() < RemoteCache.FAILURES;
+    }
+
+    /**
+     * Open connection to the content.
+     * @param key Content key.
+     * @param method HTTP method.
+     * @return Connection.
+     * @throws IOException If fails.
+     */
+    private HttpURLConnection connection(final String key, final String method)
+        throws IOException {
+        final HttpURLConnection conn = (HttpURLConnection) new URL(
+            String.format("%s%s", this.url, key)
+        ).openConnection();
+        conn.setRequestMethod(method);
+        conn.setConnectTimeout(this.timeout);
+        conn.setReadTimeout(this.timeout);
+        conn.setUseCaches(false);
+        return conn;
+    }
+
+    /**
+     * Register a failed request.
+     * @param key Content key.
+     * @param reason Reason of the failure.
+     */
+    private void failed(final String key, final String reason) {
+        final int count = this.failures.incrementAndGet();
+        if (count == RemoteCache.FAILURES) {
+            Logger.warn(
+                this,
+                "Remote cache %s failed %d times in a row, it's not used anymore, last: '%s'",
+                this.url,
+                count,
+                reason
+            );
+        } else if (count < RemoteCache.FAILURES) {
+            Logger.debug(this, "Remote cache %s failed with '%s' for %s", this.url, reason, key);
+        }
+    }
+
+    /**
+     * URL that ends with a slash.
+     * @param url URL.
+     * @return Normalized URL.
+     */
+    private static String normalized(final String url) {
+        final String result;
+        if (url.endsWith("/")) {
+            result = url;
+        } else {
+            result = String.format("%s/", url);
+        }
+        return result;
+    }
+}
@@ -59,6 +59,24 @@ public final class WithoutAliasesStorage implements Storage {
 
     @Override
     public void save(final XmirEntry xmir) {
-        this.origin.save(xmir.transform(xml -> new WithoutAliases(xml).toXml()));
+        final XmirIndex index = xmir.index();
+        final XmirEntry result;
+        if (WithoutAliasesStorage.redundant(index)) {
+            result = xmir.transform(xml -> new WithoutAliases(xml, index).toXml());
+        } else {
+            result = xmir;
+        }
+        this.origin.save(result);
+    }
+
+    /**
+     * Whether the XMIR declares aliases that {@link WithoutAliases} would remove.
+     * If it doesn't, we save the entry as is and never build its DOM.
+     * @param index Metadata index of the XMIR.
+     * @return True if there are redundant aliases.
+     */
+    private static boolean redundant(final XmirIndex index) {
+        final String unused = String.join(", ", index.unused());
+        return index.aliases().stream().anyMatch(unused::contains);
     }
 }
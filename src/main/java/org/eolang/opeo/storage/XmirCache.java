@@ -0,0 +1,146 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.log.Logger;
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+import java.util.function.UnaryOperator;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.InputOf;
+
+/**
+ * Cache of XMIR transformations.
+ * Before transforming an entry it looks up the result in the {@link Cache} by a key,
+ * which is the content hash of the configuration, the relative path and the raw XMIR.
+ * The configuration includes everything that affects the result, like the plugin version,
+ * the transformation mode and the supported opcodes, so results of different configurations
+ * never mix up. If the result isn't cached yet, the entry is transformed and the result
+ * is saved to the cache.
+ * A cached result is used only if it is an XMIR program, so a broken or wrong cache,
+ * possibly a remote one, can't replace the output with garbage. Otherwise the entry
+ * is transformed as if it wasn't cached.
+ * @since 0.5
+ */
+public final class XmirCache {
+
+    /**
+     * Cache.
+     */
+    private final Cache cache;
+
+    /**
+     * Configuration of the transformation.
+     */
+    private final String config;
+
+    /**
+     * Constructor.
+     * Creates a cache that doesn't keep anything.
+     */
+    public XmirCache() {
+        this(new Cache.Disabled(), "");
+    }
+
+    /**
+     * Constructor.
+     * @param cache Cache.
+     * @param config Configuration of the transformation.
+     */
+    public XmirCache(final Cache cache, final String config) {
+        this.cache = cache;
+        this.config = config;
+    }
+
+    /**
+     * Transform the entry or take the result from the cache.
+     * @param entry Entry to transform.
+     * @param transformation Transformation.
+     * @return Transformed entry.
+     */
+    public XmirEntry transformed(
+        final XmirEntry entry, final UnaryOperator<XmirEntry> transformation
+    ) {
+        final String key = new ContentHash(
+            new InputOf(
+                String.format("%s%n%s%n", this.config, entry.relative()),
+                StandardCharsets.UTF_8
+            ),
+            entry.input()
+        ).hex();
+        final Optional<XmirEntry> cached = this.cache.load(key)
+            .map(bytes -> new XmirEntry(new InputOf(bytes), entry.relative()))
+            .filter(XmirCache::valid);
+        final XmirEntry result;
+        if (cached.isPresent()) {
+            result = cached.get();
+        } else {
+            result = transformation.apply(entry);
+            this.cache.store(key, XmirCache.bytes(result));
+        }
+        return result;
+    }
+
+    /**
+     * Whether the cached entry is an XMIR program.
+     * @param entry Cached entry.
+     * @return True if it is.
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static boolean valid(final XmirEntry entry) {
+        boolean result;
+        try {
+            result = entry.index().program();
+        } catch (final Exception exception) {
+            result = false;
+        }
+        if (!result) {
+            Logger.warn(
+                XmirCache.class,
+                "Cached XMIR of '%s' is not a valid XMIR, it will be transformed again",
+                entry.relative()
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Raw XMIR of the entry.
+     * @param entry Entry.
+     * @return Bytes.
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static byte[] bytes(final XmirEntry entry) {
+        try {
+            return new BytesOf(entry.input()).asBytes();
+        } catch (final Exception exception) {
+            throw new IllegalStateException(
+                String.format("Can't read transformed XMIR of '%s'", entry.relative()),
+                exception
+            );
+        }
+    }
+}
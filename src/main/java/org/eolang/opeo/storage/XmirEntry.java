@@ -25,16 +25,25 @@ package org.eolang.opeo.storage;
 
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
+import java.io.ByteArrayInputStream;
 import java.io.FileNotFoundException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.function.Function;
+import javax.xml.parsers.DocumentBuilderFactory;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
 import org.cactoos.Input;
+import org.cactoos.io.InputOf;
+import org.cactoos.scalar.LengthOf;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Document;
+import org.w3c.dom.Node;
 
 /**
  * Xmir with package.
@@ -44,12 +53,41 @@ import org.cactoos.scalar.Unchecked;
 @EqualsAndHashCode
 public final class XmirEntry {
 
+    /**
+     * How many times the entry in memory is larger than the raw XMIR.
+     * While the entry is processed, the input DOM, the output DOM and the serialized
+     * output are all alive, and DOM takes several times more than the text.
+     */
+    private static final long EXPANSION = 8L;
+
     /**
      * XML representation of XMIR.
      */
     @ToString.Exclude
     private final Unchecked<XML> xml;
 
+    /**
+     * Raw XMIR.
+     * It is read again each time it is needed, nothing is cached.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Input source;
+
+    /**
+     * Metadata index of the XMIR.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final XmirIndex idx;
+
+    /**
+     * Size of the raw XMIR in bytes.
+     */
+    @ToString.Exclude
+    @EqualsAndHashCode.Exclude
+    private final Unchecked<Long> length;
+
     /**
      * Package name.
      */
@@ -61,7 +99,12 @@ public final class XmirEntry {
      * @param pckg Package name.
      */
     XmirEntry(final Path path, final String pckg) {
-        this(XmirEntry.fromFile(path), pckg);
+        this(
+            XmirEntry.fromFile(path),
+            new InputOf(path),
+            new Unchecked<>(new Sticky<>(() -> Files.size(path))),
+            pckg
+        );
     }
 
     /**
@@ -79,7 +122,17 @@ public final class XmirEntry {
      * @param pckg Package name.
      */
     public XmirEntry(final Input input, final String pckg) {
-        this(XmirEntry.fromInput(input), pckg);
+        this(XmirEntry.fromInput(input), input, XmirEntry.lengthOf(input), pckg);
+    }
+
+    /**
+     * Constructor.
+     * @param input Input.
+     * @param size Size of the input in bytes, if it's known in advance.
+     * @param pckg Package name.
+     */
+    XmirEntry(final Input input, final long size, final String pckg) {
+        this(XmirEntry.fromInput(input), input, new Unchecked<>(() -> size), pckg);
     }
 
     /**
@@ -88,7 +141,37 @@ public final class XmirEntry {
      * @param pckg Package name.
      */
     public XmirEntry(final Unchecked<XML> xml, final String pckg) {
+        this(xml, XmirEntry.serialized(xml), pckg);
+    }
+
+    /**
+     * Constructor.
+     * @param xml Lazy XML.
+     * @param source Raw XMIR, the same as the lazy XML.
+     * @param pckg Package name.
+     */
+    private XmirEntry(final Unchecked<XML> xml, final Input source, final String pckg) {
+        this(xml, source, XmirEntry.lengthOf(source), pckg);
+    }
+
+    /**
+     * Constructor.
+     * @param xml Lazy XML.
+     * @param source Raw XMIR, the same as the lazy XML.
+     * @param length Size of the raw XMIR in bytes.
+     * @param pckg Package name.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private XmirEntry(
+        final Unchecked<XML> xml,
+        final Input source,
+        final Unchecked<Long> length,
+        final String pckg
+    ) {
         this.xml = xml;
+        this.source = source;
+        this.idx = new XmirIndex(source);
+        this.length = length;
         this.pckg = pckg;
     }
 
@@ -101,6 +184,17 @@ public final class XmirEntry {
         return new XmirEntry(transformer.apply(this.xml.value()), this.pckg);
     }
 
+    /**
+     * Transform XMIR in place.
+     * Unlike {@link #transform(Function)}, the transformer gets its own DOM parsed right
+     * from the raw XMIR, so it can modify the DOM without copying the whole document.
+     * @param transformer Function that modifies DOM of XMIR and wraps it into XML.
+     * @return Transformed XMIR.
+     */
+    public XmirEntry modify(final Function<? super Node, ? extends XML> transformer) {
+        return new XmirEntry(transformer.apply(XmirEntry.parsed(this.source)), this.pckg);
+    }
+
     /**
      * Apply XPath query.
      * @param query XPath query.
@@ -110,6 +204,25 @@ public final class XmirEntry {
         return this.xml.value().xpath(query);
     }
 
+    /**
+     * Metadata index of the XMIR.
+     * It is built lazily, at most once, in a single streaming pass and doesn't need DOM.
+     * Use it instead of XPath queries to decide whether and how to process the entry.
+     * @return Index.
+     */
+    public XmirIndex index() {
+        return this.idx;
+    }
+
+    /**
+     * Estimated memory the entry takes while it is processed.
+     * It doesn't build DOM: the estimate is based on the size of the raw XMIR.
+     * @return Bytes.
+     */
+    public long weight() {
+        return this.length.value() * XmirEntry.EXPANSION;
+    }
+
     /**
      * Package name.
      * @return Package name (relative path).
@@ -126,6 +239,16 @@ public final class XmirEntry {
         return this.xml.value();
     }
 
+    /**
+     * Raw XMIR.
+     * If the entry wasn't transformed, it is the original file as is,
+     * so it can be copied without building DOM.
+     * @return Raw XMIR.
+     */
+    Input input() {
+        return this.source;
+    }
+
     /**
      * Prestructor from file.
      * @param path Path to the file.
@@ -165,6 +288,47 @@ public final class XmirEntry {
         );
     }
 
+    /**
+     * Prestructor of size of raw XMIR.
+     * @param input Raw XMIR.
+     * @return Lazy size in bytes.
+     */
+    private static Unchecked<Long> lengthOf(final Input input) {
+        return new Unchecked<>(new Synced<>(new Sticky<>(new LengthOf(input))));
+    }
+
+    /**
+     * Prestructor of raw XMIR from lazy XML.
+     * The XML is serialized at most once, so the index and the storage share the result.
+     * @param xml Lazy XML.
+     * @return Raw XMIR.
+     */
+    private static Input serialized(final Unchecked<XML> xml) {
+        final Unchecked<byte[]> bytes = new Unchecked<>(
+            new Synced<>(
+                new Sticky<>(() -> xml.value().toString().getBytes(StandardCharsets.UTF_8))
+            )
+        );
+        return () -> new ByteArrayInputStream(bytes.value());
+    }
+
+    /**
+     * Parse raw XMIR into a new DOM.
+     * @param input Raw XMIR.
+     * @return DOM document.
+     * @checkstyle IllegalCatch (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private static Document parsed(final Input input) {
+        final DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+        factory.setNamespaceAware(true);
+        try (InputStream stream = input.stream()) {
+            return factory.newDocumentBuilder().parse(stream);
+        } catch (final Exception exception) {
+            throw new IllegalStateException("Can't parse XMIR", exception);
+        }
+    }
+
     /**
      * Prestructor from XML.
      * @param xml XML.
@@ -0,0 +1,303 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import org.cactoos.Input;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Metadata index of an XMIR.
+ * All the facts that different stages need to know about an XMIR collected in
+ * a single streaming (StAX) pass over the raw XMIR: opcode names, presence of
+ * try-catch blocks, package, used object bases, declared aliases, number
+ * of methods and the root element. No DOM is built, so we can decide whether to process a file
+ * before paying for its DOM, and we never run full-document XPath queries
+ * several times over the same file.
+ * @since 0.5
+ */
+public final class XmirIndex {
+
+    /**
+     * StAX factory.
+     */
+    private static final XMLInputFactory FACTORY = XmirIndex.factory();
+
+    /**
+     * Object element name.
+     */
+    private static final String OBJECT = "o";
+
+    /**
+     * Index itself.
+     */
+    private final Unchecked<Summary> summary;
+
+    /**
+     * Constructor.
+     * @param input Raw XMIR.
+     */
+    public XmirIndex(final Input input) {
+        this.summary = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> XmirIndex.scan(input)))
+        );
+    }
+
+    /**
+     * Simplified names of all the opcodes.
+     * Names are without counters, like 'invokespecial' instead of 'invokespecial-3'.
+     * @return Opcode names.
+     */
+    public Set<String> opcodes() {
+        return Collections.unmodifiableSet(this.summary.value().opcodes);
+    }
+
+    /**
+     * Whether the XMIR contains try-catch blocks.
+     * @return True if it contains at least one try-catch block.
+     */
+    public boolean trycatches() {
+        return this.summary.value().trycatches;
+    }
+
+    /**
+     * Program package.
+     * @return Package or empty string if the program is in the default package.
+     */
+    public String pckg() {
+        return this.summary.value().pckg;
+    }
+
+    /**
+     * Whether some object of the XMIR has the base.
+     * @param base Object base, like 'label'.
+     * @return True if the base is used.
+     */
+    public boolean uses(final String base) {
+        return this.summary.value().bases.contains(base);
+    }
+
+    /**
+     * All the declared aliases.
+     * @return Aliases, like 'org.eolang.jeo.opcode'.
+     */
+    public Set<String> aliases() {
+        return Collections.unmodifiableSet(this.summary.value().aliases);
+    }
+
+    /**
+     * Aliases of jeo objects that are never used in the XMIR.
+     * They might be declared anyway and then they are redundant.
+     * @return Aliases, like 'org.eolang.jeo.label'.
+     */
+    public Set<String> unused() {
+        return Stream.of("label", "opcode")
+            .filter(base -> !this.uses(base))
+            .map(base -> String.format("org.eolang.jeo.%s", base))
+            .collect(Collectors.toCollection(TreeSet::new));
+    }
+
+    /**
+     * Number of methods of the top-level class, including constructors.
+     * @return Number of methods.
+     */
+    public int methods() {
+        return this.summary.value().methods;
+    }
+
+    /**
+     * Whether the XMIR is a program, which means that its root element is 'program'.
+     * @return True if it is.
+     */
+    public boolean program() {
+        return "program".equals(this.summary.value().root);
+    }
+
+    /**
+     * Scan the XMIR.
+     * @param input Raw XMIR.
+     * @return Index.
+     * @throws Exception If the XMIR can't be read.
+     */
+    private static Summary scan(final Input input) throws Exception {
+        try (InputStream stream = input.stream()) {
+            final XMLStreamReader reader = XmirIndex.FACTORY.createXMLStreamReader(stream);
+            try {
+                return XmirIndex.scan(reader);
+            } finally {
+                reader.close();
+            }
+        }
+    }
+
+    /**
+     * Scan the XMIR.
+     * @param reader StAX reader.
+     * @return Index.
+     * @throws XMLStreamException If the XMIR is malformed.
+     */
+    private static Summary scan(final XMLStreamReader reader) throws XMLStreamException {
+        final Summary result = new Summary();
+        String head = "";
+        int depth = 0;
+        while (reader.hasNext()) {
+            final int event = reader.next();
+            if (event == XMLStreamConstants.START_ELEMENT) {
+                final String element = reader.getLocalName();
+                result.element(element);
+                if (XmirIndex.OBJECT.equals(element)) {
+                    depth += 1;
+                    result.object(
+                        depth,
+                        reader.getAttributeValue(null, "base"),
+                        reader.getAttributeValue(null, "name")
+                    );
+                } else if ("head".equals(element)) {
+                    head = reader.getElementText().trim();
+                } else if ("tail".equals(element)) {
+                    result.meta(head, reader.getElementText().trim());
+                }
+            } else if (event == XMLStreamConstants.END_ELEMENT
+                && XmirIndex.OBJECT.equals(reader.getLocalName())) {
+                depth -= 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * StAX factory that doesn't resolve any external entities.
+     * @return Factory.
+     */
+    private static XMLInputFactory factory() {
+        final XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
+
+    /**
+     * Collected facts.
+     * @since 0.5
+     */
+    private static final class Summary {
+
+        /**
+         * Simplified opcode names.
+         */
+        private final Set<String> opcodes = new HashSet<>(0);
+
+        /**
+         * All the used object bases.
+         */
+        private final Set<String> bases = new HashSet<>(0);
+
+        /**
+         * Declared aliases.
+         */
+        private final Set<String> aliases = new HashSet<>(0);
+
+        /**
+         * Whether there are try-catch blocks.
+         */
+        private boolean trycatches;
+
+        /**
+         * Program package.
+         */
+        private String pckg = "";
+
+        /**
+         * Number of methods of the top-level class.
+         */
+        private int methods;
+
+        /**
+         * Name of the root element.
+         */
+        private String root = "";
+
+        /**
+         * Register an element.
+         * @param name Element name.
+         */
+        void element(final String name) {
+            if (this.root.isEmpty()) {
+                this.root = name;
+            }
+        }
+
+        /**
+         * Register an object.
+         * @param depth Depth of the object, where the top-level class has depth 1.
+         * @param base Object base or null.
+         * @param name Object name or null.
+         */
+        void object(final int depth, final String base, final String name) {
+            if (base == null) {
+                if (depth == 2) {
+                    this.methods += 1;
+                }
+            } else {
+                this.bases.add(base);
+                if ("opcode".equals(base) && name != null) {
+                    final int dash = name.indexOf('-');
+                    if (dash < 0) {
+                        this.opcodes.add(name);
+                    } else {
+                        this.opcodes.add(name.substring(0, dash));
+                    }
+                } else if ("tuple".equals(base)
+                    && name != null && name.contains("trycatchblocks")) {
+                    this.trycatches = true;
+                }
+            }
+        }
+
+        /**
+         * Register a meta.
+         * @param head Meta head.
+         * @param tail Meta tail.
+         */
+        void meta(final String head, final String tail) {
+            if ("alias".equals(head)) {
+                this.aliases.add(tail);
+            } else if ("package".equals(head)) {
+                this.pckg = tail;
+            }
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Locale;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipFile;
+import java.util.zip.ZipOutputStream;
+import org.cactoos.Input;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.IoCheckedBytes;
+
+/**
+ * Zip storage.
+ * Reads XMIRs right from a zip or jar archive and writes results into a single
+ * archive, so a whole phase is one file instead of thousands of small ones, and it
+ * can be passed between build steps as a single artifact.
+ * Either side may be a usual folder as well, then it works as {@link FileStorage}.
+ * Entries may be saved concurrently. The output archive is written into a temporary
+ * file and replaces the destination only when the storage is committed, so the destination
+ * is never observed half-written, and it may be the same archive the XMIRs are read from.
+ * Closing the storage without committing it, for example after a failed run, discards the
+ * temporary file and leaves the destination as it was.
+ * @since 0.5
+ */
+public final class ZipStorage implements Storage, Closeable {
+
+    /**
+     * Path to the source archive or folder.
+     */
+    private final Path xmirs;
+
+    /**
+     * Path to the output archive or folder.
+     */
+    private final Path output;
+
+    /**
+     * Storage of folders.
+     */
+    private final Storage folders;
+
+    /**
+     * Source archive, opened on first use.
+     */
+    private ZipFile source;
+
+    /**
+     * Temporary output archive, created on first use.
+     */
+    private Path temp;
+
+    /**
+     * Stream of the temporary output archive.
+     */
+    private ZipOutputStream target;
+
+    /**
+     * Whether the output archive is committed already.
+     */
+    private boolean committed;
+
+    /**
+     * Constructor.
+     * @param xmirs Path to the source archive or folder.
+     * @param output Path to the output archive or folder.
+     */
+    public ZipStorage(final Path xmirs, final Path output) {
+        this.xmirs = xmirs;
+        this.output = output;
+        this.folders = new FileStorage(xmirs, output);
+    }
+
+    /**
+     * Whether the path is an archive.
+     * @param path Path.
+     * @return True if the path is a zip or jar file.
+     */
+    public static boolean archive(final Path path) {
+        final String name = path.getFileName().toString().toLowerCase(Locale.ENGLISH);
+        return name.endsWith(".zip") || name.endsWith(".jar");
+    }
+
+    @Override
+    public Stream<XmirEntry> all() {
+        final Stream<XmirEntry> result;
+        if (ZipStorage.archive(this.xmirs)) {
+            final ZipFile zip = this.opened();
+            Logger.info(this, "Reading XMIRs from archive %[file]s", this.xmirs);
+            result = zip.stream()
+                .filter(entry -> !entry.isDirectory())
+                .filter(entry -> entry.getName().endsWith(".xmir"))
+                .map(entry -> ZipStorage.entry(zip, entry));
+        } else {
+            result = this.folders.all();
+        }
+        return result;
+    }
+
+    @Override
+    public void save(final XmirEntry xmir) {
+        if (ZipStorage.archive(this.output)) {
+            final String name = xmir.relative().replace(File.separatorChar, '/');
+            try {
+                final byte[] content = new IoCheckedBytes(new BytesOf(xmir.input())).asBytes();
+                synchronized (this) {
+                    final ZipOutputStream zip = this.writer();
+                    zip.putNextEntry(new ZipEntry(name));
+                    zip.write(content);
+                    zip.closeEntry();
+                }
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't save '%s' into the archive '%s'", name, this.output),
+                    exception
+                );
+            }
+        } else {
+            this.folders.save(xmir);
+        }
+    }
+
+    /**
+     * Replace the destination with the output archive.
+     * Call it once all the XMIRs are saved successfully. The destination is replaced
+     * even if nothing was saved.
+     */
+    public synchronized void commit() {
+        if (ZipStorage.archive(this.output) && !this.committed) {
+            try {
+                this.writer().close();
+                ZipStorage.move(this.temp, this.output);
+                this.committed = true;
+                Logger.info(this, "Saved XMIRs into archive %[file]s", this.output);
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't save the archive '%s'", this.output),
+                    exception
+                );
+            }
+        }
+    }
+
+    /**
+     * Close the archives.
+     * The temporary output archive is deleted if the storage wasn't committed.
+     */
+    @Override
+    public synchronized void close() {
+        try {
+            if (this.source != null) {
+                this.source.close();
+                this.source = null;
+            }
+            if (this.target != null && !this.committed) {
+                this.target.close();
+                Files.deleteIfExists(this.temp);
+                this.target = null;
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't close the archive '%s'", this.output),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Source archive.
+     * @return Opened archive.
+     */
+    private synchronized ZipFile opened() {
+        if (this.source == null) {
+            if (!Files.exists(this.xmirs)) {
+                throw new IllegalArgumentException(
+                    String.format("The input XMIR archive '%s' doesn't exist", this.xmirs)
+                );
+            }
+            try {
+                this.source = new ZipFile(this.xmirs.toFile());
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't open the archive '%s'", this.xmirs),
+                    exception
+                );
+            }
+        }
+        return this.source;
+    }
+
+    /**
+     * XMIR entry of the archive.
+     * The name of the entry becomes its relative path in the output, so absolute names
+     * and names with '..' are rejected, otherwise the entry would be saved outside
+     * of the output folder.
+     * @param zip Archive.
+     * @param entry Entry of the archive.
+     * @return XMIR entry.
+     */
+    private static XmirEntry entry(final ZipFile zip, final ZipEntry entry) {
+        final String name = entry.getName();
+        if (ZipStorage.unsafe(name)) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "The entry '%s' of the archive '%s' points outside of the output",
+                    name,
+                    zip.getName()
+                )
+            );
+        }
+        final Input input = () -> zip.getInputStream(entry);
+        final XmirEntry result;
+        if (entry.getSize() < 0) {
+            result = new XmirEntry(input, name);
+        } else {
+            result = new XmirEntry(input, entry.getSize(), name);
+        }
+        return result;
+    }
+
+    /**
+     * Whether the name of an entry points outside of the folder it is extracted to.
+     * @param name Name of the entry.
+     * @return True if the name is absolute or contains '..'.
+     */
+    private static boolean unsafe(final String name) {
+        return name.startsWith("/") || name.startsWith("\\")
+            || name.matches("[A-Za-z]:.*")
+            || Arrays.asList(name.split("[/\\\\]")).contains("..");
+    }
+
+    /**
+     * Stream of the temporary output archive.
+     * @return Stream.
+     * @throws IOException If fails to create the archive.
+     */
+    private ZipOutputStream writer() throws IOException {
+        if (this.target == null) {
+            final Path parent = this.output.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            this.temp = Files.createTempFile(
+                parent, String.format("%s.", this.output.getFileName()), ".tmp"
+            );
+            final OutputStream stream = Files.newOutputStream(this.temp);
+            this.target = new ZipOutputStream(stream);
+        }
+        return this.target;
+    }
+
+    /**
+     * Move the file atomically, if the file system supports it.
+     * @param from Source.
+     * @param to Destination.
+     * @throws IOException If fails.
+     */
+    private static void move(final Path from, final Path to) throws IOException {
+        try {
+            Files.move(from, to, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(from, to, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
@@ -35,10 +35,15 @@ import org.eolang.jeo.representation.xmir.XmlBytecodeEntry;
 import org.eolang.jeo.representation.xmir.XmlLabel;
 import org.eolang.jeo.representation.xmir.XmlMethod;
 import org.eolang.jeo.representation.xmir.XmlProgram;
-import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.ast.Numbering;
 import org.eolang.opeo.compilation.JeoCompiler;
+import org.eolang.opeo.decompilation.agents.AllAgents;
+import org.eolang.opeo.decompilation.agents.TracedAgent;
 import org.eolang.opeo.jeo.JeoDecompiler;
 import org.eolang.opeo.jeo.JeoInstructions;
+import org.eolang.opeo.jeo.Memo;
+import org.eolang.opeo.parallel.Split;
+import org.eolang.opeo.storage.MemoryCache;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
@@ -157,6 +162,22 @@ final class JeoAndOpeoTest {
         );
     }
 
+    @ParameterizedTest
+    @CsvSource({
+        "xmir/disassembled/SimpleLog.xmir",
+        "xmir/disassembled/Lambda.xmir",
+        "xmir/disassembled/MutableCoercionConfig.xmir",
+        "xmir/disassembled/CachingJupiterConfiguration.xmir"
+    })
+    void decompilesTheSameClassIntoTheSameXmir(final String path) throws Exception {
+        final XMLDocument original = new XMLDocument(new BytesOf(new ResourceOf(path)).asBytes());
+        MatcherAssert.assertThat(
+            "We expect that decompiling the same class twice gives byte-identical XMIR",
+            new JeoDecompiler(original).decompile().toString(),
+            Matchers.equalTo(new JeoDecompiler(original).decompile().toString())
+        );
+    }
+
     @ParameterizedTest
     @CsvSource({
         "xmir/disassembled/SimpleLog.xmir",
@@ -167,11 +188,11 @@ final class JeoAndOpeoTest {
     void decompilesCompilesAndKeepsTheSameInstructionsWithTheSameOperands(
         final String path
     ) throws Exception {
-        Opcode.disableCounting();
         final XMLDocument original = new XMLDocument(new BytesOf(new ResourceOf(path)).asBytes());
         final List<XmlMethod> amethods = new XmlProgram(
             new JeoCompiler(
-                new JeoDecompiler(original).decompile()
+                new JeoDecompiler(original).decompile(),
+                new Numbering(false)
             ).compile()
         ).top().methods();
         final List<XmlMethod> methods = new XmlProgram(original).top().methods();
@@ -225,12 +246,110 @@ final class JeoAndOpeoTest {
         final String path,
         final String pckg
     ) throws Exception {
-        Opcode.disableCounting();
         final XMLDocument original = new XMLDocument(new BytesOf(new ResourceOf(path)).asBytes());
         MatcherAssert.assertThat(
             "The original and decompiled/compiled content are not equal",
-            new JeoCompiler(new JeoDecompiler(original, pckg).decompile()).compile().toString(),
+            new JeoCompiler(
+                new JeoDecompiler(original, pckg).decompile(),
+                new Numbering(false)
+            ).compile().toString(),
+            new SameXml(original)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        "xmir/disassembled/SimpleTypeConverter.xmir, org.springframework.beans.SimpleTypeConverter"
+    )
+    void decompilesAndCompilesMethodsConcurrently(
+        final String path,
+        final String pckg
+    ) throws Exception {
+        final XMLDocument original = new XMLDocument(new BytesOf(new ResourceOf(path)).asBytes());
+        final Split split = new Split(1, 0);
+        MatcherAssert.assertThat(
+            "The content decompiled and compiled by methods concurrently should stay the same",
+            new JeoCompiler(
+                new JeoDecompiler(
+                    new XMLDocument(original.toString()).node(),
+                    pckg,
+                    new AllAgents(true, new TracedAgent.Log()),
+                    split,
+                    new Memo()
+                ).decompile(),
+                "org.springframework.beans",
+                split,
+                new Numbering(false)
+            ).compile().toString(),
+            new SameXml(original)
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource(
+        "xmir/disassembled/SimpleTypeConverter.xmir, org.springframework.beans.SimpleTypeConverter"
+    )
+    void compilesMethodsTakenFromMemo(final String path, final String pckg) throws Exception {
+        final XMLDocument original = new XMLDocument(new BytesOf(new ResourceOf(path)).asBytes());
+        final Memo memo = new Memo(new MemoryCache(1L << 20), "test");
+        new JeoDecompiler(
+            new XMLDocument(original.toString()).node(),
+            pckg,
+            new AllAgents(true, new TracedAgent.Log()),
+            new Split(),
+            memo
+        ).decompile();
+        MatcherAssert.assertThat(
+            "The content of methods decompiled from the memo and compiled should stay the same",
+            new JeoCompiler(
+                new JeoDecompiler(
+                    new XMLDocument(original.toString()).node(),
+                    pckg,
+                    new AllAgents(true, new TracedAgent.Log()),
+                    new Split(),
+                    memo
+                ).decompile(),
+                "org.springframework.beans",
+                new Split(),
+                new Numbering(false)
+            ).compile().toString(),
             new SameXml(original)
         );
     }
+
+    @ParameterizedTest
+    @CsvSource(
+        "xmir/disassembled/SimpleTypeConverter.xmir, org.springframework.beans.SimpleTypeConverter"
+    )
+    void decompilesFromMemoTheSameAsWithoutIt(final String path, final String pckg)
+        throws Exception {
+        final XMLDocument original = new XMLDocument(new BytesOf(new ResourceOf(path)).asBytes());
+        final Memo memo = new Memo(new MemoryCache(1L << 20), "test");
+        new JeoDecompiler(
+            new XMLDocument(original.toString()).node(),
+            pckg,
+            new AllAgents(true, new TracedAgent.Log()),
+            new Split(),
+            memo
+        ).decompile();
+        MatcherAssert.assertThat(
+            "Methods taken from the memo should have the same labels and opcode names",
+            new JeoDecompiler(
+                new XMLDocument(original.toString()).node(),
+                pckg,
+                new AllAgents(true, new TracedAgent.Log()),
+                new Split(),
+                memo
+            ).decompile().toString(),
+            Matchers.equalTo(
+                new JeoDecompiler(
+                    new XMLDocument(original.toString()).node(),
+                    pckg,
+                    new AllAgents(true, new TracedAgent.Log()),
+                    new Split(),
+                    new Memo()
+                ).decompile().toString()
+            )
+        );
+    }
 }
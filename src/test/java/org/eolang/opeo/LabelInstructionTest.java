@@ -38,7 +38,7 @@ final class LabelInstructionTest {
     void retrievesCorrectOpcode() {
         MatcherAssert.assertThat(
             "Label instruction should have correct opcode",
-            new LabelInstruction().opcode(),
+            new LabelInstruction("label").opcode(),
             Matchers.equalTo(LabelInstruction.LABEL_OPCODE)
         );
     }
@@ -66,7 +66,7 @@ final class LabelInstructionTest {
     void retrievesAllOperands() {
         MatcherAssert.assertThat(
             "Label instruction should have exactly one operand",
-            new LabelInstruction().operands(),
+            new LabelInstruction("operand").operands(),
             Matchers.hasSize(1)
         );
     }
@@ -0,0 +1,61 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo;
+
+import java.nio.file.Paths;
+import org.eolang.opeo.storage.FileStorage;
+import org.eolang.opeo.storage.Storage;
+import org.eolang.opeo.storage.ZipStorage;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Phase}.
+ * @since 0.5
+ */
+final class PhaseTest {
+
+    @Test
+    void usesArchivesIfOutputIsArchive() {
+        final ZipStorage archives = new ZipStorage(Paths.get("in"), Paths.get("out.jar"));
+        MatcherAssert.assertThat(
+            "We expect that the storage of archives is used if the output is an archive",
+            new Phase("decompile", Paths.get("in"), Paths.get("out.jar"), "1.0").origin(
+                new FileStorage(Paths.get("in"), Paths.get("out.jar")), archives
+            ),
+            Matchers.<Storage>sameInstance(archives)
+        );
+    }
+
+    @Test
+    void distinguishesConfigurationsOfModes() {
+        final Phase phase = new Phase("compile", Paths.get("in"), Paths.get("out"), "1.0");
+        MatcherAssert.assertThat(
+            "We expect that different modes have different configurations",
+            phase.config("selective"),
+            Matchers.not(Matchers.equalTo(phase.config("dummy")))
+        );
+    }
+}
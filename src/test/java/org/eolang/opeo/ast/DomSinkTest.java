@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import com.jcabi.matchers.XhtmlMatchers;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import org.eolang.jeo.representation.xmir.XmlNode;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.xembly.ImpossibleModificationException;
+import org.xembly.Transformers;
+import org.xembly.Xembler;
+
+/**
+ * Test case for {@link DomSink}.
+ * @since 0.5
+ */
+final class DomSinkTest {
+
+    @Test
+    void buildsTheSameXmirAsDirectives()
+        throws ParserConfigurationException, ImpossibleModificationException {
+        final AstNode node = new Labeled(
+            new Invocation(
+                new This(),
+                new Attributes().name("foo").descriptor("(I)V").owner("A"),
+                new Literal(1)
+            ),
+            new Label("1")
+        );
+        final Document doc = DocumentBuilderFactory.newInstance()
+            .newDocumentBuilder()
+            .newDocument();
+        node.write(new DomSink(doc));
+        MatcherAssert.assertThat(
+            "We expected the DOM sink to build exactly the same XMIR as directives do",
+            DomSinkTest.withoutLines(new XmlNode(doc.getDocumentElement())),
+            Matchers.equalTo(
+                DomSinkTest.withoutLines(
+                    new XmlNode(new Xembler(node.toXmir(), new Transformers.Node()).xml())
+                )
+            )
+        );
+    }
+
+    @Test
+    void writesChildrenOfRootWithoutWrappingTuple()
+        throws ParserConfigurationException {
+        final Document doc = DocumentBuilderFactory.newInstance()
+            .newDocumentBuilder()
+            .newDocument();
+        final Element tuple = doc.createElement("o");
+        tuple.setAttribute("base", "tuple");
+        doc.appendChild(tuple);
+        new Root(new Literal(1), new Opcode(Opcodes.RETURN))
+            .content(new DomSink(tuple));
+        MatcherAssert.assertThat(
+            "We expected the children to be appended right to the given node",
+            new XmlNode(doc).toString(),
+            XhtmlMatchers.hasXPaths(
+                "/o[@base='tuple' and count(o)=2]",
+                "/o[@base='tuple']/o[@base='int']",
+                "/o[@base='tuple']/o[@base='opcode']"
+            )
+        );
+    }
+
+    /**
+     * XML without random line numbers that jeo adds to data objects.
+     * @param node XML node.
+     * @return XML as a string.
+     */
+    private static String withoutLines(final XmlNode node) {
+        return node.toString().replaceAll(" line=\"-?\\d+\"", "");
+    }
+}
@@ -25,7 +25,9 @@ package org.eolang.opeo.ast;
 
 import org.eolang.jeo.matchers.SameXml;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.xembly.Directives;
 import org.xembly.Xembler;
 
 /**
@@ -71,13 +73,38 @@ final class DuplicateTest {
     }
 
     @Test
-    void transformsToXmirTwice() {
+    void transformsToTheSameXmirTwice() {
         final AstNode node = new Duplicate(DuplicateTest.ALIAS, DuplicateTest.LITERAL);
         node.toXmir();
         MatcherAssert.assertThat(
-            "Must transform to correct XMIR twice and the second time should be just a reference to the previously created object",
+            "Must transform to the same XMIR each time, the node shouldn't keep any state",
             new Xembler(node.toXmir()).xmlQuietly(),
-            new SameXml(DuplicateTest.REF)
+            new SameXml(DuplicateTest.FULL)
+        );
+    }
+
+    @Test
+    void writesReferenceToTheSameSink() {
+        final AstNode node = new Duplicate(DuplicateTest.ALIAS, DuplicateTest.LITERAL);
+        final Directives directives = new Directives().add("o");
+        final XmirSink sink = new DirectivesSink(directives);
+        node.write(sink);
+        node.write(sink);
+        MatcherAssert.assertThat(
+            "Must write the definition first and then just a reference to the created object",
+            new Xembler(directives).xmlQuietly(),
+            new SameXml(
+                String.join("\n", "<o>", DuplicateTest.FULL, DuplicateTest.REF, "</o>")
+            )
+        );
+    }
+
+    @Test
+    void doesNotProduceOpcodesForReference() {
+        MatcherAssert.assertThat(
+            "Reference mustn't produce opcodes, since the value is already on the stack",
+            new Duplicate(DuplicateTest.ALIAS, DuplicateTest.LITERAL).reference().opcodes(),
+            Matchers.empty()
         );
     }
 }
@@ -107,7 +107,7 @@ final class IfTest {
             Matchers.hasItems(
                 new Opcode(Opcodes.ICONST_1),
                 new Opcode(Opcodes.ICONST_2),
-                new Opcode(Opcodes.IF_ICMPGT, label.toAsmLabel())
+                new Opcode(Opcodes.IF_ICMPGT, label)
             )
         );
     }
@@ -0,0 +1,62 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.ast;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Numbering}.
+ * @since 0.5
+ */
+final class NumberingTest {
+
+    @Test
+    void givesTheSameLabelToTheSameAsmLabel() {
+        final Numbering numbering = new Numbering(false).method();
+        final org.objectweb.asm.Label label = new org.objectweb.asm.Label();
+        MatcherAssert.assertThat(
+            "We expect that the same ASM label always gets the same label within the method",
+            numbering.label(label),
+            Matchers.allOf(
+                Matchers.equalTo(numbering.label(label)),
+                Matchers.not(Matchers.equalTo(numbering.label(new org.objectweb.asm.Label())))
+            )
+        );
+    }
+
+    @Test
+    void countsLabelsOfEachMethodFromStart() {
+        final Numbering numbering = new Numbering(true);
+        final Numbering first = numbering.method();
+        final Label label = first.label(new org.objectweb.asm.Label());
+        first.label(new org.objectweb.asm.Label());
+        MatcherAssert.assertThat(
+            "We expect that labels don't depend on the methods processed before",
+            numbering.method().label(new org.objectweb.asm.Label()),
+            Matchers.equalTo(label)
+        );
+    }
+}
@@ -30,7 +30,7 @@ import java.nio.file.Path;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.matchers.SameXml;
-import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.ast.Numbering;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.hamcrest.io.FileMatchers;
@@ -64,12 +64,11 @@ final class DefaultCompilerTest {
 
     @Test
     void compilesSingleHighLevelXmir(@TempDir final Path temp) throws Exception {
-        Opcode.disableCounting();
         final Path input = temp.resolve("opeo-xmir").resolve("Bar.xmir");
         Files.createDirectories(input.getParent());
         final byte[] before = new BytesOf(new ResourceOf("xmir/Bar.xmir")).asBytes();
         Files.write(input, before);
-        new DefaultCompiler(temp).compile();
+        new DefaultCompiler(temp, new Numbering(false)).compile();
         final File output = temp.resolve("xmir").resolve("Bar.xmir").toFile();
         MatcherAssert.assertThat(
             "The compiled file is missing",
@@ -28,7 +28,7 @@ import com.jcabi.xml.XMLDocument;
 import org.cactoos.io.ResourceOf;
 import org.cactoos.text.TextOf;
 import org.eolang.jeo.matchers.SameXml;
-import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.ast.Numbering;
 import org.hamcrest.MatcherAssert;
 import org.junit.jupiter.api.Test;
 
@@ -41,13 +41,12 @@ final class JeoCompilerTest {
 
     @Test
     void compilesSuccessfully() throws Exception {
-        Opcode.disableCounting();
         final XML expected = new XMLDocument(
             new TextOf(new ResourceOf("xmir/Bar.xmir")).asString()
         );
         MatcherAssert.assertThat(
             "The compiled program is not equal to the expected one, but should since we provided already compiled program",
-            new JeoCompiler(expected).compile().toString(),
+            new JeoCompiler(expected, new Numbering(false)).compile().toString(),
             new SameXml(expected)
         );
     }
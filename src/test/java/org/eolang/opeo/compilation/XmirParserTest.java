@@ -23,6 +23,7 @@
  */
 package org.eolang.opeo.compilation;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import org.eolang.jeo.matchers.SameXml;
@@ -33,10 +34,13 @@ import org.eolang.opeo.ast.Field;
 import org.eolang.opeo.ast.FieldAssignment;
 import org.eolang.opeo.ast.Literal;
 import org.eolang.opeo.ast.LocalVariable;
+import org.eolang.opeo.ast.Numbering;
 import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.ast.StaticInvocation;
 import org.eolang.opeo.ast.This;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -50,7 +54,7 @@ final class XmirParserTest {
     @Test
     void convertsOpcodesAsIs() {
         final List<XmlNode> nodes = new XmirParser(
-            new Opcode(Opcodes.ICONST_0, false), new Opcode(Opcodes.POP, false)
+            new Opcode(Opcodes.ICONST_0), new Opcode(Opcodes.POP)
         ).toJeoNodes();
         MatcherAssert.assertThat(
             "We expect to retrieve 2 opcodes, but got something else instead: %n%s%n",
@@ -146,7 +150,6 @@ final class XmirParserTest {
 
     @Test
     void parsesInvokeDynamicInstruction() {
-        Opcode.disableCounting();
         final XmlNode node = new XmlNode(
             String.join(
                 "\n",
@@ -175,8 +178,43 @@ final class XmirParserTest {
         );
         MatcherAssert.assertThat(
             "We expect to retrieve exactly 1 opcode invokedynamic (without changes), but got something else instead",
-            new XmirParser(Collections.singletonList(node)).toJeoNodes().get(0).toString(),
+            new XmirParser(Collections.singletonList(node), new Numbering(false))
+                .toJeoNodes().get(0).toString(),
             new SameXml(node.toString())
         );
     }
+
+    @Test
+    void convertsStaticInvocationWithArguments() {
+        final String owner = "java/lang/Math";
+        final String name = "max";
+        final String dscr = "(II)I";
+        MatcherAssert.assertThat(
+            "We expect to retrieve both arguments and then the invokestatic instruction",
+            new XmirParser(
+                new StaticInvocation(
+                    owner,
+                    name,
+                    dscr,
+                    Arrays.asList(new Literal(1), new Literal(2))
+                )
+            ).toJeoNodes(),
+            new HasInstructions(
+                new HasInstructions.Instruction(Opcodes.ICONST_1),
+                new HasInstructions.Instruction(Opcodes.ICONST_2),
+                new HasInstructions.Instruction(Opcodes.INVOKESTATIC, owner, name, dscr, false)
+            )
+        );
+    }
+
+    @Test
+    void failsOnUnknownNode() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new XmirParser(Collections.emptyList()).parse(
+                new XmlNode("<o base='unknown'/>")
+            ),
+            "We expect the parser to reject a node with unknown 'base' attribute"
+        );
+    }
 }
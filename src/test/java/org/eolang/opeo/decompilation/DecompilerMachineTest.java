@@ -26,7 +26,6 @@ package org.eolang.opeo.decompilation;
 import java.util.Collections;
 import java.util.concurrent.atomic.AtomicReference;
 import org.eolang.jeo.matchers.SameXml;
-import org.eolang.jeo.representation.xmir.AllLabels;
 import org.eolang.opeo.LabelInstruction;
 import org.eolang.opeo.OpcodeInstruction;
 import org.eolang.opeo.ast.Addition;
@@ -40,6 +39,7 @@ import org.eolang.opeo.ast.Field;
 import org.eolang.opeo.ast.FieldAssignment;
 import org.eolang.opeo.ast.Invocation;
 import org.eolang.opeo.ast.Literal;
+import org.eolang.opeo.ast.Label;
 import org.eolang.opeo.ast.LocalVariable;
 import org.eolang.opeo.ast.Owner;
 import org.eolang.opeo.ast.Popped;
@@ -54,11 +54,9 @@ import org.hamcrest.MatcherAssert;
 import org.hamcrest.TypeSafeMatcher;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
-import org.objectweb.asm.Label;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
 import org.xembly.Directive;
-import org.xembly.Directives;
 import org.xembly.ImpossibleModificationException;
 import org.xembly.Xembler;
 
@@ -196,14 +194,13 @@ final class DecompilerMachineTest {
      */
     @Test
     void decompilesIfStatement() {
-        final AllLabels labels = new AllLabels();
-        final Label label = labels.label("66 6F 6F");
+        final String label = "66 6F 6F";
         Assertions.assertDoesNotThrow(
             () -> {
                 new DecompilerMachine().decompile(
                     new OpcodeInstruction(Opcodes.ALOAD, 0),
                     new OpcodeInstruction(Opcodes.GETFIELD, "org/eolang/other/A", "d", "I"),
-                    new OpcodeInstruction(Opcodes.IFGT, label),
+                    new OpcodeInstruction(Opcodes.IFGT, new Label(label)),
                     new OpcodeInstruction(Opcodes.ALOAD, 0),
                     new OpcodeInstruction(Opcodes.GETFIELD, "org/eolang/other/A", "d", "I"),
                     new OpcodeInstruction(Opcodes.IRETURN),
@@ -274,11 +271,13 @@ final class DecompilerMachineTest {
     @Test
     void decompilesArrayInsertion() throws ImpossibleModificationException {
         final String type = "java/lang/Object";
-        final Duplicate ref = new Duplicate(new ArrayConstructor(new Literal(2), type));
+        final Duplicate ref = new Duplicate(
+            "ref-1", new ArrayConstructor(new Literal(2), type)
+        );
         MatcherAssert.assertThat(
             "Can't decompile array insertion",
             new Xembler(
-                DecompilerMachineTest.withoutRefNames(new DecompilerMachine()
+                new DecompilerMachine()
                     .decompile(
                         new OpcodeInstruction(Opcodes.ICONST_2),
                         new OpcodeInstruction(Opcodes.ANEWARRAY, type),
@@ -286,19 +285,17 @@ final class DecompilerMachineTest {
                         new OpcodeInstruction(Opcodes.ICONST_0),
                         new OpcodeInstruction(Opcodes.ALOAD, 0),
                         new OpcodeInstruction(Opcodes.AASTORE)
-                    ))
+                    )
             ).xml(),
             new SameXml(
                 new Xembler(
-                    DecompilerMachineTest.withoutRefNames(
-                        new Root(
-                            new StoreArray(
-                                ref,
-                                new Literal(0),
-                                new This()
-                            )
-                        ).toXmir()
-                    )
+                    new Root(
+                        new StoreArray(
+                            ref,
+                            new Literal(0),
+                            new This()
+                        )
+                    ).toXmir()
                 ).xml()
             )
         );
@@ -365,37 +362,35 @@ final class DecompilerMachineTest {
         final String type = "java/lang/Object";
         MatcherAssert.assertThat(
             "Can't decompile vararg invocation",
-            DecompilerMachineTest.withoutRefNames(
-                new DecompilerMachine(Collections.singletonMap("counting", "false"))
-                    .decompile(
-                        new OpcodeInstruction(
-                            Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;"
-                        ),
-                        new OpcodeInstruction(Opcodes.LDC, "Number is %s"),
-                        new OpcodeInstruction(Opcodes.ICONST_1),
-                        new OpcodeInstruction(Opcodes.ANEWARRAY, type),
-                        new OpcodeInstruction(Opcodes.DUP),
-                        new OpcodeInstruction(Opcodes.ICONST_0),
-                        new OpcodeInstruction(Opcodes.ICONST_2),
-                        new OpcodeInstruction(
-                            Opcodes.INVOKESTATIC,
-                            "java/lang/Integer",
-                            "valueOf",
-                            "(I)Ljava/lang/Integer;",
-                            false
-                        ),
-                        new OpcodeInstruction(Opcodes.AASTORE),
-                        new OpcodeInstruction(
-                            Opcodes.INVOKEVIRTUAL,
-                            "java/io/PrintStream",
-                            "printf",
-                            "(Ljava/lang/String;[Ljava/lang/Object;)Ljava/io/PrintStream;",
-                            false
-                        ),
-                        new OpcodeInstruction(Opcodes.POP),
-                        new OpcodeInstruction(Opcodes.RETURN)
-                    )
-            ),
+            new DecompilerMachine(Collections.singletonMap("counting", "false"))
+                .decompile(
+                    new OpcodeInstruction(
+                        Opcodes.GETSTATIC, "java/lang/System", "out", "Ljava/io/PrintStream;"
+                    ),
+                    new OpcodeInstruction(Opcodes.LDC, "Number is %s"),
+                    new OpcodeInstruction(Opcodes.ICONST_1),
+                    new OpcodeInstruction(Opcodes.ANEWARRAY, type),
+                    new OpcodeInstruction(Opcodes.DUP),
+                    new OpcodeInstruction(Opcodes.ICONST_0),
+                    new OpcodeInstruction(Opcodes.ICONST_2),
+                    new OpcodeInstruction(
+                        Opcodes.INVOKESTATIC,
+                        "java/lang/Integer",
+                        "valueOf",
+                        "(I)Ljava/lang/Integer;",
+                        false
+                    ),
+                    new OpcodeInstruction(Opcodes.AASTORE),
+                    new OpcodeInstruction(
+                        Opcodes.INVOKEVIRTUAL,
+                        "java/io/PrintStream",
+                        "printf",
+                        "(Ljava/lang/String;[Ljava/lang/Object;)Ljava/io/PrintStream;",
+                        false
+                    ),
+                    new OpcodeInstruction(Opcodes.POP),
+                    new OpcodeInstruction(Opcodes.RETURN)
+                ),
             new SameNode(
                 new Root(
                     new Popped(
@@ -415,6 +410,7 @@ final class DecompilerMachineTest {
                             new Constant("Number is %s"),
                             new StoreArray(
                                 new Duplicate(
+                                    "ref-1",
                                     new ArrayConstructor(
                                         new Literal(1),
                                         type
@@ -439,23 +435,6 @@ final class DecompilerMachineTest {
         );
     }
 
-    /**
-     * Removes names from reference names.
-     * @param directives Original XMIR directives with references.
-     * @return XMIR directives without reference names.
-     * @todo #277:60min Reference Names Generator.
-     *  Instead of removing refence names suffixes from the resulting XMIR,
-     *  it's better to invent some "Reference Namaes Generator" and pass it to
-     *  a {@link DecompilerMachine}. This generator should be able to generate as random names
-     *  as fixed names. After implementing such a generator we should use it in tests
-     *  and remove {@link #withoutRefNames(Iterable)} method.
-     */
-    private static Directives withoutRefNames(final Iterable<Directive> directives) {
-        return new Directives(directives)
-            .xpath("//o[starts-with(@name, 'ref-')]/@name").set("ref")
-            .xpath("//o[starts-with(@base, 'ref-')]/@base").set("ref");
-    }
-
     /**
      * Matcher for the same node.
      * @since 0.2
@@ -495,12 +474,8 @@ final class DecompilerMachineTest {
         @Override
         public boolean matchesSafely(final Iterable<Directive> item) {
             try {
-                final String xactual = new Xembler(
-                    DecompilerMachineTest.withoutRefNames(item)
-                ).xml();
-                final String xpected = new Xembler(
-                    DecompilerMachineTest.withoutRefNames(this.expected.toXmir())
-                ).xml();
+                final String xactual = new Xembler(item).xml();
+                final String xpected = new Xembler(this.expected.toXmir()).xml();
                 this.actual.set(xactual);
                 this.exp.set(xpected);
                 return new SameXml(xpected).matchesSafely(xactual);
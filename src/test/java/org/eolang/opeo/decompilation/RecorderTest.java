@@ -0,0 +1,64 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link Recorder}.
+ * @since 0.5
+ */
+final class RecorderTest {
+
+    @Test
+    void keepsOnlyLastEvents() {
+        final Recorder recorder = new Recorder(2);
+        recorder.record(String.class, Opcodes.ICONST_1, 0);
+        recorder.record(Integer.class, Opcodes.ICONST_2, 1);
+        recorder.record(Long.class, Opcodes.IADD, 2);
+        MatcherAssert.assertThat(
+            "We expect that only the last two events are kept, from the oldest to the newest",
+            recorder.dump(),
+            Matchers.allOf(
+                Matchers.startsWith("Last 2 of 3 decompilation steps:"),
+                Matchers.not(Matchers.containsString("iconst_1")),
+                Matchers.stringContainsInOrder("Integer iconst_2 stack=1", "Long iadd stack=2")
+            )
+        );
+    }
+
+    @Test
+    void recordsNothingWhenDisabled() {
+        final Recorder recorder = new Recorder(0);
+        recorder.record(String.class, Opcodes.ICONST_1, 0);
+        MatcherAssert.assertThat(
+            "We expect that the disabled recorder only counts events",
+            recorder.dump(),
+            Matchers.startsWith("Last 0 of 1 decompilation steps:")
+        );
+    }
+}
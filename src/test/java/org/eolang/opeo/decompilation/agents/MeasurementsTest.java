@@ -0,0 +1,94 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation.agents;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.opeo.ast.Opcode;
+import org.eolang.opeo.decompilation.DecompilerState;
+import org.eolang.opeo.decompilation.LocalVariables;
+import org.eolang.opeo.decompilation.OperandStack;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link Measurements}.
+ * @since 0.5
+ */
+final class MeasurementsTest {
+
+    @Test
+    void countsInvocationsPerAgentAndOpcode(@TempDir final Path dir) throws Exception {
+        final Measurements measurements = new Measurements(true);
+        new AllAgents(false, new TracedAgent.Log(), measurements).handle(
+            new DecompilerState(
+                Stream.of(
+                    new Opcode(Opcodes.ICONST_1),
+                    new Opcode(Opcodes.ICONST_2),
+                    new Opcode(Opcodes.IADD)
+                ).collect(Collectors.toCollection(ArrayDeque::new)),
+                new OperandStack(),
+                new LocalVariables()
+            )
+        );
+        final Path report = dir.resolve("metrics.csv");
+        measurements.save(report);
+        MatcherAssert.assertThat(
+            "We expect that each agent and each opcode invocation is counted",
+            new String(Files.readAllBytes(report), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.startsWith("kind,name,count,nanos,bytes"),
+                Matchers.containsString("agent,ConstAgent,2,"),
+                Matchers.containsString("agent,AddAgent,1,"),
+                Matchers.containsString("opcode,iconst_1,1,"),
+                Matchers.containsString("opcode,iadd,1,")
+            )
+        );
+    }
+
+    @Test
+    void doesNotMeasureByDefault() {
+        final Measurements measurements = new Measurements();
+        new AllAgents(false, new TracedAgent.Log(), measurements).handle(
+            new DecompilerState(
+                Stream.of(new Opcode(Opcodes.ICONST_1))
+                    .collect(Collectors.toCollection(ArrayDeque::new)),
+                new OperandStack(),
+                new LocalVariables()
+            )
+        );
+        MatcherAssert.assertThat(
+            "We expect that disabled measurements don't count anything",
+            measurements.invocations(),
+            Matchers.equalTo(0L)
+        );
+    }
+}
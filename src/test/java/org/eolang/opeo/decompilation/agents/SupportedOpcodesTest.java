@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.decompilation.agents;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link SupportedOpcodes}.
+ * @since 0.5
+ */
+final class SupportedOpcodesTest {
+
+    @Test
+    void supportsOpcodesOfAllAgentsByCode() {
+        MatcherAssert.assertThat(
+            "We expect that 'iadd' is supported, since there is an agent for it",
+            new SupportedOpcodes().contains(Opcodes.IADD),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void supportsOpcodesOfAllAgentsByName() {
+        MatcherAssert.assertThat(
+            "We expect that 'invokespecial' is supported, since there is an agent for it",
+            new SupportedOpcodes().contains("invokespecial"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotSupportUnknownOpcodes() {
+        final SupportedOpcodes registry = new SupportedOpcodes();
+        MatcherAssert.assertThat(
+            "We expect that 'monitorenter' is not supported, neither by code nor by name",
+            registry.contains(Opcodes.MONITORENTER) || registry.contains("monitorenter"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void listsNamesWithoutPseudoOpcodes() {
+        MatcherAssert.assertThat(
+            "We expect that names contain real opcodes only",
+            new SupportedOpcodes().names(),
+            Matchers.allOf(
+                Matchers.hasItemInArray("aload"),
+                Matchers.not(Matchers.hasItemInArray("unknown"))
+            )
+        );
+    }
+
+    @Test
+    void supportsOnlyGivenNames() {
+        final SupportedOpcodes registry = new SupportedOpcodes("aload", "return");
+        MatcherAssert.assertThat(
+            "We expect that custom registry supports only the given opcodes",
+            registry.contains(Opcodes.ALOAD) && registry.contains("return")
+                && !registry.contains("iadd"),
+            Matchers.is(true)
+        );
+    }
+}
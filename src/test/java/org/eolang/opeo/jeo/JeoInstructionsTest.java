@@ -73,4 +73,23 @@ final class JeoInstructionsTest {
         );
     }
 
+    @Test
+    void readsOperandsOfDetachedInstructions() {
+        final XmlMethod method = new XmlMethod();
+        method.withInstructions(
+            new XmlInstruction(Opcodes.LDC, "Hello, world!").toNode(),
+            new XmlInstruction(Opcodes.RETURN).toNode()
+        );
+        final Instruction[] instructions = new JeoInstructions(method).detached();
+        MatcherAssert.assertThat(
+            "The detached LDC instruction should keep its operand",
+            instructions[0].operand(0),
+            Matchers.equalTo("Hello, world!")
+        );
+        MatcherAssert.assertThat(
+            "The detached RETURN instruction should keep its opcode",
+            instructions[1].opcode(),
+            Matchers.equalTo(Opcodes.RETURN)
+        );
+    }
 }
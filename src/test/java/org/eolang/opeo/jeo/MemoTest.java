@@ -0,0 +1,163 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.jeo;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import org.eolang.opeo.Instruction;
+import org.eolang.opeo.LabelInstruction;
+import org.eolang.opeo.OpcodeInstruction;
+import org.eolang.opeo.ast.Label;
+import org.eolang.opeo.ast.Numbering;
+import org.eolang.opeo.decompilation.LocalVariables;
+import org.eolang.opeo.storage.MemoryCache;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.objectweb.asm.Opcodes;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.xembly.Directives;
+import org.xembly.Xembler;
+
+/**
+ * Test case for {@link Memo}.
+ * @since 0.5
+ */
+final class MemoTest {
+
+    @Test
+    void reusesDecompiledBodyWithLabelsOfTheMethod() {
+        final Memo memo = new Memo(new MemoryCache(1024L), "test");
+        final AtomicInteger runs = new AtomicInteger();
+        MemoTest.decompile(memo, "a", runs);
+        final Node body = MemoTest.decompile(memo, "b", runs);
+        MatcherAssert.assertThat(
+            "We expect that the identical method will be taken from the memo",
+            runs.get(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "We expect that the label of the memoized body will be replaced with the current one",
+            body.getFirstChild().getTextContent(),
+            Matchers.equalTo(new Label("b").hex())
+        );
+    }
+
+    @Test
+    void keepsDataThatLooksLikeLabel() {
+        final Memo memo = new Memo(new MemoryCache(1024L), "test");
+        final AtomicInteger runs = new AtomicInteger();
+        MemoTest.decompile(memo, "a", runs);
+        MatcherAssert.assertThat(
+            "We expect that only label objects are changed, even if data has the same content",
+            MemoTest.decompile(memo, "b", runs).getLastChild().getTextContent(),
+            Matchers.equalTo(new Label("a").hex())
+        );
+    }
+
+    @Test
+    void keepsNumberingInKey() {
+        final Memo memo = new Memo(new MemoryCache(1024L), "test");
+        final AtomicInteger runs = new AtomicInteger();
+        MemoTest.decompile(memo.numbered(new Numbering(true)), "a", runs);
+        MemoTest.decompile(memo.numbered(new Numbering(false)), "a", runs);
+        MatcherAssert.assertThat(
+            "We expect that methods decompiled with different numbering are not shared",
+            runs.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void decompilesDifferentMethods() {
+        final Memo memo = new Memo(new MemoryCache(1024L), "test");
+        final AtomicInteger runs = new AtomicInteger();
+        MemoTest.decompile(memo, "a", runs, Opcodes.IRETURN);
+        MemoTest.decompile(memo, "a", runs, Opcodes.ARETURN);
+        MatcherAssert.assertThat(
+            "We expect that methods with different instructions will be decompiled both",
+            runs.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void decompilesEachTimeIfDisabled() {
+        final Memo memo = new Memo();
+        final AtomicInteger runs = new AtomicInteger();
+        MemoTest.decompile(memo, "a", runs);
+        MemoTest.decompile(memo, "a", runs);
+        MatcherAssert.assertThat(
+            "We expect that the disabled memo will not keep anything",
+            runs.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    /**
+     * Decompile the method with a single label and a return.
+     * @param memo Memo.
+     * @param label Label identifier.
+     * @param runs Number of actual decompilations.
+     * @return Decompiled body.
+     */
+    private static Node decompile(final Memo memo, final String label, final AtomicInteger runs) {
+        return MemoTest.decompile(memo, label, runs, Opcodes.RETURN);
+    }
+
+    /**
+     * Decompile the method with a single label and a return.
+     * Decompilation just writes the label to the body, and then a string data
+     * with the same content as the label of the method "a".
+     * @param memo Memo.
+     * @param label Label identifier.
+     * @param runs Number of actual decompilations.
+     * @param ret Return opcode.
+     * @return Decompiled body.
+     */
+    private static Node decompile(
+        final Memo memo, final String label, final AtomicInteger runs, final int ret
+    ) {
+        final Document doc = new Xembler(new Directives().add("o")).domQuietly();
+        final Element shell = doc.getDocumentElement();
+        memo.decompile(
+            shell,
+            new LocalVariables(),
+            new Instruction[]{new LabelInstruction(label), new OpcodeInstruction(ret)},
+            () -> {
+                runs.incrementAndGet();
+                final Element child = doc.createElement("o");
+                child.setAttribute("base", "label");
+                child.setTextContent(new Label(label).hex());
+                shell.appendChild(child);
+                final Element data = doc.createElement("o");
+                data.setAttribute("base", "string");
+                data.setTextContent(new Label("a").hex());
+                shell.appendChild(data);
+            }
+        );
+        return shell;
+    }
+}
@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.parallel;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Budget}.
+ * @since 0.5
+ */
+final class BudgetTest {
+
+    @Test
+    void admitsSingleJobHeavierThanLimit() throws InterruptedException {
+        final Budget budget = new Budget(10L);
+        budget.acquire(1000L);
+        budget.release(1000L);
+        MatcherAssert.assertThat(
+            "We expect that a single heavy job is admitted and the budget is free again",
+            BudgetTest.admitted(budget, 5L),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void waitsUntilWeightIsReleased() throws InterruptedException {
+        final Budget budget = new Budget(100L);
+        budget.acquire(80L);
+        final CountDownLatch started = new CountDownLatch(1);
+        final Thread thread = new Thread(
+            () -> {
+                budget.acquire(50L);
+                started.countDown();
+                budget.release(50L);
+            }
+        );
+        thread.start();
+        MatcherAssert.assertThat(
+            "We expect that the job waits while the budget is exceeded",
+            started.await(300L, TimeUnit.MILLISECONDS),
+            Matchers.is(false)
+        );
+        budget.release(80L);
+        MatcherAssert.assertThat(
+            "We expect that the job starts when the weight is released",
+            started.await(5L, TimeUnit.SECONDS),
+            Matchers.is(true)
+        );
+        thread.join();
+    }
+
+    @Test
+    void sharesBudgetBetweenRunsWithSameLimit() throws InterruptedException {
+        final Budget first = Budget.shared(100L);
+        first.acquire(80L);
+        final CountDownLatch started = new CountDownLatch(1);
+        final Thread thread = new Thread(
+            () -> {
+                final Budget second = Budget.shared(100L);
+                second.acquire(50L);
+                started.countDown();
+                second.release(50L);
+            }
+        );
+        thread.start();
+        final boolean waited = !started.await(300L, TimeUnit.MILLISECONDS);
+        first.release(80L);
+        thread.join();
+        MatcherAssert.assertThat(
+            "We expect that another run with the same limit waits for the weight in flight",
+            waited,
+            Matchers.is(true)
+        );
+    }
+
+    /**
+     * Whether the job is admitted at once.
+     * @param budget Budget.
+     * @param weight Weight of the job.
+     * @return True if admitted.
+     * @throws InterruptedException If interrupted.
+     */
+    private static boolean admitted(final Budget budget, final long weight)
+        throws InterruptedException {
+        final CountDownLatch started = new CountDownLatch(1);
+        final Thread thread = new Thread(
+            () -> {
+                budget.acquire(weight);
+                started.countDown();
+                budget.release(weight);
+            }
+        );
+        thread.start();
+        final boolean result = started.await(5L, TimeUnit.SECONDS);
+        thread.join();
+        return result;
+    }
+}
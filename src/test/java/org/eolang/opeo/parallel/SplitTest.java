@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.parallel;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Split}.
+ * @since 0.5
+ */
+final class SplitTest {
+
+    @Test
+    void keepsOrderOfResults() {
+        final List<Integer> items = IntStream.range(0, 200).boxed().collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "We expect that results are returned in the order of the items",
+            new Split().map(items, item -> item * 2),
+            Matchers.equalTo(
+                items.stream().map(item -> item * 2).collect(Collectors.toList())
+            )
+        );
+    }
+
+    @Test
+    void rethrowsFailureOfJob() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Split().map(
+                IntStream.range(0, 10).boxed().collect(Collectors.toList()),
+                item -> {
+                    if (item == 7) {
+                        throw new IllegalStateException("Can't process method");
+                    }
+                    return item;
+                }
+            ),
+            "We expect that the failure of a job is propagated to the caller"
+        );
+    }
+
+    @Test
+    void keepsHelpersWithinThreadsLimit() {
+        final Workers workers = new Workers(1);
+        final Split split = new Split(1, 0, workers);
+        final AtomicInteger running = new AtomicInteger(0);
+        final AtomicInteger peak = new AtomicInteger(0);
+        workers.apply(
+            IntStream.range(0, 2).boxed(),
+            clazz -> split.map(
+                IntStream.range(0, 50).boxed().collect(Collectors.toList()),
+                method -> {
+                    peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    try {
+                        Thread.sleep(1L);
+                    } catch (final InterruptedException exception) {
+                        Thread.currentThread().interrupt();
+                    }
+                    return running.decrementAndGet();
+                }
+            ).size()
+        );
+        MatcherAssert.assertThat(
+            "We expect that helpers never exceed the threads limit of the run",
+            peak.get(),
+            Matchers.equalTo(1)
+        );
+    }
+
+    @Test
+    void splitsOnlyLargeClasses() {
+        final Split split = new Split(10, 1000);
+        MatcherAssert.assertThat(
+            "We expect that small classes are not split, but large ones are",
+            new boolean[] {
+                split.worth(3, 100),
+                split.worth(10, 100),
+                split.worth(3, 1000),
+                split.worth(1, 5000),
+            },
+            Matchers.equalTo(new boolean[] {false, true, true, false})
+        );
+    }
+
+    @Test
+    void neverSplitsIfDisabled() {
+        MatcherAssert.assertThat(
+            "We expect that disabled split never processes methods concurrently",
+            Split.never().worth(1000, 1_000_000),
+            Matchers.is(false)
+        );
+    }
+}
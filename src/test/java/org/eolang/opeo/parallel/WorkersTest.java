@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.parallel;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Workers}.
+ * @since 0.5
+ */
+final class WorkersTest {
+
+    @Test
+    void sumsResultsOfAllJobs() {
+        MatcherAssert.assertThat(
+            "We expect that all the items will be processed exactly once",
+            new Workers(4).apply(IntStream.range(0, 100).boxed(), item -> 1),
+            Matchers.equalTo(100)
+        );
+    }
+
+    @Test
+    void doesNotExceedNumberOfThreads() {
+        final AtomicInteger active = new AtomicInteger(0);
+        final AtomicInteger peak = new AtomicInteger(0);
+        new Workers(2).apply(
+            IntStream.range(0, 50).boxed(),
+            item -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1L);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                active.decrementAndGet();
+                return 1;
+            }
+        );
+        MatcherAssert.assertThat(
+            "We expect that no more than two jobs run concurrently",
+            peak.get(),
+            Matchers.lessThanOrEqualTo(2)
+        );
+    }
+
+    @Test
+    void keepsHeavyItemsWithinBudget() {
+        final AtomicInteger active = new AtomicInteger(0);
+        final AtomicInteger peak = new AtomicInteger(0);
+        final int total = new Workers(4, new Budget(100L)).apply(
+            IntStream.range(0, 20).boxed(),
+            item -> 60L,
+            item -> {
+                peak.accumulateAndGet(active.incrementAndGet(), Math::max);
+                try {
+                    Thread.sleep(1L);
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                }
+                active.decrementAndGet();
+                return 1;
+            }
+        );
+        MatcherAssert.assertThat(
+            "We expect that items heavier than half of the budget are processed one by one",
+            peak.get(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "We expect that all the heavy items are processed anyway",
+            total,
+            Matchers.equalTo(20)
+        );
+    }
+
+    @Test
+    void rethrowsFailureOfJob() {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Workers(3).apply(
+                IntStream.range(0, 10).boxed(),
+                item -> {
+                    if (item == 5) {
+                        throw new IllegalStateException("Can't process item");
+                    }
+                    return 1;
+                }
+            ),
+            "We expect that the failure of a job is propagated to the caller"
+        );
+    }
+
+    @Test
+    void stopsPullingItemsAfterFailure() {
+        final AtomicInteger pulled = new AtomicInteger(0);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new Workers(1).apply(
+                IntStream.range(0, 1000).boxed().peek(item -> pulled.incrementAndGet()),
+                item -> {
+                    throw new IllegalStateException("Can't process any item");
+                }
+            ),
+            "We expect that the failure of the first job is propagated to the caller"
+        );
+        MatcherAssert.assertThat(
+            "We expect that the remaining items are not even pulled from the stream",
+            pulled.get(),
+            Matchers.lessThan(10)
+        );
+    }
+
+    @Test
+    void processesSeveralRunsWithSameWorkers() {
+        final Workers workers = new Workers(2);
+        workers.apply(IntStream.range(0, 10).boxed(), item -> 1);
+        MatcherAssert.assertThat(
+            "We expect that the same workers process the next run as well",
+            workers.apply(IntStream.range(0, 10).boxed(), item -> 1),
+            Matchers.equalTo(10)
+        );
+    }
+
+    @Test
+    void picksNumberOfThreadsAutomatically() {
+        MatcherAssert.assertThat(
+            "We expect at least one thread to be picked",
+            new Workers().size(),
+            Matchers.greaterThanOrEqualTo(1)
+        );
+    }
+}
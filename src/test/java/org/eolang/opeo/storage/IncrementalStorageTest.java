@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.io.FileMatchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link IncrementalStorage}.
+ * @since 0.5
+ */
+final class IncrementalStorageTest {
+
+    /**
+     * Configuration used in tests.
+     */
+    private static final String CONFIG = "0.0.0 naive";
+
+    /**
+     * XMIR file name.
+     */
+    private static final String NAME = "Bar.xmir";
+
+    @Test
+    void skipsUnchangedFiles(@TempDir final Path temp) throws Exception {
+        final Path input = IncrementalStorageTest.input(temp);
+        final Path output = temp.resolve("output");
+        IncrementalStorageTest.process(input, output, IncrementalStorageTest.CONFIG);
+        MatcherAssert.assertThat(
+            "We expect that unchanged file won't be processed again",
+            new IncrementalStorage(
+                new FileStorage(input, output), input, output, IncrementalStorageTest.CONFIG
+            ).all().count(),
+            Matchers.equalTo(0L)
+        );
+    }
+
+    @Test
+    void processesChangedFiles(@TempDir final Path temp) throws Exception {
+        final Path input = IncrementalStorageTest.input(temp);
+        final Path output = temp.resolve("output");
+        IncrementalStorageTest.process(input, output, IncrementalStorageTest.CONFIG);
+        Files.write(
+            input.resolve(IncrementalStorageTest.NAME),
+            new BytesOf(new ResourceOf("xmir/Known.xmir")).asBytes()
+        );
+        MatcherAssert.assertThat(
+            "We expect that changed file will be processed again",
+            new IncrementalStorage(
+                new FileStorage(input, output), input, output, IncrementalStorageTest.CONFIG
+            ).all().count(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void processesAllFilesIfConfigurationChanged(@TempDir final Path temp) throws Exception {
+        final Path input = IncrementalStorageTest.input(temp);
+        final Path output = temp.resolve("output");
+        IncrementalStorageTest.process(input, output, IncrementalStorageTest.CONFIG);
+        MatcherAssert.assertThat(
+            "We expect that all files will be processed again if the configuration changed",
+            new IncrementalStorage(
+                new FileStorage(input, output), input, output, "0.0.1 naive"
+            ).all().count(),
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void removesStaleOutputs(@TempDir final Path temp) throws Exception {
+        final Path input = IncrementalStorageTest.input(temp);
+        final Path output = temp.resolve("output");
+        IncrementalStorageTest.process(input, output, IncrementalStorageTest.CONFIG);
+        Files.delete(input.resolve(IncrementalStorageTest.NAME));
+        IncrementalStorageTest.process(input, output, IncrementalStorageTest.CONFIG);
+        MatcherAssert.assertThat(
+            "We expect that the output of the deleted input file will be removed",
+            output.resolve(IncrementalStorageTest.NAME).toFile(),
+            Matchers.not(FileMatchers.anExistingFile())
+        );
+    }
+
+    @Test
+    void keepsManifestOutsideOfOutputFolder(@TempDir final Path temp) throws Exception {
+        final Path input = IncrementalStorageTest.input(temp);
+        final Path output = temp.resolve("output");
+        final Path manifest = temp.resolve("output.opeo-manifest");
+        final Storage storage = new IncrementalStorage(
+            new FileStorage(input, output),
+            input,
+            output,
+            new Manifest(manifest, IncrementalStorageTest.CONFIG)
+        );
+        storage.all().forEach(storage::save);
+        MatcherAssert.assertThat(
+            "We expect that the output folder will contain only compiled XMIRs",
+            output.toFile().list(),
+            Matchers.arrayContaining(IncrementalStorageTest.NAME)
+        );
+        MatcherAssert.assertThat(
+            "We expect that the manifest will record the processed file",
+            new Manifest(manifest, IncrementalStorageTest.CONFIG).entries(),
+            Matchers.hasKey(IncrementalStorageTest.NAME)
+        );
+    }
+
+    /**
+     * Prepare input folder with a single XMIR file.
+     * @param temp Temporary folder.
+     * @return Input folder.
+     * @throws Exception If something goes wrong.
+     */
+    private static Path input(final Path temp) throws Exception {
+        final Path input = temp.resolve("input");
+        Files.createDirectories(input);
+        Files.write(
+            input.resolve(IncrementalStorageTest.NAME),
+            new BytesOf(new ResourceOf("xmir/Bar.xmir")).asBytes()
+        );
+        return input;
+    }
+
+    /**
+     * Process all the files from the input folder just by copying them.
+     * @param input Input folder.
+     * @param output Output folder.
+     * @param config Configuration.
+     */
+    private static void process(final Path input, final Path output, final String config) {
+        final Storage storage = new IncrementalStorage(
+            new FileStorage(input, output), input, output, config
+        );
+        storage.all().forEach(storage::save);
+    }
+}
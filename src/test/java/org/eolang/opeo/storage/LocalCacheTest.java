@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link LocalCache}.
+ * @since 0.5
+ */
+final class LocalCacheTest {
+
+    /**
+     * Key used in tests.
+     */
+    private static final String KEY = "0a1b2c3d";
+
+    @Test
+    void loadsStoredContent(@TempDir final Path temp) {
+        final Cache cache = new LocalCache(temp, 1024L);
+        final byte[] content = "<program/>".getBytes(StandardCharsets.UTF_8);
+        cache.store(LocalCacheTest.KEY, content);
+        MatcherAssert.assertThat(
+            "We expect that the stored content will be loaded by the same key",
+            new LocalCache(temp, 1024L).load(LocalCacheTest.KEY).get(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    void doesNotLoadUnknownContent(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "We expect that nothing will be loaded by unknown key",
+            new LocalCache(temp, 1024L).load(LocalCacheTest.KEY).isPresent(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void evictsLeastRecentlyUsedContent(@TempDir final Path temp) throws Exception {
+        final Cache cache = new LocalCache(temp, 25L);
+        cache.store("aa01", new byte[10]);
+        cache.store("bb02", new byte[10]);
+        try (Stream<Path> files = Files.walk(temp)) {
+            files.filter(Files::isRegularFile).forEach(
+                file -> LocalCacheTest.touch(file, file.endsWith("aa01") ? 1000L : 500L)
+            );
+        }
+        cache.store("cc03", new byte[10]);
+        MatcherAssert.assertThat(
+            "We expect that only the least recently used content will be evicted",
+            new boolean[] {
+                cache.load("aa01").isPresent(),
+                cache.load("bb02").isPresent(),
+                cache.load("cc03").isPresent(),
+            },
+            Matchers.equalTo(new boolean[] {true, false, true})
+        );
+    }
+
+    /**
+     * Set modification time of the file.
+     * @param file File.
+     * @param millis Time in milliseconds.
+     */
+    private static void touch(final Path file, final long millis) {
+        try {
+            Files.setLastModifiedTime(file, FileTime.fromMillis(millis));
+        } catch (final IOException exception) {
+            throw new IllegalStateException(exception);
+        }
+    }
+}
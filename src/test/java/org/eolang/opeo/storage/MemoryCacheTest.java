@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.nio.charset.StandardCharsets;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link MemoryCache}.
+ * @since 0.5
+ */
+final class MemoryCacheTest {
+
+    @Test
+    void loadsStoredContent() {
+        final Cache cache = new MemoryCache(1024L);
+        final byte[] content = "<o/>".getBytes(StandardCharsets.UTF_8);
+        cache.store("aa", content);
+        MatcherAssert.assertThat(
+            "We expect that the stored content will be loaded by the same key",
+            cache.load("aa").get(),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    void removesLeastRecentlyUsedContent() {
+        final Cache cache = new MemoryCache(8L);
+        cache.store("aa", new byte[4]);
+        cache.store("bb", new byte[4]);
+        cache.load("aa");
+        cache.store("cc", new byte[4]);
+        MatcherAssert.assertThat(
+            "We expect that the least recently used content will be removed",
+            cache.load("bb").isPresent(),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "We expect that the recently used content will be kept",
+            cache.load("aa").isPresent(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsLimitedNumberOfEntries() {
+        final Cache cache = new MemoryCache(1024L, 2);
+        cache.store("aa", new byte[1]);
+        cache.store("bb", new byte[1]);
+        cache.store("cc", new byte[1]);
+        MatcherAssert.assertThat(
+            "We expect that the eldest entry will be removed when there are too many entries",
+            new boolean[] {
+                cache.load("aa").isPresent(),
+                cache.load("bb").isPresent(),
+                cache.load("cc").isPresent(),
+            },
+            Matchers.equalTo(new boolean[] {false, true, true})
+        );
+    }
+}
@@ -0,0 +1,112 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link RemoteCache}.
+ * @since 0.5
+ */
+final class RemoteCacheTest {
+
+    /**
+     * Key used in tests.
+     */
+    private static final String KEY = "0a1b2c3d";
+
+    /**
+     * Timeout used in tests.
+     */
+    private static final int TIMEOUT = 1000;
+
+    @Test
+    void loadsStoredContentFromServer(@TempDir final Path temp) throws IOException {
+        final byte[] content = "<program/>".getBytes(StandardCharsets.UTF_8);
+        try (CacheServer server = new CacheServer(new LocalCache(temp, 1024L)).start()) {
+            new RemoteCache(server.url(), RemoteCacheTest.TIMEOUT)
+                .store(RemoteCacheTest.KEY, content);
+            MatcherAssert.assertThat(
+                "We expect that the content stored on the server will be loaded back",
+                new RemoteCache(server.url(), RemoteCacheTest.TIMEOUT)
+                    .load(RemoteCacheTest.KEY)
+                    .get(),
+                Matchers.equalTo(content)
+            );
+        }
+    }
+
+    @Test
+    void doesNotLoadUnknownContent(@TempDir final Path temp) throws IOException {
+        try (CacheServer server = new CacheServer(new LocalCache(temp, 1024L)).start()) {
+            MatcherAssert.assertThat(
+                "We expect that nothing will be loaded by unknown key",
+                new RemoteCache(server.url(), RemoteCacheTest.TIMEOUT)
+                    .load(RemoteCacheTest.KEY)
+                    .isPresent(),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    @Test
+    void rejectsTooLargeContent(@TempDir final Path temp) throws IOException {
+        final InetSocketAddress address = new InetSocketAddress(
+            InetAddress.getLoopbackAddress(), 0
+        );
+        final Cache local = new LocalCache(temp, 1L << 20);
+        try (CacheServer server = new CacheServer(local, address, 16L).start()) {
+            final Cache cache = new RemoteCache(server.url(), RemoteCacheTest.TIMEOUT);
+            cache.store(RemoteCacheTest.KEY, new byte[1024]);
+            MatcherAssert.assertThat(
+                "We expect that the server doesn't keep content larger than the limit",
+                cache.load(RemoteCacheTest.KEY).isPresent(),
+                Matchers.is(false)
+            );
+        }
+    }
+
+    @Test
+    void fallsThroughWhenServerIsUnavailable(@TempDir final Path temp) throws IOException {
+        final String url;
+        try (CacheServer server = new CacheServer(new LocalCache(temp, 1024L)).start()) {
+            url = server.url();
+        }
+        final Cache cache = new RemoteCache(url, RemoteCacheTest.TIMEOUT);
+        cache.store(RemoteCacheTest.KEY, new byte[1]);
+        MatcherAssert.assertThat(
+            "We expect that unavailable server is treated as a cache miss",
+            cache.load(RemoteCacheTest.KEY).isPresent(),
+            Matchers.is(false)
+        );
+    }
+}
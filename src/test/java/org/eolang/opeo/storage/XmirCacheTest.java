@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.xml.XMLDocument;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.UnaryOperator;
+import java.util.stream.Stream;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link XmirCache}.
+ * @since 0.5
+ */
+final class XmirCacheTest {
+
+    /**
+     * Relative path of the entry.
+     */
+    private static final String RELATIVE = "Bar.xmir";
+
+    @Test
+    void takesTransformedEntryFromCache(@TempDir final Path temp) {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final UnaryOperator<XmirEntry> transformation = XmirCacheTest.transformation(counter);
+        new XmirCache(new LocalCache(temp, 1L << 20), "decompile").transformed(
+            XmirCacheTest.entry(), transformation
+        );
+        MatcherAssert.assertThat(
+            "We expect that the entry will be transformed only once and then taken from the cache",
+            new XmirCache(new LocalCache(temp, 1L << 20), "decompile")
+                .transformed(XmirCacheTest.entry(), transformation)
+                .xpath("/program/@transformed"),
+            Matchers.contains("1")
+        );
+    }
+
+    @Test
+    void doesNotShareResultsOfDifferentConfigurations(@TempDir final Path temp) {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final UnaryOperator<XmirEntry> transformation = XmirCacheTest.transformation(counter);
+        new XmirCache(new LocalCache(temp, 1L << 20), "decompile").transformed(
+            XmirCacheTest.entry(), transformation
+        );
+        new XmirCache(new LocalCache(temp, 1L << 20), "compile").transformed(
+            XmirCacheTest.entry(), transformation
+        );
+        MatcherAssert.assertThat(
+            "We expect that the entry will be transformed again with another configuration",
+            counter.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void transformsAgainIfCachedXmirIsBroken(@TempDir final Path temp) throws IOException {
+        final AtomicInteger counter = new AtomicInteger(0);
+        final UnaryOperator<XmirEntry> transformation = XmirCacheTest.transformation(counter);
+        new XmirCache(new LocalCache(temp, 1L << 20), "decompile").transformed(
+            XmirCacheTest.entry(), transformation
+        );
+        try (Stream<Path> files = Files.walk(temp)) {
+            for (final Path file : files.filter(Files::isRegularFile).toArray(Path[]::new)) {
+                Files.write(file, "<html>".getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        MatcherAssert.assertThat(
+            "We expect that a broken cached XMIR is never used as the result",
+            new XmirCache(new LocalCache(temp, 1L << 20), "decompile")
+                .transformed(XmirCacheTest.entry(), transformation)
+                .xpath("/program/@transformed"),
+            Matchers.contains("2")
+        );
+    }
+
+    /**
+     * Entry to transform.
+     * @return Entry.
+     */
+    private static XmirEntry entry() {
+        return new XmirEntry(new ResourceOf("xmir/Bar.xmir"), XmirCacheTest.RELATIVE);
+    }
+
+    /**
+     * Transformation that counts its invocations.
+     * @param counter Counter of invocations.
+     * @return Transformation.
+     */
+    private static UnaryOperator<XmirEntry> transformation(final AtomicInteger counter) {
+        return entry -> entry.transform(
+            xml -> {
+                return new XMLDocument(
+                    String.format("<program transformed='%d'/>", counter.incrementAndGet())
+                );
+            }
+        );
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import com.jcabi.xml.XMLDocument;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+
+/**
+ * Test case for {@link XmirEntry}.
+ * @since 0.5
+ */
+final class XmirEntryTest {
+
+    @Test
+    void modifiesOwnCopyOfXmir() {
+        final XmirEntry entry = new XmirEntry(new ResourceOf("xmir/Bar.xmir"), "Bar");
+        final XmirEntry modified = entry.modify(
+            node -> {
+                final Element root = ((Document) node).getDocumentElement();
+                root.setAttribute("modified", "yes");
+                return new XMLDocument(node);
+            }
+        );
+        MatcherAssert.assertThat(
+            "We expect that the modified entry contains the change",
+            modified.xpath("/program/@modified"),
+            Matchers.contains("yes")
+        );
+        MatcherAssert.assertThat(
+            "We expect that the original entry stays untouched",
+            entry.xpath("/program/@modified"),
+            Matchers.empty()
+        );
+    }
+
+    @Test
+    void estimatesWeightFromRawSizeWithoutDom() {
+        final String xmir = "<program name='Foo'/>";
+        MatcherAssert.assertThat(
+            "We expect that the weight is proportional to the size of the raw XMIR",
+            new XmirEntry(new InputOf(xmir), "Foo").weight(),
+            Matchers.allOf(
+                Matchers.greaterThan((long) xmir.length()),
+                Matchers.equalTo(new XmirEntry(new InputOf(xmir), "Bar").weight())
+            )
+        );
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import org.cactoos.io.ResourceOf;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link XmirIndex}.
+ * @since 0.5
+ */
+final class XmirIndexTest {
+
+    @Test
+    void collectsSimplifiedOpcodeNames() {
+        MatcherAssert.assertThat(
+            "We expect that all opcode names will be collected without counters",
+            new XmirIndex(new ResourceOf("xmir/Bar.xmir")).opcodes(),
+            Matchers.containsInAnyOrder(
+                "aload", "invokespecial", "return", "iload", "ifle", "iconst_1",
+                "iconst_2", "ireturn"
+            )
+        );
+    }
+
+    @Test
+    void findsTryCatchBlocks() {
+        MatcherAssert.assertThat(
+            "We expect that try-catch blocks will be found",
+            new XmirIndex(new ResourceOf("xmir/disassembled/OpenSSLContext$1.xmir")).trycatches(),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void doesNotFindAbsentTryCatchBlocks() {
+        MatcherAssert.assertThat(
+            "We expect that there are no try-catch blocks in the simple class",
+            new XmirIndex(new ResourceOf("xmir/Bar.xmir")).trycatches(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void collectsAliasesAndBases() {
+        final XmirIndex scan = new XmirIndex(new ResourceOf("xmir/Known.xmir"));
+        MatcherAssert.assertThat(
+            "We expect that all declared aliases will be collected",
+            scan.aliases(),
+            Matchers.containsInAnyOrder("org.eolang.jeo.opcode", "org.eolang.jeo.label")
+        );
+        MatcherAssert.assertThat(
+            "We expect that the 'label' base is used in the XMIR",
+            scan.uses("label"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void findsPackage() {
+        MatcherAssert.assertThat(
+            "We expect that the package will be taken from the metas",
+            new XmirIndex(new ResourceOf("xmir/Bar.xmir")).pckg(),
+            Matchers.equalTo("org.eolang.jeo")
+        );
+    }
+
+    @Test
+    void countsMethods() {
+        MatcherAssert.assertThat(
+            "We expect that the constructor and the 'foo' method will be counted",
+            new XmirIndex(new ResourceOf("xmir/Bar.xmir")).methods(),
+            Matchers.equalTo(2)
+        );
+    }
+}
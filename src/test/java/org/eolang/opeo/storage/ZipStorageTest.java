@@ -0,0 +1,182 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2023 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.opeo.storage;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.IntStream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.io.InputOf;
+import org.cactoos.io.ResourceOf;
+import org.eolang.opeo.parallel.Workers;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link ZipStorage}.
+ * @since 0.5
+ */
+final class ZipStorageTest {
+
+    @Test
+    void passesFolderThroughArchive(@TempDir final Path temp) throws Exception {
+        final Path input = temp.resolve("input");
+        final byte[] xmir = new BytesOf(new ResourceOf("xmir/Bar.xmir")).asBytes();
+        Files.createDirectories(input.resolve("org/eolang"));
+        Files.write(input.resolve("org/eolang/Bar.xmir"), xmir);
+        final Path archive = temp.resolve("phase.zip");
+        final Path output = temp.resolve("output");
+        ZipStorageTest.copy(input, archive);
+        ZipStorageTest.copy(archive, output);
+        MatcherAssert.assertThat(
+            "We expect that the XMIR will be the same after passing through the archive",
+            Files.readAllBytes(output.resolve("org/eolang/Bar.xmir")),
+            Matchers.equalTo(xmir)
+        );
+    }
+
+    @Test
+    void savesEntriesConcurrently(@TempDir final Path temp) {
+        final Path archive = temp.resolve("xmirs.jar");
+        final ZipStorage storage = new ZipStorage(temp.resolve("input"), archive);
+        new Workers(4).apply(
+            IntStream.range(0, 100).boxed(),
+            index -> {
+                storage.save(
+                    new XmirEntry(
+                        new InputOf(String.format("<program name='A%d'/>", index)),
+                        String.format("A%d.xmir", index)
+                    )
+                );
+                return 1;
+            }
+        );
+        storage.commit();
+        storage.close();
+        MatcherAssert.assertThat(
+            "We expect that all the entries saved concurrently will be in the archive",
+            new ZipStorage(archive, temp.resolve("output")).all().count(),
+            Matchers.equalTo(100L)
+        );
+    }
+
+    @Test
+    void rewritesArchiveInPlace(@TempDir final Path temp) {
+        final Path archive = temp.resolve("xmirs.zip");
+        final ZipStorage first = new ZipStorage(temp.resolve("input"), archive);
+        first.save(new XmirEntry(new InputOf("<program name='Foo'/>"), "Foo.xmir"));
+        first.commit();
+        first.close();
+        final ZipStorage same = new ZipStorage(archive, archive);
+        same.all().map(entry -> entry.transform(xml -> xml)).forEach(same::save);
+        same.commit();
+        same.close();
+        MatcherAssert.assertThat(
+            "We expect that the archive can be read and written at the same time",
+            new ZipStorage(archive, archive).all().findFirst().get().xpath("/program/@name"),
+            Matchers.contains("Foo")
+        );
+    }
+
+    @Test
+    void keepsDestinationWhenRunFails(@TempDir final Path temp) throws Exception {
+        final Path archive = temp.resolve("xmirs.zip");
+        final ZipStorage good = new ZipStorage(temp.resolve("input"), archive);
+        good.save(new XmirEntry(new InputOf("<program name='Foo'/>"), "Foo.xmir"));
+        good.commit();
+        good.close();
+        final byte[] before = Files.readAllBytes(archive);
+        final ZipStorage failed = new ZipStorage(archive, archive);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> {
+                try {
+                    failed.all().forEach(
+                        entry -> {
+                            failed.save(new XmirEntry(new InputOf("<program/>"), "Bar.xmir"));
+                            throw new IllegalStateException("Decompilation failed");
+                        }
+                    );
+                    failed.commit();
+                } finally {
+                    failed.close();
+                }
+            },
+            "We expect that the run fails"
+        );
+        MatcherAssert.assertThat(
+            "We expect that a failed run leaves the destination archive untouched",
+            Files.readAllBytes(archive),
+            Matchers.equalTo(before)
+        );
+        MatcherAssert.assertThat(
+            "We expect that a failed run leaves no temporary files behind",
+            temp.toFile().list(),
+            Matchers.arrayContaining("xmirs.zip")
+        );
+    }
+
+    @ParameterizedTest
+    @CsvSource({"../../evil.xmir", "/opeo-evil.xmir", "org/../../evil.xmir"})
+    void rejectsEntriesOutsideOfOutput(final String name, @TempDir final Path temp)
+        throws Exception {
+        final Path archive = temp.resolve("evil.zip");
+        try (ZipOutputStream zip = new ZipOutputStream(Files.newOutputStream(archive))) {
+            zip.putNextEntry(new ZipEntry(name));
+            zip.write("<program name='Evil'/>".getBytes(StandardCharsets.UTF_8));
+            zip.closeEntry();
+        }
+        final Path output = temp.resolve("a/b/output");
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> ZipStorageTest.copy(archive, output),
+            "We expect that an entry pointing outside of the output folder is rejected"
+        );
+        MatcherAssert.assertThat(
+            "We expect that nothing is written outside of the output folder",
+            Files.exists(output.resolve(name).normalize()),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Copy all the XMIRs from one storage to another.
+     * @param from Source folder or archive.
+     * @param to Output folder or archive.
+     */
+    private static void copy(final Path from, final Path to) {
+        final ZipStorage storage = new ZipStorage(from, to);
+        storage.all().forEach(storage::save);
+        storage.commit();
+        storage.close();
+    }
+}